@@ -0,0 +1,105 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.HealthProbeMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HealthProbe#isHealthy()} against a status file in a temporary directory, in both
+ * {@link HealthProbeMode}s and each {@link FileState}. {@code POLL} is the full read path: one
+ * {@code lstat}, then, for a fresh file only, an open and read on the file-read thread; a stale or
+ * missing file stops at the {@code lstat}. {@code WATCH} is the cached volatile read whatever the
+ * file holds. The benchmarks build leaves out the application's log configuration, so the warning a
+ * stale or missing file logs is filtered at Log4j's default {@code ERROR} level, not written.
+ *
+ * <p>Bytes allocated per call come from {@code -prof gc} ({@code gc.alloc.rate.norm}). Syscalls per
+ * call come from perf's syscall tracepoint, normalized per operation by {@code perfnorm} (Linux,
+ * needs {@code perf} and access to tracepoints):
+ *
+ * <pre>{@code java -jar benchmarks/target/benchmarks.jar HealthProbeBenchmark -prof gc \
+ *     -prof "perfnorm:events=raw_syscalls:sys_enter"}</pre>
+ *
+ * Without perf, {@code strace -f -c} over a run gives the same breakdown by syscall name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HealthProbeBenchmark {
+    // Long enough that a fresh file never ages out mid-run.
+    private static final Duration MAX_AGE = Duration.ofHours(1);
+
+    public enum FileState {
+        HEALTHY,
+        // Last modified an hour past the probe's maximum age.
+        STALE,
+        MISSING
+    }
+
+    @Param({"POLL", "WATCH"})
+    private HealthProbeMode mode;
+
+    @Param({"HEALTHY", "STALE", "MISSING"})
+    private FileState state;
+
+    private Path directory;
+    private HealthProbe healthProbe;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("health-probe-benchmark");
+        final Path file = directory.resolve("status");
+        if (state != FileState.MISSING) {
+            Files.writeString(file, "healthy\n");
+        }
+        if (state == FileState.STALE) {
+            Files.setLastModifiedTime(file, FileTime.from(Instant
+                                                                  .now()
+                                                                  .minus(MAX_AGE.multipliedBy(2))));
+        }
+        final ElectorProperties electorProperties = new ElectorProperties();
+        electorProperties.setHealthProbeEnabled(true);
+        electorProperties.setHealthProbeFilePath(file.toString());
+        electorProperties.setHealthProbeMaxAge(MAX_AGE);
+        electorProperties.setHealthProbeMode(mode);
+        healthProbe = new HealthProbe(electorProperties, new ElectorMetrics(new SimpleMeterRegistry()));
+        healthProbe.startWatching();
+        if (healthProbe.isHealthy() != (state == FileState.HEALTHY)) {
+            throw new IllegalStateException("Benchmark status file did not read as " + state);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        healthProbe.shutdown();
+        Files.deleteIfExists(directory.resolve("status"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public boolean isHealthy() {
+        return healthProbe.isHealthy();
+    }
+}
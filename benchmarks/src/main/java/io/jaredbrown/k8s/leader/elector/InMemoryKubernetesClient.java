@@ -0,0 +1,152 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Just enough of a {@link KubernetesClient} for {@link LockCallbacks#reconcileLeaderLabels} with
+ * {@code ReconcileSource.LIST}: {@code pods().inNamespace(..).withLabel(..)} lists a fixed set of
+ * pods as metadata, honoring {@code limit} and {@code continue}, and
+ * {@code pods().inNamespace(..).withName(..).patch(..)} counts the patch without applying it, so
+ * every pass sees the same labels. Anything else throws.
+ *
+ * <p>Each page is built once, on first request, and served from then on, so a measured pass pays
+ * for the elector's own work and the proxies' argument arrays rather than for building pods. The
+ * page size is taken from the first request's {@code limit}; the elector always asks for the same.
+ */
+final class InMemoryKubernetesClient {
+    private static final String NAMESPACE = "benchmark";
+
+    private final List<PartialObjectMetadata> pods;
+    private final Map<String, PartialObjectMetadataList> pages = new HashMap<>();
+    private long patches;
+
+    private InMemoryKubernetesClient(final List<PartialObjectMetadata> pods) {
+        this.pods = pods;
+    }
+
+    /**
+     * @param labelKey    the leader label
+     * @param leaderIndex which pod is the leader
+     * @param drifted     whether every pod carries the wrong leader label rather than the right one
+     */
+    static InMemoryKubernetesClient withPods(final int count,
+                                             final String labelKey,
+                                             final String selectorLabelKey,
+                                             final String selectorLabelValue,
+                                             final int leaderIndex,
+                                             final boolean drifted) {
+        final List<PartialObjectMetadata> pods = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final boolean isLeader = i == leaderIndex;
+            final PartialObjectMetadata pod = new PartialObjectMetadata();
+            pod.setMetadata(new ObjectMetaBuilder()
+                                    .withName(podName(i))
+                                    .withNamespace(NAMESPACE)
+                                    .addToLabels(selectorLabelKey, selectorLabelValue)
+                                    .addToLabels(labelKey, Boolean.toString(isLeader != drifted))
+                                    .build());
+            pods.add(pod);
+        }
+        return new InMemoryKubernetesClient(pods);
+    }
+
+    static String podName(final int index) {
+        return "pod-" + index;
+    }
+
+    /**
+     * @return a {@code LockCallbacks} over {@link #client()} that is {@code pod-0}, as the Spring
+     * context would build it
+     */
+    LockCallbacks lockCallbacks(final ElectorProperties electorProperties) {
+        final LockCallbacks lockCallbacks = new LockCallbacks(electorProperties,
+                                                              client(),
+                                                              Clock.systemUTC(),
+                                                              new ElectorMetrics(new SimpleMeterRegistry()));
+        final Field selfPodName = ReflectionUtils.findField(LockCallbacks.class, "selfPodName");
+        ReflectionUtils.makeAccessible(selfPodName);
+        ReflectionUtils.setField(selfPodName, lockCallbacks, podName(0));
+        return lockCallbacks;
+    }
+
+    /** @return patches received so far */
+    long patches() {
+        return patches;
+    }
+
+    KubernetesClient client() {
+        final PodResource pod = proxy(PodResource.class, (proxy, method, args) -> switch (method.getName()) {
+            case "patch" -> {
+                patches++;
+                yield null;
+            }
+            default -> unsupported(proxy, method.getName(), args);
+        });
+        final FilterWatchListDeletable<?, ?, ?> selected =
+                proxy(FilterWatchListDeletable.class, (proxy, method, args) -> switch (method.getName()) {
+                    case "listAsPartialObjectMetadata" -> page((ListOptions) args[0]);
+                    default -> unsupported(proxy, method.getName(), args);
+                });
+        final MixedOperation<?, ?, ?> podOperation =
+                proxy(MixedOperation.class, (proxy, method, args) -> switch (method.getName()) {
+                    case "inNamespace" -> proxy;
+                    case "withLabel" -> selected;
+                    case "withName" -> pod;
+                    default -> unsupported(proxy, method.getName(), args);
+                });
+        return proxy(KubernetesClient.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getNamespace" -> NAMESPACE;
+            case "pods" -> podOperation;
+            default -> unsupported(proxy, method.getName(), args);
+        });
+    }
+
+    private PartialObjectMetadataList page(final ListOptions options) {
+        final String continueToken = options.getContinue() == null ? "" : options.getContinue();
+        PartialObjectMetadataList page = pages.get(continueToken);
+        if (page == null) {
+            final int from = continueToken.isEmpty() ? 0 : Integer.parseInt(continueToken);
+            final int to = (int) Math.min(pods.size(), from + options.getLimit());
+            page = new PartialObjectMetadataList();
+            page.setMetadata(new ListMetaBuilder()
+                                     .withContinue(to < pods.size() ? Integer.toString(to) : null)
+                                     .build());
+            page.setItems(new ArrayList<>(pods.subList(from, to)));
+            pages.put(continueToken, page);
+        }
+        return page;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<?> type, final InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object unsupported(final Object proxy, final String method, final Object[] args) {
+        return switch (method) {
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> InMemoryKubernetesClient.class.getSimpleName();
+            default -> throw new UnsupportedOperationException(method);
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-pod steps of a reconcile pass, one pod at a time:
+ *
+ * <ul>
+ *   <li>{@link LockCallbacks#needsLabelUpdate}, run for every listed pod, on a follower whose
+ *   leader label is {@link Label#CURRENT}, {@link Label#DRIFTED} or {@link Label#ABSENT}. In steady state
+ *   every pod is {@code CURRENT}, so this is the whole per-pod cost of a pass;</li>
+ *   <li>{@link LockCallbacks#leaderLabelPatch}, the merge patch body {@code patchPodLeaderLabel}
+ *   sends for each drifted pod, alone and serialized to the JSON the client writes on the wire.</li>
+ * </ul>
+ *
+ * The whole pass, listing and paging included, is {@link ReconcilePassBenchmark}. Bytes allocated
+ * per call come from {@code -prof gc} ({@code gc.alloc.rate.norm}):
+ *
+ * <pre>{@code java -jar benchmarks/target/benchmarks.jar LockCallbacksBenchmark -prof gc}</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LockCallbacksBenchmark {
+    private static final String LABEL_KEY = "dns.jb.io/leader";
+
+    public enum Label {
+        CURRENT,
+        DRIFTED,
+        ABSENT
+    }
+
+    /** A follower, as nearly every pod in a pass is, so its leader label should read {@code false}. */
+    @State(Scope.Benchmark)
+    public static class FollowerPod {
+        @Param({"CURRENT", "DRIFTED", "ABSENT"})
+        private Label label;
+
+        private HasMetadata pod;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final ObjectMetaBuilder metadata = new ObjectMetaBuilder()
+                    .withName(InMemoryKubernetesClient.podName(1))
+                    .addToLabels("app", "benchmark");
+            if (label != Label.ABSENT) {
+                metadata.addToLabels(LABEL_KEY, Boolean.toString(label == Label.DRIFTED));
+            }
+            final PartialObjectMetadata partial = new PartialObjectMetadata();
+            partial.setMetadata(metadata.build());
+            pod = partial;
+        }
+    }
+
+    private LockCallbacks lockCallbacks;
+    private KubernetesSerialization serialization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ElectorProperties electorProperties = new ElectorProperties();
+        electorProperties.setLabelKey(LABEL_KEY);
+        // No pods to list: only the per-pod methods are called.
+        lockCallbacks = InMemoryKubernetesClient
+                .withPods(0, LABEL_KEY, "app", "benchmark", 0, false)
+                .lockCallbacks(electorProperties);
+        serialization = new KubernetesSerialization();
+    }
+
+    @Benchmark
+    public boolean needsLabelUpdate(final FollowerPod follower) {
+        return lockCallbacks.needsLabelUpdate(follower.pod, false);
+    }
+
+    @Benchmark
+    public Pod leaderLabelPatch() {
+        return lockCallbacks.leaderLabelPatch(false);
+    }
+
+    @Benchmark
+    public String leaderLabelPatchJson() {
+        return serialization.asJson(lockCallbacks.leaderLabelPatch(false));
+    }
+}
@@ -0,0 +1,74 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full {@link LockCallbacks#reconcileLeaderLabels} pass with {@code ReconcileSource.LIST}, as
+ * the leader runs it every {@code renewDeadline}, over {@code pods} selected pods served by an
+ * {@link InMemoryKubernetesClient}: paging, the per-pod label check, and with {@code drifted} a
+ * patch body, metrics and JFR event for every pod. Without {@code drifted}, the steady state, no
+ * pod needs a patch.
+ *
+ * <p>No network is involved, so this is the elector's own CPU and allocation per pass; the API
+ * server's share is {@code ReconcileBenchmarkIT}'s. Bytes allocated per pass come from
+ * {@code -prof gc} ({@code gc.alloc.rate.norm}):
+ *
+ * <pre>{@code java -jar benchmarks/target/benchmarks.jar ReconcilePassBenchmark -prof gc}</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReconcilePassBenchmark {
+    private static final String LABEL_KEY = "dns.jb.io/leader";
+    private static final String SELECTOR_KEY = "app";
+    private static final String SELECTOR_VALUE = "benchmark";
+
+    @Param({"10", "1000", "10000"})
+    private int pods;
+
+    @Param({"false", "true"})
+    private boolean drifted;
+
+    private InMemoryKubernetesClient kubernetes;
+    private LockCallbacks lockCallbacks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ElectorProperties electorProperties = new ElectorProperties();
+        electorProperties.setLabelKey(LABEL_KEY);
+        electorProperties.setLockName("benchmark");
+        electorProperties.setSelectorLabelKey(SELECTOR_KEY);
+        electorProperties.setSelectorLabelValue(SELECTOR_VALUE);
+        electorProperties.setReconcileSource(ElectorProperties.ReconcileSource.LIST);
+        kubernetes = InMemoryKubernetesClient.withPods(pods, LABEL_KEY, SELECTOR_KEY, SELECTOR_VALUE, 0, drifted);
+        lockCallbacks = kubernetes.lockCallbacks(electorProperties);
+
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+        final long expected = drifted ? pods : 0;
+        if (kubernetes.patches() != expected) {
+            throw new IllegalStateException("Expected " + expected + " patches in a pass, got " + kubernetes.patches());
+        }
+    }
+
+    @Benchmark
+    public long reconcileLeaderLabels() {
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+        return kubernetes.patches();
+    }
+}
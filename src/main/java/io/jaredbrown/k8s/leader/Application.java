@@ -1,14 +1,17 @@
 package io.jaredbrown.k8s.leader;
 
+import io.jaredbrown.k8s.leader.configuration.NativeImageHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Boots the leader-election sidecar's Spring context.
  */
 @SpringBootApplication
 @ConfigurationPropertiesScan
+@ImportRuntimeHints(NativeImageHints.class)
 public class Application {
 
     public static void main(final String[] args) {
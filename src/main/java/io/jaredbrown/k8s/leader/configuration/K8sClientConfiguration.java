@@ -4,38 +4,124 @@ import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.jaredbrown.k8s.leader.elector.ElectorEvents;
+import io.jaredbrown.k8s.leader.elector.ElectorMetrics;
+import jakarta.annotation.Nonnull;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+
 /**
  * Builds the {@link KubernetesClient} bean with tightened per-request bounds.
  *
  * <p>fabric8 defaults to a 10s per-request timeout and up to 10 retries
  * ({@code Config.DEFAULT_REQUEST_TIMEOUT} / {@code DEFAULT_REQUEST_RETRY_BACKOFFLIMIT}).
- * {@code ElectorService} drives every Kubernetes call inline on its single scheduler thread, so an
- * unbounded call would (a) block the shutdown-time lock release past its 5s window
- * ({@code RELEASE_TIMEOUT}) and (b) in the extreme, stall lock renewal past the lease while a label
- * reconcile is in flight. Bounding both keeps a whole leader-label reconcile of a handful of pods
- * comfortably inside the release window and the lease, so the scheduler thread stays responsive.
+ * {@code ElectorService} runs every Kubernetes call - label passes, the acquisition-time failover
+ * patches, a follower's own-label check - on its single reconcile thread, and the shutdown-time
+ * label clear queues behind whatever is in flight there, so an unbounded call would (a) push that
+ * clear past the 5s shutdown window ({@code RELEASE_TIMEOUT}) and (b) leave the reconcile thread
+ * stuck on one request while a new leader's label and drifted labels wait behind it. Bounding both
+ * keeps a whole leader-label reconcile of a handful of pods comfortably inside the release window
+ * and the lease.
  */
 @Configuration
 public class K8sClientConfiguration {
     private static final int REQUEST_TIMEOUT_MILLIS = 2000;
     private static final int REQUEST_RETRY_BACKOFF_LIMIT = 1;
+    private static final String LIST_BYTES_INTERCEPTOR = "elector-list-bytes";
 
     /**
      * @return a {@link KubernetesClient} built from the environment-derived config (in-cluster
      * service-account token, API server, CA, namespace) with only the request-timeout and retry
-     * bounds overridden, so authentication is untouched
+     * bounds overridden, so authentication is untouched, and pod-list response bytes counted into
+     * {@code metrics}
      */
     @Bean(destroyMethod = "close")
-    public KubernetesClient kubernetesClient() {
+    public KubernetesClient kubernetesClient(@Nonnull final ElectorMetrics metrics) {
         final Config config = new ConfigBuilder(Config.autoConfigure(null))
                 .withRequestTimeout(REQUEST_TIMEOUT_MILLIS)
                 .withRequestRetryBackoffLimit(REQUEST_RETRY_BACKOFF_LIMIT)
                 .build();
         return new KubernetesClientBuilder()
                 .withConfig(config)
+                .withHttpClientBuilderConsumer(builder -> builder.addOrReplaceInterceptor(LIST_BYTES_INTERCEPTOR,
+                                                                                         listBytesInterceptor(metrics)))
                 .build();
     }
+
+    /**
+     * @return an interceptor that counts the body bytes of every pod list response (a {@code GET}
+     * on a {@code .../pods} collection that is not a watch) as they arrive, before fabric8 parses
+     * them, and records each response as an {@link ElectorEvents.KubernetesList}; every other
+     * request passes through untouched
+     */
+    static Interceptor listBytesInterceptor(final ElectorMetrics metrics) {
+        return new Interceptor() {
+            @Override
+            public AsyncBody.Consumer<List<ByteBuffer>> consumer(final AsyncBody.Consumer<List<ByteBuffer>> consumer,
+                                                                 final HttpRequest request) {
+                if (!isPodList(request)) {
+                    return consumer;
+                }
+                return new ListBytesConsumer(consumer, metrics, request
+                        .uri()
+                        .getPath());
+            }
+        };
+    }
+
+    private static boolean isPodList(final HttpRequest request) {
+        final String query = request
+                .uri()
+                .getRawQuery();
+        return "GET".equals(request.method()) && request
+                .uri()
+                .getPath()
+                .endsWith("/pods") && (query == null || !query.contains("watch=true"));
+    }
+
+    /**
+     * Counts a pod list body chunk by chunk and passes each on. fabric8 feeds one response's chunks
+     * in order, never concurrently, so the running total has a single writer; it is volatile only
+     * for the completion callback, which may run on another thread.
+     */
+    private static final class ListBytesConsumer implements AsyncBody.Consumer<List<ByteBuffer>> {
+        private final AsyncBody.Consumer<List<ByteBuffer>> delegate;
+        private final ElectorMetrics metrics;
+        private final String path;
+        private final ElectorEvents.KubernetesList event = new ElectorEvents.KubernetesList();
+        private volatile long bytes;
+        private boolean started;
+
+        private ListBytesConsumer(final AsyncBody.Consumer<List<ByteBuffer>> delegate,
+                                  final ElectorMetrics metrics,
+                                  final String path) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+            this.path = path;
+        }
+
+        @Override
+        public void consume(final List<ByteBuffer> buffers, final AsyncBody body) throws Exception {
+            if (!started) {
+                started = true;
+                event.begin();
+                body
+                        .done()
+                        .whenComplete((ignored, failure) -> event.finish(path, bytes, failure == null));
+            }
+            long chunkBytes = 0;
+            for (final ByteBuffer buffer : buffers) {
+                chunkBytes += buffer.remaining();
+            }
+            bytes += chunkBytes;
+            metrics.listBytes(chunkBytes);
+            delegate.consume(buffers, body);
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package io.jaredbrown.k8s.leader.configuration;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.jaredbrown.k8s.leader.elector.LeadershipStatus;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Reachability metadata for a GraalVM native image ({@code mvn -Pnative package}) that neither
+ * Spring's AOT processing nor the libraries' own {@code META-INF/native-image} files supply. Only
+ * read at build time, through {@code @ImportRuntimeHints} on {@code Application}; the JVM build
+ * ignores it.
+ *
+ * <ul>
+ *   <li>fabric8: {@code KubernetesClientBuilder} constructs {@code KubernetesClientImpl} by name,
+ *   and Jackson (de)serializes the model types this elector sends and receives by reflection, down
+ *   through every nested type of a {@link Pod}. The HTTP client factory and model registrations are
+ *   found through {@code ServiceLoader}, which the native image build resolves from
+ *   {@code META-INF/services} itself.</li>
+ *   <li>Lettuce ships its own reflection and proxy metadata; nothing is added for it.</li>
+ *   <li>{@code RedisLockRegistry}'s Lua scripts are string constants in the class, run through
+ *   Spring Data Redis's script executor with a {@code Boolean} result; nothing is loaded from a
+ *   resource or reflectively, so they need no entry either.</li>
+ *   <li>The leadership status endpoint writes {@link LeadershipStatus.Snapshot} as JSON from a
+ *   {@code Mono}/{@code Flux}, which the controller's reflection processing does not see through.</li>
+ * </ul>
+ */
+public class NativeImageHints implements RuntimeHintsRegistrar {
+    static final String KUBERNETES_CLIENT_IMPL = "io.fabric8.kubernetes.client.impl.KubernetesClientImpl";
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        hints
+                .reflection()
+                .registerType(TypeReference.of(KUBERNETES_CLIENT_IMPL),
+                              MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                                                                      Pod.class,
+                                                                      PodList.class,
+                                                                      PartialObjectMetadata.class,
+                                                                      PartialObjectMetadataList.class,
+                                                                      WatchEvent.class,
+                                                                      Status.class,
+                                                                      ListOptions.class,
+                                                                      LeadershipStatus.Snapshot.class);
+    }
+}
@@ -14,15 +14,20 @@ import org.springframework.integration.redis.util.RedisLockRegistry;
 public class RedisLockRegistryConfiguration {
     /**
      * @param electorProperties supplies the lock name (registry key is {@code
-     *                          <lockName>-lock-registry}) and the lease duration
+     *                          <lockName>-lock-registry}), the lease duration and the lock type
      * @return a {@link RedisLockRegistry} scoped to this application's lock
      */
     @Bean
     @Nonnull
     public RedisLockRegistry redisLockRegistry(@Nonnull final RedisConnectionFactory redisConnectionFactory,
                                                @Nonnull final ElectorProperties electorProperties) {
-        return new RedisLockRegistry(redisConnectionFactory,
-                                     electorProperties.getLockName() + "-lock-registry",
-                                     electorProperties.getLeaseDuration());
+        final RedisLockRegistry registry = new RedisLockRegistry(redisConnectionFactory,
+                                                                 electorProperties.getLockName() + "-lock-registry",
+                                                                 electorProperties.getLeaseDuration());
+        registry.setRedisLockType(switch (electorProperties.getLockType()) {
+            case SPIN -> RedisLockRegistry.RedisLockType.SPIN_LOCK;
+            case PUB_SUB -> RedisLockRegistry.RedisLockType.PUB_SUB_LOCK;
+        });
+        return registry;
     }
 }
@@ -3,13 +3,15 @@ package io.jaredbrown.k8s.leader.configuration;
 import jakarta.annotation.Nonnull;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.time.Clock;
 
 /**
- * Beans supporting {@code ElectorService}'s scheduling: a single-threaded task scheduler and an
- * injectable clock.
+ * Beans supporting {@code ElectorService}'s scheduling: a single-threaded task scheduler for lock
+ * operations, a single-threaded executor for leader-label reconcile passes, and an injectable
+ * clock.
  */
 @Configuration
 public class TaskSchedulerConfiguration {
@@ -33,6 +35,27 @@ public class TaskSchedulerConfiguration {
         return scheduler;
     }
 
+    /**
+     * @return a daemon {@link ThreadPoolTaskExecutor} pinned to a single thread for leader-label
+     * reconcile passes, kept off {@link #taskScheduler()} so a stalled Kubernetes API never delays a
+     * lock renewal. One thread, because passes must not overlap: two concurrent passes could patch
+     * the same pod in either order. The queue stays short since {@code ElectorService} coalesces
+     * requests into at most one queued pass. Accepts tasks after context close for the same reason
+     * as the scheduler: {@code ElectorService#stop()} clears the leader label through it.
+     */
+    @Nonnull
+    @Bean
+    public ThreadPoolTaskExecutor reconcileExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("reconcile-");
+        executor.setDaemon(true);
+        executor.setAcceptTasksAfterContextClose(true);
+        executor.initialize();
+        return executor;
+    }
+
     /**
      * @return the system UTC clock, injected (rather than called directly) so tests can supply a
      * controllable clock for time-based logic such as the deadlock-grace window
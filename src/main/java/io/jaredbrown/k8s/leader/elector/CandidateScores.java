@@ -0,0 +1,146 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import jakarta.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * The health scores of the pods currently contending for the lock, in a Redis hash next to the
+ * lock itself ({@code <lockName>-candidates}, pod name to {@code <score>@<epochMillis>}). Only
+ * used with {@code elector.healthProbeScoreEnabled}; see "Health Scores" in
+ * {@code docs/codebase/ARCHITECTURE.md}.
+ *
+ * <p>Each healthy follower publishes its score on every acquisition attempt and defers to a better
+ * one; the leader reads the board to decide whether to yield. An entry not refreshed within
+ * {@link #FRESHNESS_PERIODS} {@code retryPeriod}s belongs to a pod that stopped contending (it
+ * leads, went unhealthy, or died) and is ignored and removed. Advisory only, like
+ * {@link LeaderRecord}: an unreachable board reads as empty, which falls back to the plain race.
+ *
+ * <p>Each entry is stamped with its publisher's wall clock and judged by the reader's, so this
+ * assumes the nodes' clocks agree to well within that window, as NTP keeps them. Skew beyond it
+ * makes a live peer look stale (and it stops being deferred to) or a dead one fresh (and it is
+ * deferred to until the skew is made up). Either way the lock still elects exactly one leader.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandidateScores {
+    // A follower republishes at least every two retryPeriods (a full SPIN wait, then the idle
+    // retry); three leave room for one late attempt and modest clock skew between pods.
+    private static final int FRESHNESS_PERIODS = 3;
+    // Deletes each ARGV field only if it still holds the value that follows it, so a peer that
+    // republished between bestPeer's read and its cleanup keeps its fresh entry.
+    private static final RedisScript<Long> DELETE_UNCHANGED = RedisScript.of("""
+            local removed = 0
+            for i = 1, #ARGV, 2 do
+                if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+                    removed = removed + redis.call('HDEL', KEYS[1], ARGV[i])
+                end
+            end
+            return removed
+            """, Long.class);
+
+    @Nonnull
+    private final StringRedisTemplate redisTemplate;
+    @Nonnull
+    private final ElectorProperties electorProperties;
+    @Nonnull
+    private final Clock clock;
+
+    // Same source and startup validation as LockCallbacks' copy; see validateSelfPodName there.
+    @Value("${POD_NAME}")
+    private String selfPodName;
+
+    /** Records this pod's current score as a candidate. Never throws. */
+    public void publish(final double score) {
+        try {
+            redisTemplate
+                    .opsForHash()
+                    .put(key(), selfPodName, score + "@" + clock.millis());
+        } catch (final DataAccessException e) {
+            log.warn("Could not publish health score to Redis; peers will not defer to this pod", e);
+        }
+    }
+
+    /** Removes this pod from the candidates, e.g. on leading, going unhealthy, or shutdown. Never throws. */
+    public void withdraw() {
+        try {
+            redisTemplate
+                    .opsForHash()
+                    .delete(key(), selfPodName);
+        } catch (final DataAccessException e) {
+            log.warn("Could not withdraw health score from Redis; it ages out instead", e);
+        }
+    }
+
+    /**
+     * Reads every other candidate's score, dropping entries that are stale or unreadable, unless
+     * their pod has republished since they were read. Never throws.
+     *
+     * @return the best fresh peer score; empty if there is none or Redis could not be reached
+     */
+    public OptionalDouble bestPeer() {
+        final Map<Object, Object> entries;
+        try {
+            entries = redisTemplate
+                    .opsForHash()
+                    .entries(key());
+        } catch (final DataAccessException e) {
+            log.warn("Could not read peer health scores from Redis; not deferring to any peer", e);
+            return OptionalDouble.empty();
+        }
+        final Instant freshAfter = clock
+                .instant()
+                .minus(electorProperties
+                               .getRetryPeriod()
+                               .multipliedBy(FRESHNESS_PERIODS));
+        // Field/value pairs, as DELETE_UNCHANGED takes them.
+        final List<Object> stale = new ArrayList<>();
+        double best = Double.NEGATIVE_INFINITY;
+        for (final Map.Entry<Object, Object> entry : entries.entrySet()) {
+            if (selfPodName.equals(entry.getKey())) {
+                continue;
+            }
+            final String value = String.valueOf(entry.getValue());
+            final int separator = value.indexOf('@');
+            try {
+                final double score = Double.parseDouble(value.substring(0, separator));
+                final Instant publishedAt = Instant.ofEpochMilli(Long.parseLong(value.substring(separator + 1)));
+                if (publishedAt.isBefore(freshAfter)) {
+                    stale.add(entry.getKey());
+                    stale.add(value);
+                } else {
+                    best = Math.max(best, score);
+                }
+            } catch (final NumberFormatException | IndexOutOfBoundsException e) {
+                stale.add(entry.getKey());
+                stale.add(value);
+            }
+        }
+        if (!stale.isEmpty()) {
+            try {
+                redisTemplate.execute(DELETE_UNCHANGED, Collections.singletonList(key()), stale.toArray());
+            } catch (final DataAccessException e) {
+                log.debug("Could not remove stale health scores from Redis", e);
+            }
+        }
+        return best == Double.NEGATIVE_INFINITY ? OptionalDouble.empty() : OptionalDouble.of(best);
+    }
+
+    private String key() {
+        return electorProperties.getLockName() + "-candidates";
+    }
+}
@@ -0,0 +1,222 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The elector's JDK Flight Recorder events, so a slow renewal or reconcile can be lined up against
+ * GC pauses, safepoints and socket reads in the same recording. See "Flight Recorder Events" in
+ * {@code docs/codebase/ARCHITECTURE.md}.
+ *
+ * <p>Each event is created and {@code begin()}-ed at the start of the operation and handed its
+ * fields in {@code finish}, which sets them and commits only if the event is enabled and over its
+ * threshold. None records a stack trace. A disabled event costs one flag check, and the JIT
+ * scalar-replaces the event object, so the renewal path stays allocation-free either way.
+ */
+public final class ElectorEvents {
+    private static final String CATEGORY = "Leader Elector";
+
+    private ElectorEvents() {
+    }
+
+    /** One {@code lockLoop} acquisition attempt, spanning the {@code tryLock} wait. */
+    @Name("io.jaredbrown.elector.LockAttempt")
+    @Label("Lock Attempt")
+    @Category({CATEGORY, "Lock"})
+    @Description("One lock acquisition attempt, including the tryLock wait")
+    @StackTrace(false)
+    static final class LockAttempt extends Event {
+        @Label("Lock Name")
+        String lockName;
+        @Label("Lock Type")
+        String lockType;
+        @Label("Healthy")
+        boolean healthy;
+        @Label("Acquired")
+        boolean acquired;
+
+        void finish(final String lockName, final String lockType, final boolean healthy, final boolean acquired) {
+            if (shouldCommit()) {
+                this.lockName = lockName;
+                this.lockType = lockType;
+                this.healthy = healthy;
+                this.acquired = acquired;
+                commit();
+            }
+        }
+    }
+
+    /** One {@code renewLock} round trip to Redis. */
+    @Name("io.jaredbrown.elector.LockRenewal")
+    @Label("Lock Renewal")
+    @Category({CATEGORY, "Lock"})
+    @Description("One lock renewal round trip to Redis")
+    @StackTrace(false)
+    static final class LockRenewal extends Event {
+        @Label("Lock Name")
+        String lockName;
+        @Label("Succeeded")
+        boolean succeeded;
+
+        void finish(final String lockName, final boolean succeeded) {
+            if (shouldCommit()) {
+                this.lockName = lockName;
+                this.succeeded = succeeded;
+                commit();
+            }
+        }
+    }
+
+    /** One {@code stillOwnsLock} check; {@code result} is {@code trusted}, {@code confirmed} or {@code lost}. */
+    @Name("io.jaredbrown.elector.OwnershipCheck")
+    @Label("Lock Ownership Check")
+    @Category({CATEGORY, "Lock"})
+    @Description("One check that this pod still owns the lock; trusted checks never leave the process")
+    @StackTrace(false)
+    static final class OwnershipCheck extends Event {
+        @Label("Lock Name")
+        String lockName;
+        @Label("Result")
+        String result;
+
+        void finish(final String lockName, final String result) {
+            if (shouldCommit()) {
+                this.lockName = lockName;
+                this.result = result;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * One page of a leader-label reconcile: the list request (absent for the informer's cache
+     * snapshot) and the patches of the pods it returned.
+     */
+    @Name("io.jaredbrown.elector.ReconcilePage")
+    @Label("Reconcile Page")
+    @Category({CATEGORY, "Reconcile"})
+    @Description("One listed page (or informer snapshot) of a leader-label reconcile, including its patches")
+    @StackTrace(false)
+    static final class ReconcilePage extends Event {
+        @Label("Lock Name")
+        String lockName;
+        @Label("Source")
+        String source;
+        @Label("Pods")
+        int pods;
+        @Label("Patched")
+        int patched;
+        @Label("Failed")
+        int failed;
+        @Label("More Pages")
+        boolean morePages;
+
+        void finish(final String lockName,
+                    final String source,
+                    final int pods,
+                    final int patched,
+                    final int failed,
+                    final boolean morePages) {
+            if (shouldCommit()) {
+                this.lockName = lockName;
+                this.source = source;
+                this.pods = pods;
+                this.patched = patched;
+                this.failed = failed;
+                this.morePages = morePages;
+                commit();
+            }
+        }
+    }
+
+    /** One leader-label patch; {@code statusCode} is the API server's HTTP status, or 0 without one. */
+    @Name("io.jaredbrown.elector.PodPatch")
+    @Label("Pod Label Patch")
+    @Category({CATEGORY, "Reconcile"})
+    @Description("One leader-label patch of one pod")
+    @StackTrace(false)
+    static final class PodPatch extends Event {
+        @Label("Lock Name")
+        String lockName;
+        @Label("Pod")
+        String pod;
+        @Label("Leader")
+        boolean leader;
+        @Label("Succeeded")
+        boolean succeeded;
+        @Label("Status Code")
+        int statusCode;
+
+        void finish(final String lockName,
+                    final String pod,
+                    final boolean leader,
+                    final boolean succeeded,
+                    final int statusCode) {
+            if (shouldCommit()) {
+                this.lockName = lockName;
+                this.pod = pod;
+                this.leader = leader;
+                this.succeeded = succeeded;
+                this.statusCode = statusCode;
+                commit();
+            }
+        }
+    }
+
+    /** One full read of the health status file. */
+    @Name("io.jaredbrown.elector.HealthProbeRead")
+    @Label("Health Probe Read")
+    @Category({CATEGORY, "Health Probe"})
+    @Description("One full read of the health status file")
+    @StackTrace(false)
+    static final class HealthProbeRead extends Event {
+        @Label("Path")
+        String path;
+        @Label("Healthy")
+        boolean healthy;
+        @Label("Score")
+        double score;
+
+        void finish(final String path, final boolean healthy, final double score) {
+            if (shouldCommit()) {
+                this.path = path;
+                this.healthy = healthy;
+                this.score = score;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * One pod list response from the Kubernetes API, from its first body bytes to its last; see
+     * {@code K8sClientConfiguration}. Runs on the HTTP client's thread, not the reconcile thread.
+     */
+    @Name("io.jaredbrown.elector.KubernetesList")
+    @Label("Kubernetes Pod List")
+    @Category({CATEGORY, "Reconcile"})
+    @Description("Body of one pod list response from the Kubernetes API")
+    @StackTrace(false)
+    public static final class KubernetesList extends Event {
+        @Label("Path")
+        String path;
+        @Label("Bytes")
+        @DataAmount
+        long bytes;
+        @Label("Complete")
+        boolean complete;
+
+        public void finish(final String path, final long bytes, final boolean complete) {
+            if (shouldCommit()) {
+                this.path = path;
+                this.bytes = bytes;
+                this.complete = complete;
+                commit();
+            }
+        }
+    }
+}
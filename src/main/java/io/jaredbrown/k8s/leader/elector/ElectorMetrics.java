@@ -0,0 +1,218 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nonnull;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The elector's Micrometer meters, scraped from the actuator's {@code /actuator/prometheus}. See
+ * "Metrics" in {@code docs/codebase/ARCHITECTURE.md} for the full list.
+ *
+ * <p>Every meter is registered once, here, and each tagged variant held in its own field, so
+ * recording is a call on a ready meter: no registry lookup, tag array, or {@code Timer.Sample} per
+ * event. Callers time with {@link System#nanoTime()} and pass the elapsed nanoseconds, which keeps
+ * the renewal path free of allocation. The leadership gauges read the fields below when scraped.
+ */
+@Component
+public class ElectorMetrics {
+    private final Timer lockAcquired;
+    private final Timer lockNotAcquired;
+    private final Timer renewSucceeded;
+    private final Timer renewFailed;
+    private final Timer ownershipTrusted;
+    private final Timer ownershipConfirmed;
+    private final Timer ownershipLost;
+    private final Timer reconcilePass;
+    private final Timer patchSucceeded;
+    private final Timer patchFailed;
+    private final DistributionSummary podsPatched;
+    private final Counter listBytes;
+    private final Timer probeHealthy;
+    private final Timer probeUnhealthy;
+    private final Counter becameLeader;
+    private final Counter lostLeadership;
+    private final Timer tenure;
+    private final Timer leaderless;
+
+    // System.nanoTime() this pod started leading, or 0 while following.
+    private volatile long leadingSinceNanos;
+    // System.nanoTime() this pod last saw another pod holding the lock, or 0 if it never has.
+    private volatile long leaderSeenNanos;
+
+    public ElectorMetrics(@Nonnull final MeterRegistry registry) {
+        lockAcquired = lockTimer(registry, "acquired");
+        lockNotAcquired = lockTimer(registry, "not_acquired");
+        renewSucceeded = renewTimer(registry, "success");
+        renewFailed = renewTimer(registry, "failure");
+        ownershipTrusted = ownershipTimer(registry, "trusted");
+        ownershipConfirmed = ownershipTimer(registry, "confirmed");
+        ownershipLost = ownershipTimer(registry, "lost");
+        reconcilePass = Timer
+                .builder("elector.reconcile.pass")
+                .description("Duration of one leader-label reconcile pass")
+                .publishPercentileHistogram()
+                .register(registry);
+        patchSucceeded = patchTimer(registry, "success");
+        patchFailed = patchTimer(registry, "failure");
+        podsPatched = DistributionSummary
+                .builder("elector.reconcile.pods.patched")
+                .description("Pods whose leader label one reconcile pass patched successfully")
+                .baseUnit("pods")
+                .register(registry);
+        listBytes = Counter
+                .builder("elector.kubernetes.list.bytes")
+                .description("Response bytes of pod list requests to the Kubernetes API")
+                .baseUnit("bytes")
+                .register(registry);
+        probeHealthy = probeTimer(registry, "healthy");
+        probeUnhealthy = probeTimer(registry, "unhealthy");
+        becameLeader = transitionCounter(registry, "acquired");
+        lostLeadership = transitionCounter(registry, "lost");
+        tenure = Timer
+                .builder("elector.leadership.tenure")
+                .description("How long each completed stint as leader lasted")
+                .register(registry);
+        leaderless = Timer
+                .builder("elector.leaderless")
+                .description("Time from this pod last seeing a leader to it acquiring a free lock")
+                .register(registry);
+        Gauge
+                .builder("elector.leader", this, metrics -> metrics.leadingSinceNanos == 0 ? 0 : 1)
+                .description("1 while this pod leads, 0 otherwise")
+                .register(registry);
+        TimeGauge
+                .builder("elector.leader.current.tenure", this, TimeUnit.NANOSECONDS, ElectorMetrics::currentTenureNanos)
+                .description("How long this pod has been leading; 0 while following")
+                .register(registry);
+    }
+
+    /** Records one {@code tryLock} wait. */
+    void lockAttempt(final boolean acquired, final long nanos) {
+        (acquired ? lockAcquired : lockNotAcquired).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Records one {@code renewLock} round trip. */
+    void renewal(final boolean succeeded, final long nanos) {
+        (succeeded ? renewSucceeded : renewFailed).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Records an ownership check answered locally from the last renewal. */
+    void ownershipTrusted(final long nanos) {
+        ownershipTrusted.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Records an ownership check that had to ask Redis. */
+    void ownershipChecked(final boolean owned, final long nanos) {
+        (owned ? ownershipConfirmed : ownershipLost).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Records one reconcile pass and how many pods it patched. */
+    void reconcilePass(final int patched, final long nanos) {
+        reconcilePass.record(nanos, TimeUnit.NANOSECONDS);
+        podsPatched.record(patched);
+    }
+
+    /** Records one leader-label patch. */
+    void patch(final boolean succeeded, final long nanos) {
+        (succeeded ? patchSucceeded : patchFailed).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Counts response bytes of a pod list request; see {@code K8sClientConfiguration}. */
+    public void listBytes(final long bytes) {
+        listBytes.increment(bytes);
+    }
+
+    /** Records one full read of the health status file. */
+    void probeRead(final boolean healthy, final long nanos) {
+        (healthy ? probeHealthy : probeUnhealthy).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Notes that another pod holds the lock, for {@code elector.leaderless}. */
+    void leaderSeen() {
+        leaderSeenNanos = System.nanoTime();
+    }
+
+    /** Counts a transition to leader and starts the tenure clock. */
+    void becameLeader() {
+        final long now = System.nanoTime();
+        final long seen = leaderSeenNanos;
+        if (seen != 0) {
+            leaderless.record(now - seen, TimeUnit.NANOSECONDS);
+        }
+        leadingSinceNanos = now;
+        becameLeader.increment();
+    }
+
+    /** Counts a transition away from leader and records the stint. A no-op while following. */
+    void lostLeadership() {
+        final long since = leadingSinceNanos;
+        if (since == 0) {
+            return;
+        }
+        leadingSinceNanos = 0;
+        tenure.record(System.nanoTime() - since, TimeUnit.NANOSECONDS);
+        lostLeadership.increment();
+    }
+
+    private double currentTenureNanos() {
+        final long since = leadingSinceNanos;
+        return since == 0 ? 0 : System.nanoTime() - since;
+    }
+
+    private static Timer lockTimer(final MeterRegistry registry, final String outcome) {
+        return Timer
+                .builder("elector.lock.acquire")
+                .description("Duration of one lock acquisition attempt, including the tryLock wait")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static Timer renewTimer(final MeterRegistry registry, final String outcome) {
+        return Timer
+                .builder("elector.lock.renew")
+                .description("Duration of one lock renewal round trip to Redis")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Timer ownershipTimer(final MeterRegistry registry, final String result) {
+        return Timer
+                .builder("elector.lock.ownership.check")
+                .description("Duration of one stillOwnsLock check; trusted checks never leave the process")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Timer patchTimer(final MeterRegistry registry, final String outcome) {
+        return Timer
+                .builder("elector.reconcile.patch")
+                .description("Duration of one leader-label patch")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Timer probeTimer(final MeterRegistry registry, final String result) {
+        return Timer
+                .builder("elector.health.probe.read")
+                .description("Duration of one full read of the health status file")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter transitionCounter(final MeterRegistry registry, final String transition) {
+        return Counter
+                .builder("elector.leadership.transitions")
+                .description("Leadership transitions of this pod")
+                .tag("transition", transition)
+                .register(registry);
+    }
+}
@@ -1,5 +1,7 @@
 package io.jaredbrown.k8s.leader.elector;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -48,6 +50,101 @@ public class ElectorProperties {
     @DurationMin(seconds = 1, message = "elector.retryPeriod must be at least 1s")
     private Duration retryPeriod = Duration.ofSeconds(5);
 
+    /**
+     * How much of the lease {@code ElectorService#stillOwnsLock} leaves unused before it stops
+     * trusting the last successful renewal and asks Redis again. Ownership confirmed by a renewal
+     * sent at {@code t} is trusted locally until {@code t + leaseDuration - ownershipSafetyMargin},
+     * and never past {@code t + renewDeadline}; the margin must cover a label patch in flight plus
+     * clock drift between this pod and Redis. A margin of {@link #leaseDuration} or more disables
+     * the cache: every check goes to Redis.
+     */
+    @NotNull
+    @DurationMin(seconds = 1, message = "elector.ownershipSafetyMargin must be at least 1s")
+    private Duration ownershipSafetyMargin = Duration.ofSeconds(15);
+
+    /**
+     * How a follower waits for the lock. {@link LockType#SPIN} (the default) polls Redis every
+     * 100ms for {@link #retryPeriod}, then idles for another {@code retryPeriod};
+     * {@link LockType#PUB_SUB} waits on the lock's unlock notification instead and retries
+     * straight away, so a released lock is taken over within milliseconds. Every pod sharing a
+     * lock should use the same type: only a {@code PUB_SUB} release publishes the notification.
+     */
+    @NotNull
+    private LockType lockType = LockType.SPIN;
+
+    /**
+     * Who patches which pod's leader label. {@link LabelingMode#CLUSTER} (the default) has the
+     * leader reconcile every selected pod; {@link LabelingMode#SELF} has every pod reconcile only
+     * its own label, so per-pod API work stays constant however large the selector grows.
+     */
+    @NotNull
+    private LabelingMode labelingMode = LabelingMode.CLUSTER;
+
+    /**
+     * Where each leader-label reconcile reads current pod labels from. {@link ReconcileSource#LIST}
+     * (the default) lists the selected pods from the API server on every pass;
+     * {@link ReconcileSource#INFORMER} keeps one watch open while leading and diffs against its
+     * local cache instead; {@link ReconcileSource#SELECTOR} lists only the pods whose label is
+     * wrong.
+     */
+    @NotNull
+    private ReconcileSource reconcileSource = ReconcileSource.LIST;
+
+    /**
+     * How fresh the reconcile lists ({@link ReconcileSource#LIST} and {@link ReconcileSource#SELECTOR})
+     * must be. {@link ListConsistency#CONSISTENT} (the default) is a quorum read through to etcd on
+     * every pass; {@link ListConsistency#CACHED} lets the API server answer from its watch cache,
+     * which may be a few seconds behind - harmless here, since the next pass repairs anything a
+     * stale read missed.
+     */
+    @NotNull
+    private ListConsistency reconcileListConsistency = ListConsistency.CONSISTENT;
+
+    /**
+     * How many leader-label patches a reconcile pass sends at once. {@code 1} (the default) patches
+     * drifted pods one at a time on the reconcile thread; higher values patch each batch on virtual
+     * threads while the reconcile thread waits, re-confirming ownership before every batch rather
+     * than every pod. Only worth raising for selectors matching hundreds of pods or more.
+     */
+    @Min(value = 1, message = "elector.reconcilePatchConcurrency must be at least 1")
+    private int reconcilePatchConcurrency = 1;
+
+    /**
+     * Watches the selected pods while leading even when {@link #reconcileSource} is not
+     * {@link ReconcileSource#INFORMER} (which always watches), so a leader label someone else
+     * overwrites is corrected as soon as the watch event arrives instead of on the next renewal.
+     * Corrections still run a full pass of the configured source. Needs the {@code watch} verb.
+     */
+    private boolean driftWatchEnabled = false;
+
+    /**
+     * Quiet period after the first repeat fight over a pod's label: if the same pod drifts again
+     * after the watch has shown the last correction applied, within {@link #driftMaxCooldown} of the
+     * end of its last quiet period, further immediate corrections of it are held off for this long,
+     * doubling per repeat up to {@link #driftMaxCooldown}. A pod drifting during its quiet period is left to the periodic
+     * renewal pass, so damping never delays a correction beyond what the elector does without a
+     * watch.
+     */
+    @NotNull
+    @DurationMin(millis = 100, message = "elector.driftCooldown must be at least 100ms")
+    private Duration driftCooldown = Duration.ofSeconds(1);
+
+    /**
+     * Cap on the drift cooldown, and how long a pod must stay undisturbed after its quiet period
+     * before its fight count resets.
+     */
+    @NotNull
+    @DurationMin(millis = 100, message = "elector.driftMaxCooldown must be at least 100ms")
+    private Duration driftMaxCooldown = Duration.ofSeconds(60);
+
+    /**
+     * Where to keep a memory-mapped copy of this pod's leadership state (state, epoch, lease
+     * expiry), typically on an {@code emptyDir} shared with the application, which maps it and
+     * checks leadership with plain memory loads. Unset (the default) writes no file. See
+     * {@code LeadershipFile} for the layout.
+     */
+    private String leadershipFilePath;
+
     // --- Optional health probe ---------------------------------------------------------------
     // When enabled, a pod must pass a health probe to be eligible to acquire (and to keep)
     // leadership. The probe is intentionally generic: the application writes its own notion of
@@ -64,7 +161,13 @@ public class ElectorProperties {
     /** Path to the status file the application maintains. Missing/unreadable file = unhealthy. */
     private String healthProbeFilePath;
 
-    /** The (trimmed) file content that means healthy. Anything else = unhealthy. */
+    /**
+     * Where to listen for pushed statuses in {@link HealthProbeMode#SOCKET} mode, typically on the
+     * same shared {@code emptyDir}. Required in that mode, unused otherwise.
+     */
+    private String healthProbeSocketPath;
+
+    /** The (trimmed) file content, or pushed line, that means healthy. Anything else = unhealthy. */
     private String healthProbeHealthyContent = "healthy";
 
     /**
@@ -109,4 +212,113 @@ public class ElectorProperties {
     @NotNull
     @DurationMin(seconds = 1, message = "elector.healthProbeUnhealthyBackoff must be at least 1s")
     private Duration healthProbeUnhealthyBackoff = Duration.ofSeconds(30);
+
+    /**
+     * How the status file is read. {@link HealthProbeMode#POLL} (the default) reads it on every
+     * health check; {@link HealthProbeMode#WATCH} watches its directory and serves checks from a
+     * cached verdict, so a leader reacts to an "unhealthy" write without waiting for its next
+     * renewal tick. {@link HealthProbeMode#SOCKET} drops the file: the application pushes
+     * statuses to {@link #healthProbeSocketPath} instead.
+     */
+    @NotNull
+    private HealthProbeMode healthProbeMode = HealthProbeMode.POLL;
+
+    /**
+     * Lets a healthy status carry a score that decides which healthy pod leads: the healthy value,
+     * whitespace, then a number from {@code 0} to {@code 1}, higher being fitter (e.g.
+     * {@code healthy 0.8}, derived from load, cache warmth, or replication lag). A follower defers
+     * its acquisition attempts while a fresher, better-scoring peer is contending, so the best pod
+     * takes a free lock. A healthy value without a score counts as {@code 0}; a malformed or
+     * out-of-range score, like any other content, as unhealthy. Every pod sharing a lock should
+     * use the same setting.
+     */
+    private boolean healthProbeScoreEnabled = false;
+
+    /**
+     * With {@link #healthProbeScoreEnabled}, the leader yields once a contending peer has
+     * out-scored it by at least this much for {@link #healthProbeScoreYieldAfter}. Zero (the
+     * default) never yields: scores then only decide who takes a free lock.
+     */
+    @DecimalMin(value = "0.0", message = "elector.healthProbeScoreYieldMargin must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "elector.healthProbeScoreYieldMargin must be between 0 and 1")
+    private double healthProbeScoreYieldMargin = 0.0;
+
+    /**
+     * How long a peer must keep out-scoring the leader by {@link #healthProbeScoreYieldMargin}
+     * before the leader yields. Checked once per {@link #renewDeadline}, so a short spike never
+     * moves leadership.
+     */
+    @NotNull
+    @DurationMin(seconds = 1, message = "elector.healthProbeScoreYieldAfter must be at least 1s")
+    private Duration healthProbeScoreYieldAfter = Duration.ofMinutes(5);
+
+    /** How {@code HealthProbe} reads the status file; see {@link #healthProbeMode}. */
+    public enum HealthProbeMode {
+        /** Every health check reads and validates the file. */
+        POLL,
+        /**
+         * A {@code WatchService} on the file's directory re-reads the file when it changes, and a
+         * timer re-checks freshness when the cached mtime is due to age out. Health checks return
+         * the cached verdict.
+         */
+        WATCH,
+        /**
+         * The application connects to a Unix domain socket at {@code healthProbeSocketPath} and
+         * writes one status per line, in the file's format. Every line is also a heartbeat;
+         * {@code healthProbeMaxAge} applies to the last one. Health checks return the last status.
+         */
+        SOCKET
+    }
+
+    /** How followers wait for the lock; see {@link #lockType}. */
+    public enum LockType {
+        /** {@code RedisLockRegistry}'s spin lock: polls with {@code SET NX} until the wait ends. */
+        SPIN,
+        /**
+         * {@code RedisLockRegistry}'s pub/sub lock: subscribes to the lock's unlock channel and
+         * tries again when notified. Each {@code retryPeriod} wait still ends with a plain attempt,
+         * which is what notices a lease that expired without a release.
+         */
+        PUB_SUB
+    }
+
+    /** Who reconciles which pod's leader label; see {@link #labelingMode}. */
+    public enum LabelingMode {
+        /** The leader lists and patches every selected pod; followers patch nothing. */
+        CLUSTER,
+        /**
+         * Each pod GETs and patches only itself: the leader to {@code true} on every renewal,
+         * followers to {@code false} at most once per {@code renewDeadline}. The one cross-pod
+         * patch left is the previous leader's label at failover. Reconcile sources and the drift
+         * watch do not apply.
+         */
+        SELF
+    }
+
+    /** Read consistency of the reconcile list requests; see {@link #reconcileListConsistency}. */
+    public enum ListConsistency {
+        /** No resourceVersion: the API server reads through to etcd. */
+        CONSISTENT,
+        /** {@code resourceVersion=0}, {@code resourceVersionMatch=NotOlderThan}: served from the watch cache. */
+        CACHED
+    }
+
+    /** How {@code LockCallbacks} discovers the pods a reconcile pass diffs against. */
+    public enum ReconcileSource {
+        /** Paginated LIST of every selected pod on every pass. */
+        LIST,
+        /**
+         * A {@code SharedIndexInformer} on the selected pods, started on acquisition and stopped on
+         * loss. Passes read its cache, so steady-state API cost is one watch, and a watch event
+         * showing a drifted label triggers an immediate pass instead of waiting for the next
+         * renewal.
+         */
+        INFORMER,
+        /**
+         * Two paginated LISTs whose label and field selectors match only drifted pods: self when
+         * not {@code true}, peers when not {@code false}. Same cadence as {@link #LIST}, but in
+         * steady state both responses are empty instead of every selected pod.
+         */
+        SELECTOR
+    }
 }
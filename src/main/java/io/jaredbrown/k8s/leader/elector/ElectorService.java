@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.integration.redis.util.RedisLockRegistry;
 import org.springframework.integration.support.locks.DistributedLock;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Service;
 
@@ -14,19 +15,27 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.OptionalDouble;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
 
 /**
  * Drives distributed leader election over a Redis-backed {@link RedisLockRegistry}, keeping pod
  * leader labels in sync via {@link LockCallbacks}.
  *
  * <p>Acquisition, renewal, and release all run on {@code taskScheduler}'s single thread (see that
- * bean's Javadoc for why); optional health gating and a deadlock-grace escape hatch are described
- * on {@link #lockLoop} and {@link #deadlockGraceExceeded}.
+ * bean's Javadoc for why). Leader-label reconcile passes run on {@code reconcileExecutor}'s own
+ * single thread, so a slow Kubernetes API never delays a renewal; see {@link #requestReconcile}.
+ * Optional health gating and a deadlock-grace escape hatch are described on {@link #lockLoop} and
+ * {@link #deadlockGraceExceeded}; optional health scores on {@link #deferredToBetterCandidate} and
+ * {@link #yieldedToBetterCandidate}.
  */
 @Slf4j
 @Service
@@ -35,6 +44,9 @@ public class ElectorService implements SmartLifecycle {
     // Upper bound on how long stop() waits for the scheduler thread to release the lock (see
     // awaitLockRelease). Comfortably inside a pod's terminationGracePeriodSeconds.
     private static final Duration RELEASE_TIMEOUT = Duration.ofSeconds(5);
+    // Upper bound on how long a reconcile pass waits for the scheduler thread to re-confirm
+    // ownership with Redis (see stillOwnsLockFromReconcile); a pass that cannot get an answer halts.
+    private static final Duration OWNERSHIP_CHECK_TIMEOUT = Duration.ofSeconds(5);
 
     @Nonnull
     private final LockCallbacks callbacks;
@@ -47,9 +59,19 @@ public class ElectorService implements SmartLifecycle {
     @Nonnull
     private final ThreadPoolTaskScheduler taskScheduler;
     @Nonnull
+    private final ThreadPoolTaskExecutor reconcileExecutor;
+    @Nonnull
     private final HealthProbe healthProbe;
     @Nonnull
     private final Clock clock;
+    @Nonnull
+    private final LeaderRecord leaderRecord;
+    @Nonnull
+    private final CandidateScores candidateScores;
+    @Nonnull
+    private final ElectorMetrics metrics;
+    @Nonnull
+    private final LeadershipStatus leadershipStatus;
 
     private final AtomicReference<DistributedLock> lock = new AtomicReference<>();
     private final AtomicBoolean running = new AtomicBoolean(false);
@@ -61,11 +83,44 @@ public class ElectorService implements SmartLifecycle {
     private final AtomicReference<Instant> deadlockSince = new AtomicReference<>();
     // Consecutive health-probe failures observed while already leading.
     private final AtomicInteger consecutiveProbeFailures = new AtomicInteger(0);
+    // While leading with health scores: since when a contending peer has out-scored this pod by the
+    // yield margin, uninterrupted; null otherwise. See yieldedToBetterCandidate.
+    private final AtomicReference<Instant> outscoredSince = new AtomicReference<>();
+    // Set while an out-of-band reconcile is queued on the scheduler; see requestReconcile.
+    private final AtomicBoolean reconcileQueued = new AtomicBoolean(false);
+    // Set while a follower's own-label check is queued on reconcileExecutor; see reconcileFollowerLabel.
+    private final AtomicBoolean followerCheckQueued = new AtomicBoolean(false);
+    // Guards acquiringThread and acquisitionInterrupted. stop() only interrupts the scheduler
+    // thread while acquiringThread is set, which can be just after tryLock has returned; awaitLock
+    // clears such a late interrupt under the guard, before the thread moves on to other I/O.
+    private final Object acquisitionGuard = new Object();
+    // The scheduler thread while it waits in tryLock (see awaitLock); null otherwise.
+    private Thread acquiringThread;
+    // Whether interruptAcquisition interrupted the current (or just finished) tryLock wait.
+    private boolean acquisitionInterrupted;
+    // Until when stillOwnsLock trusts the last successful renewal without asking Redis, as a
+    // nanoClock reading; null when there is nothing to trust (not leading, or the last renewal
+    // failed). Monotonic, so a wall-clock step back cannot stretch it past the real Redis TTL.
+    private final AtomicReference<Long> ownershipTrustedUntil = new AtomicReference<>();
+    // The monotonic clock ownershipTrustedUntil is kept on; a field so tests can step it.
+    private LongSupplier nanoClock = System::nanoTime;
+    // LabelingMode.SELF only: when this pod last checked its own label as a follower; see
+    // reconcileFollowerLabel.
+    private final AtomicReference<Instant> followerLabelCheckedAt = new AtomicReference<>();
 
     /**
-     * Labels self {@code leader=false} (so a freshly (re)created pod carries the label from boot
-     * rather than staying unlabeled until it wins or loses its first election), then schedules the
-     * first {@link #lockLoop} run.
+     * Queues the {@code leader=false} self-label (so a freshly (re)created pod carries the label
+     * from boot rather than staying unlabeled until it wins or loses its first election) on
+     * {@code reconcileExecutor}, and schedules the first {@link #lockLoop} run right away rather
+     * than behind it.
+     *
+     * <p>Neither client connects before first use, so startup's critical path is the first
+     * {@code tryLock}, which opens the Redis connection on the scheduler thread, while the
+     * self-label's patch opens the API-server connection (and its TLS handshake) on the reconcile
+     * thread. A slow or retrying API server no longer delays the first acquisition attempt. The
+     * leader patches of a quick first win are queued on the same single thread (see
+     * {@link #becomeLeader}), so they run after the self-label and its {@code leader=false} cannot
+     * overwrite them.
      */
     @Override
     public void start() {
@@ -73,16 +128,27 @@ public class ElectorService implements SmartLifecycle {
         deadlockSince.set(null);
         consecutiveProbeFailures.set(0);
         log.info("Starting ElectorService");
-        callbacks.ensureSelfLabeled();
+        healthProbe.setUnhealthyListener(this::onHealthProbeTurnedUnhealthy);
+        submitSelfLabel();
         taskScheduler.schedule(this::lockLoop, clock.instant());
     }
 
+    private void submitSelfLabel() {
+        try {
+            reconcileExecutor.submit(callbacks::ensureSelfLabeled);
+        } catch (final RejectedExecutionException e) {
+            log.warn("Reconcile executor rejected the startup self-label; labeling inline", e);
+            callbacks.ensureSelfLabeled();
+        }
+    }
+
     /** Cancels lock renewal and releases the lock (if held); see {@link #awaitLockRelease}. */
     @Override
     public void stop() {
         log.info("Stopping ElectorService");
         running.set(false);
         cancelRefreshTask();
+        interruptAcquisition();
         awaitLockRelease();
     }
 
@@ -106,37 +172,73 @@ public class ElectorService implements SmartLifecycle {
     }
 
     /**
-     * Routes the shutdown-time lock release onto the scheduler thread and waits up to
-     * {@link #RELEASE_TIMEOUT} for it to finish.
+     * Cuts short a pending {@link #awaitLock} wait, so the release {@link #awaitLockRelease} queues
+     * behind it runs now rather than after up to {@code retryPeriod} (or never, within
+     * {@link #RELEASE_TIMEOUT}, with a long one).
+     */
+    private void interruptAcquisition() {
+        synchronized (acquisitionGuard) {
+            if (acquiringThread != null) {
+                acquiringThread.interrupt();
+                acquisitionInterrupted = true;
+                acquiringThread = null;
+            }
+        }
+    }
+
+    /**
+     * Routes the shutdown-time lock release onto the scheduler thread and, if this pod was leading,
+     * then clears its label on the reconcile thread, waiting up to {@link #RELEASE_TIMEOUT} for
+     * both.
      *
      * <p>{@code DistributedLock.unlock()} is thread-owned ({@code RedisLockRegistry.RedisLock}
      * wraps a local {@code ReentrantLock} and throws {@code IllegalStateException} if unlocked
      * off-thread). Acquisition always happens on the {@code taskScheduler} thread ({@code
      * lockLoop}/{@code refreshLock}), but {@code SmartLifecycle#stop()} runs on whatever thread
      * Spring's context shutdown uses, so releasing directly here would always fail and leak the
-     * Redis key for the full lease TTL.
+     * Redis key for the full lease TTL. The label goes through {@code reconcileExecutor} so it is
+     * written after an in-flight pass, which halts at its next ownership check, rather than
+     * possibly under that pass's last patch. If the pass does not yield in time, it is cleared
+     * from here instead.
      */
     private void awaitLockRelease() {
+        final long deadline = System.nanoTime() + RELEASE_TIMEOUT.toNanos();
+        final AtomicBoolean wasLeading = new AtomicBoolean(false);
         try {
             taskScheduler
-                    .submit(this::releaseLockAndClearLabelIfHeld)
+                    .submit(() -> {
+                        wasLeading.set(releaseLockIfHeld());
+                        withdrawCandidacy();
+                    })
                     .get(RELEASE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
         } catch (final InterruptedException e) {
             Thread
                     .currentThread()
                     .interrupt();
             log.warn("Interrupted while releasing lock during shutdown", e);
+            return;
         } catch (final Exception e) {
             log.error("Failed to release lock during shutdown within {}", RELEASE_TIMEOUT, e);
+            return;
         }
-    }
-
-    /**
-     * Runs on the scheduler thread (see {@link #awaitLockRelease}). Only a pod that was actually
-     * leading needs its label cleared here - a non-leader pod's label is already false.
-     */
-    private void releaseLockAndClearLabelIfHeld() {
-        if (releaseLockIfHeld()) {
+        // Only a pod that was actually leading needs its label cleared - a non-leader pod's label
+        // is already false.
+        if (!wasLeading.get()) {
+            return;
+        }
+        try {
+            reconcileExecutor
+                    .submit(callbacks::onShutdown)
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread
+                    .currentThread()
+                    .interrupt();
+            log.warn("Interrupted while clearing leader label during shutdown", e);
+        } catch (final Exception e) {
+            log.warn("Reconcile thread did not clear the leader label within {}; clearing it directly",
+                     RELEASE_TIMEOUT,
+                     e);
             callbacks.onShutdown();
         }
     }
@@ -147,13 +249,17 @@ public class ElectorService implements SmartLifecycle {
      */
     private boolean releaseLockIfHeld() {
         final DistributedLock currentLock = lock.getAndSet(null);
+        ownershipTrustedUntil.set(null);
         if (currentLock != null) {
+            metrics.lostLeadership();
+            leadershipStatus.releasing();
             try {
                 log.info("Releasing lock '{}'", electorProperties.getLockName());
                 currentLock.unlock();
             } catch (final Exception e) {
                 log.error("Error while releasing lock", e);
             }
+            leadershipStatus.following();
             return true;
         }
         return false;
@@ -163,8 +269,9 @@ public class ElectorService implements SmartLifecycle {
      * Attempts lock acquisition, gated by the health probe: an unhealthy pod that still acquires
      * the (free) lock releases it again and backs off (see {@link #scheduleUnhealthyRetry}), unless
      * {@link #deadlockGraceExceeded} says every candidate has been unhealthy long enough to lead in
-     * a degraded state anyway. Reschedules itself via {@link #scheduleRetry} or {@link
-     * #scheduleUnhealthyRetry} on every path that doesn't lead to {@link #becomeLeader}.
+     * a degraded state anyway. A healthy pod may instead sit the attempt out for a better-scoring
+     * peer (see {@link #deferredToBetterCandidate}). Reschedules itself via {@link #scheduleRetry}
+     * or {@link #scheduleUnhealthyRetry} on every path that doesn't lead to {@link #becomeLeader}.
      */
     private void lockLoop() {
         if (!running.get()) {
@@ -177,21 +284,44 @@ public class ElectorService implements SmartLifecycle {
             // the deadlock escape hatch needs to distinguish "no healthy candidate" from "a
             // healthy leader already exists".
             final boolean healthy = healthProbe.isHealthy();
+            if (!healthy) {
+                withdrawCandidacy();
+            } else if (deferredToBetterCandidate()) {
+                reconcileFollowerLabel();
+                scheduleRetry();
+                return;
+            }
             log.info("Attempting to acquire lock '{}'... (healthy={})", electorProperties.getLockName(), healthy);
             final DistributedLock newLock = lockRegistry.obtain(electorProperties.getLockName());
-            final boolean acquired = newLock.tryLock(electorProperties
-                                                       .getRetryPeriod()
-                                                       .getSeconds(), TimeUnit.SECONDS);
+            // The lease a won lock carries is counted from no earlier than here.
+            final Instant attemptedAt = clock.instant();
+            final ElectorEvents.LockAttempt attemptEvent = new ElectorEvents.LockAttempt();
+            attemptEvent.begin();
+            final long attemptStart = System.nanoTime();
+            final boolean acquired = awaitLock(newLock);
+            metrics.lockAttempt(acquired, System.nanoTime() - attemptStart);
+            attemptEvent.finish(electorProperties.getLockName(),
+                                String.valueOf(electorProperties.getLockType()),
+                                healthy,
+                                acquired);
+            if (!running.get()) {
+                // stop() ran during the wait. A lock won anyway is handed to the release stop()
+                // queued behind this run, which frees it and clears the label.
+                if (acquired) {
+                    lock.set(newLock);
+                }
+                return;
+            }
 
             if (acquired) {
                 if (healthy) {
-                    becomeLeader(newLock);
+                    becomeLeader(newLock, attemptedAt, false);
                 } else if (deadlockGraceExceeded()) {
                     log.warn("Breaking leadership deadlock: acquiring lock '{}' despite a failing health probe " +
                              "(no healthy candidate for at least {}). Leading in a DEGRADED state.",
                              electorProperties.getLockName(),
                              electorProperties.getHealthProbeDeadlockGrace());
-                    becomeLeader(newLock);
+                    becomeLeader(newLock, attemptedAt, true);
                 } else {
                     // Lock is free but we're unhealthy and still within the grace window. Don't
                     // lead yet — release so a healthy peer can take over.
@@ -223,9 +353,16 @@ public class ElectorService implements SmartLifecycle {
             } else {
                 // Someone else holds the lock: a leader exists, so we are not deadlocked.
                 deadlockSince.set(null);
+                metrics.leaderSeen();
+                reconcileFollowerLabel();
                 // An unhealthy pod still backs off the longer interval: it has no business racing for
                 // leadership, and a tight retry only adds churn while a leader already exists.
-                if (healthy) {
+                if (healthy && electorProperties.getLockType() == ElectorProperties.LockType.PUB_SUB) {
+                    // tryLock already spent retryPeriod waiting for an unlock notification, so go
+                    // straight back to waiting: idling here is a window in which a release is missed.
+                    log.info("Could not acquire lock, waiting again for its release");
+                    scheduleImmediateRetry();
+                } else if (healthy) {
                     log.info("Could not acquire lock, will retry in {}", electorProperties.getRetryPeriod());
                     scheduleRetry();
                 } else {
@@ -238,7 +375,11 @@ public class ElectorService implements SmartLifecycle {
             Thread
                     .currentThread()
                     .interrupt();
-            log.warn("Lock acquisition interrupted, exiting lock loop", e);
+            if (running.get()) {
+                log.warn("Lock acquisition interrupted, exiting lock loop", e);
+            } else {
+                log.info("Lock acquisition cut short by shutdown");
+            }
         } catch (final Exception e) {
             log.error("Error while trying to acquire lock, retrying in {}", electorProperties.getRetryPeriod(), e);
             if (running.get()) {
@@ -248,21 +389,63 @@ public class ElectorService implements SmartLifecycle {
     }
 
     /**
-     * Takes ownership of {@code newLock}, reconciles leader labels, and schedules renewal. Releases
-     * the lock and retries instead if the post-acquire callback fails.
+     * Waits up to {@code retryPeriod} for the lock, interruptibly by {@link #stop()} (see
+     * {@link #interruptAcquisition}). Returns {@code false} without waiting if shutdown has already
+     * begun: checking {@code running} under the guard means stop() either sees this thread parked
+     * or this thread sees stop(), never neither. The interrupt can also land after {@code tryLock}
+     * has returned but before the guard is retaken; clearing it there keeps it from breaking the
+     * next blocking call (claiming the leader record, or the release queued behind this run).
+     */
+    private boolean awaitLock(final DistributedLock newLock) throws InterruptedException {
+        synchronized (acquisitionGuard) {
+            if (!running.get()) {
+                return false;
+            }
+            acquiringThread = Thread.currentThread();
+        }
+        try {
+            return newLock.tryLock(electorProperties
+                                           .getRetryPeriod()
+                                           .getSeconds(), TimeUnit.SECONDS);
+        } finally {
+            synchronized (acquisitionGuard) {
+                acquiringThread = null;
+                if (acquisitionInterrupted) {
+                    acquisitionInterrupted = false;
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes ownership of {@code newLock}, claims the previous-leader record, schedules renewal, and
+     * queues {@link #completeAcquisition} - the leader label moves - on {@code reconcileExecutor}.
+     * Returns without waiting on the Kubernetes API: that single thread runs the queued work in
+     * order, so the label patches follow start()'s self-label and any pass still in flight. If
+     * claiming the record fails, releases the lock and retries instead.
+     *
+     * @param attemptedAt when the winning {@code tryLock} began, from which the new lease counts
+     * @param degraded    whether this pod leads despite failing its health probe
      */
-    private void becomeLeader(final DistributedLock newLock) {
+    private void becomeLeader(final DistributedLock newLock, final Instant attemptedAt, final boolean degraded) {
         // Acquiring leadership ends any current free-lock standoff, so the deadlock-grace window
         // must start fresh next time. Resetting here (rather than only on the healthy path) stops a
         // degraded leader that later relinquishes from immediately re-acquiring on the stale timer.
         deadlockSince.set(null);
         consecutiveProbeFailures.set(0);
+        outscoredSince.set(null);
+        ownershipTrustedUntil.set(null);
         lock.set(newLock);
+        metrics.becameLeader();
+        leadershipStatus.leading(degraded, attemptedAt.plus(electorProperties.getLeaseDuration()));
+        withdrawCandidacy();
         log.info("Lock '{}' acquired", electorProperties.getLockName());
+        final String previousLeader;
         try {
-            callbacks.onLockAcquired(this::stillOwnsLock);
+            previousLeader = leaderRecord.claim();
         } catch (final Exception e) {
-            log.error("Lock acquired, but post-acquire callback failed; releasing lock and retrying in {}",
+            log.error("Lock acquired, but claiming the leader record failed; releasing lock and retrying in {}",
                       electorProperties.getRetryPeriod(),
                       e);
             releaseLockIfHeld();
@@ -270,6 +453,153 @@ public class ElectorService implements SmartLifecycle {
             return;
         }
         scheduleRefreshTask();
+        try {
+            reconcileExecutor.execute(() -> completeAcquisition(newLock, previousLeader, this::stillOwnsLockFromReconcile));
+        } catch (final RejectedExecutionException e) {
+            log.warn("Could not queue the leader-label moves; running them inline", e);
+            completeAcquisition(newLock, previousLeader, this::stillOwnsLock);
+        }
+    }
+
+    /**
+     * Moves the leader label (self and the previous leader only; see
+     * {@link LockCallbacks#onLockAcquired}), starts the drift watch and queues the full reconcile
+     * sweep. Skipped if {@code newLock} is no longer held by the time it runs; the label clear that
+     * release queued runs after it. If the callback fails, hands the release and a retry back to
+     * the scheduler thread, which owns the lock.
+     */
+    private void completeAcquisition(final DistributedLock newLock,
+                                     final String previousLeader,
+                                     final BooleanSupplier stillLeader) {
+        if (!running.get() || lock.get() != newLock) {
+            return;
+        }
+        try {
+            callbacks.onLockAcquired(stillLeader, previousLeader);
+        } catch (final Exception e) {
+            log.error("Lock acquired, but post-acquire callback failed; releasing lock and retrying in {}",
+                      electorProperties.getRetryPeriod(),
+                      e);
+            abandonAcquisition(newLock);
+            return;
+        }
+        callbacks.watchPods(this::requestReconcile);
+        requestReconcile();
+    }
+
+    /** Releases {@code newLock}, on the scheduler thread, and schedules a retry - unless it was already released. */
+    private void abandonAcquisition(final DistributedLock newLock) {
+        try {
+            taskScheduler.execute(() -> {
+                if (lock.get() != newLock) {
+                    return;
+                }
+                cancelRefreshTask();
+                releaseLockIfHeld();
+                clearLeaderLabelAfterRunningPass();
+                scheduleRetry();
+            });
+        } catch (final RejectedExecutionException e) {
+            log.warn("Could not queue the release after a failed post-acquire callback; the lease will expire instead", e);
+        }
+    }
+
+    /**
+     * With {@link ElectorProperties.LabelingMode#SELF}, no leader patches this pod's label, so a
+     * follower checks its own - at most once per {@code renewDeadline}, the same cadence at which a
+     * leader would have reconciled it, rather than on every {@code retryPeriod} attempt. A no-op in
+     * {@code CLUSTER} mode.
+     *
+     * <p>The check (a GET, and maybe a patch) is queued on {@code reconcileExecutor} like a leader's
+     * pass, coalesced the same way, so the scheduler thread goes straight back to {@code tryLock}
+     * instead of waiting on the API server; with {@code PUB_SUB} that wait would be a window in
+     * which a release notification is missed. It is skipped if this pod leads by the time it runs.
+     */
+    private void reconcileFollowerLabel() {
+        if (electorProperties.getLabelingMode() != ElectorProperties.LabelingMode.SELF) {
+            return;
+        }
+        final Instant now = clock.instant();
+        final Instant checkedAt = followerLabelCheckedAt.get();
+        if (checkedAt != null && now.isBefore(checkedAt.plus(electorProperties.getRenewDeadline()))) {
+            return;
+        }
+        if (!followerCheckQueued.compareAndSet(false, true)) {
+            return;
+        }
+        followerLabelCheckedAt.set(now);
+        try {
+            reconcileExecutor.execute(() -> {
+                followerCheckQueued.set(false);
+                if (running.get() && lock.get() == null) {
+                    callbacks.reconcileFollowerLabel();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            followerCheckQueued.set(false);
+            log.warn("Could not queue own-label check; the next attempt will check instead", e);
+        }
+    }
+
+    /**
+     * Queues one reconcile pass on {@code reconcileExecutor}'s single thread — used by every renewal
+     * tick, for the full sweep after acquisition, and by {@link LockCallbacks#watchPods}' informer
+     * when a watch event shows a drifted label. Safe to call from any thread. Coalesces: while a
+     * pass is already queued, further requests are dropped, since the queued pass reads the latest
+     * state when it runs; the flag clears as a pass starts, so triggers arriving during a running
+     * pass collapse into one follow-up. A no-op unless this pod is leading.
+     */
+    void requestReconcile() {
+        if (!running.get() || lock.get() == null || !reconcileQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            reconcileExecutor.execute(() -> {
+                reconcileQueued.set(false);
+                if (running.get() && lock.get() != null) {
+                    callbacks.reconcileLeaderLabels(this::stillOwnsLockFromReconcile);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            reconcileQueued.set(false);
+            log.warn("Could not queue leader-label reconcile; the next renewal will reconcile instead", e);
+        }
+    }
+
+    /**
+     * With {@code healthProbeScoreEnabled}, publishes this healthy pod's score as a candidate and
+     * decides whether to sit out this acquisition attempt because a peer that is still contending
+     * scores strictly higher (see {@link CandidateScores}). Deferring rather than delaying inside
+     * the attempt is what makes the best pod win reliably: a lock is detected free only by taking
+     * it, so any lower-scoring pod still attempting could win the race. Equal scores race as
+     * before. Never defers with scores disabled or an unreachable board, and never applies to an
+     * unhealthy pod, whose attempts the deadlock grace relies on.
+     *
+     * @return {@code true} if this attempt should be skipped
+     */
+    private boolean deferredToBetterCandidate() {
+        if (!electorProperties.isHealthProbeScoreEnabled()) {
+            return false;
+        }
+        final double score = healthProbe.score();
+        candidateScores.publish(score);
+        final OptionalDouble best = candidateScores.bestPeer();
+        if (best.isEmpty() || best.getAsDouble() <= score) {
+            return false;
+        }
+        log.info("Deferring acquisition of lock '{}' to a peer scoring {} (this pod {}); will check again in {}",
+                 electorProperties.getLockName(),
+                 best.getAsDouble(),
+                 score,
+                 electorProperties.getRetryPeriod());
+        return true;
+    }
+
+    /** Takes this pod off the candidate board, if health scores are enabled. */
+    private void withdrawCandidacy() {
+        if (electorProperties.isHealthProbeScoreEnabled()) {
+            candidateScores.withdraw();
+        }
     }
 
     /**
@@ -295,6 +625,17 @@ public class ElectorService implements SmartLifecycle {
         }
     }
 
+    /**
+     * Re-enters the lock loop as soon as the scheduler is free. Only used after a
+     * {@link ElectorProperties.LockType#PUB_SUB} {@code tryLock} has already waited out
+     * {@code retryPeriod}; never after an error, where it would turn a Redis outage into a busy loop.
+     */
+    private void scheduleImmediateRetry() {
+        if (running.get()) {
+            taskScheduler.schedule(this::lockLoop, clock.instant());
+        }
+    }
+
     /**
      * Re-probe schedule for an unhealthy pod: a longer backoff than {@code retryPeriod} so it stops
      * contending for the lock every few seconds and lets healthy peers take over (see
@@ -309,21 +650,28 @@ public class ElectorService implements SmartLifecycle {
         }
     }
 
-    /** Cancels any existing renewal task and schedules {@link #refreshLock} at {@code renewDeadline}. */
+    /**
+     * Cancels any existing renewal task and schedules {@link #refreshLock} every
+     * {@code renewDeadline}. Fixed delay rather than fixed rate: if the scheduler thread is ever held
+     * up, the next renewal follows a full period after the late one instead of firing a burst of
+     * overdue ticks back to back.
+     */
     private void scheduleRefreshTask() {
         cancelRefreshTask();
-        final ScheduledFuture<?> future = taskScheduler.scheduleAtFixedRate(this::refreshLock,
-                                                                            clock
-                                                                              .instant()
-                                                                              .plus(electorProperties.getRenewDeadline()),
-                                                                            electorProperties.getRenewDeadline());
+        final ScheduledFuture<?> future = taskScheduler.scheduleWithFixedDelay(this::refreshLock,
+                                                                               clock
+                                                                                 .instant()
+                                                                                 .plus(electorProperties.getRenewDeadline()),
+                                                                               electorProperties.getRenewDeadline());
         refreshFuture.set(future);
     }
 
     /**
      * Runs on every renewal tick: relinquishes leadership if the health probe has failed
      * {@code healthProbeFailureThreshold} consecutive times, otherwise renews the lock (with one
-     * immediate retry; see {@link #renewLockWithRetry}) and reconciles leader labels.
+     * immediate retry; see {@link #renewLockWithRetry}) and queues a leader-label reconcile.
+     * Never waits for the reconcile itself, so a stalled Kubernetes API cannot push back the next
+     * renewal.
      */
     private void refreshLock() {
         if (!running.get()) {
@@ -331,42 +679,115 @@ public class ElectorService implements SmartLifecycle {
             return;
         }
         try {
-            // Relinquish leadership if we go unhealthy while leading, but only after a run of
-            // failures so a transient blip, or a routine rebuild in the host application, doesn't
-            // cause flapping.
-            // isHealthy() returns true when probing is disabled, so this is a no-op then.
-            if (!healthProbe.isHealthy()) {
-                final int failures = consecutiveProbeFailures.incrementAndGet();
-                final int threshold = electorProperties.getHealthProbeFailureThreshold();
-                if (failures >= threshold) {
-                    log.warn("Health probe failed {} consecutive times (threshold {}) while leading; " +
-                             "relinquishing leadership of '{}'",
-                             failures,
-                             threshold,
-                             electorProperties.getLockName());
-                    handleLockLost();
-                    return;
-                }
-                log.warn("Health probe failing while leading ({}/{}); will relinquish '{}' if it continues",
-                         failures,
-                         threshold,
-                         electorProperties.getLockName());
-            } else {
-                consecutiveProbeFailures.set(0);
+            if (relinquishedAsUnhealthy() || yieldedToBetterCandidate()) {
+                return;
             }
 
             renewLockWithRetry();
             // Self-heals any label a prior attempt failed to set (slow API server, a pod created
             // after the last election) instead of leaving it wrong until the next leadership change.
-            // Passes stillOwnsLock so a reconcile that outlives the lease stops before stamping stale
-            // labels once another pod has taken over.
-            callbacks.reconcileLeaderLabels(this::stillOwnsLock);
+            // Queued rather than run here; if the previous pass is still running, this collapses
+            // into the one follow-up pass behind it.
+            requestReconcile();
         } catch (final Exception e) {
             log.error("Error while refreshing lock, treating as lock lost", e);
             handleLockLost();
         }
     }
 
+    /**
+     * Relinquishes leadership if we go unhealthy while leading, but only after a run of failures
+     * so a transient blip, or a routine rebuild in the host application, doesn't cause flapping.
+     * {@code isHealthy()} returns {@code true} when probing is disabled, so this is a no-op then.
+     *
+     * @return {@code true} if leadership was relinquished
+     */
+    private boolean relinquishedAsUnhealthy() {
+        if (healthProbe.isHealthy()) {
+            consecutiveProbeFailures.set(0);
+            return false;
+        }
+        final int failures = consecutiveProbeFailures.incrementAndGet();
+        final int threshold = electorProperties.getHealthProbeFailureThreshold();
+        if (failures >= threshold) {
+            log.warn("Health probe failed {} consecutive times (threshold {}) while leading; " +
+                     "relinquishing leadership of '{}'",
+                     failures,
+                     threshold,
+                     electorProperties.getLockName());
+            handleLockLost();
+            return true;
+        }
+        log.warn("Health probe failing while leading ({}/{}); will relinquish '{}' if it continues",
+                 failures,
+                 threshold,
+                 electorProperties.getLockName());
+        return false;
+    }
+
+    /**
+     * With a {@code healthProbeScoreYieldMargin} above zero, relinquishes leadership once a
+     * contending peer has out-scored this pod by at least that margin on every renewal tick for
+     * {@code healthProbeScoreYieldAfter}. After yielding, this pod's next {@link #lockLoop} defers
+     * to that peer (see {@link #deferredToBetterCandidate}) rather than re-taking the lock. The
+     * margin is the hysteresis that stops two similar pods trading leadership back and forth.
+     *
+     * @return {@code true} if leadership was relinquished
+     */
+    private boolean yieldedToBetterCandidate() {
+        final double margin = electorProperties.getHealthProbeScoreYieldMargin();
+        if (!electorProperties.isHealthProbeScoreEnabled() || margin <= 0) {
+            return false;
+        }
+        final double score = healthProbe.score();
+        final OptionalDouble best = candidateScores.bestPeer();
+        if (best.isEmpty() || best.getAsDouble() < score + margin) {
+            outscoredSince.set(null);
+            return false;
+        }
+        final Instant now = clock.instant();
+        final Instant witness = outscoredSince.compareAndExchange(null, now);
+        final Instant since = (witness == null) ? now : witness;
+        final Duration yieldAfter = electorProperties.getHealthProbeScoreYieldAfter();
+        if (Duration
+                    .between(since, now)
+                    .compareTo(yieldAfter) < 0) {
+            log.info("A peer scores {} against this leader's {}; yielding '{}' if that lasts {}",
+                     best.getAsDouble(),
+                     score,
+                     electorProperties.getLockName(),
+                     yieldAfter);
+            return false;
+        }
+        log.warn("A peer has out-scored this leader ({} vs {}) for at least {}; yielding leadership of '{}'",
+                 best.getAsDouble(),
+                 score,
+                 yieldAfter,
+                 electorProperties.getLockName());
+        outscoredSince.set(null);
+        handleLockLost();
+        return true;
+    }
+
+    /**
+     * {@link HealthProbe}'s listener in {@code WATCH} mode, called on its watch thread when the
+     * status file turns unhealthy. A leader counts the failure right away on the scheduler thread
+     * instead of at its next renewal tick, so with {@code healthProbeFailureThreshold=1} it
+     * relinquishes as soon as the file is written. A follower needs nothing here: its next
+     * {@link #lockLoop} reads the new verdict.
+     */
+    private void onHealthProbeTurnedUnhealthy() {
+        try {
+            taskScheduler.execute(() -> {
+                if (running.get() && lock.get() != null) {
+                    relinquishedAsUnhealthy();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            log.warn("Could not queue health check after the probe turned unhealthy; the next renewal checks instead", e);
+        }
+    }
+
     /**
      * Renews the lock, retrying once immediately on failure before propagating. A single transient
      * Redis blip should not cost leadership outright: {@code renewDeadline} (60s default) leaves
@@ -384,9 +805,33 @@ public class ElectorService implements SmartLifecycle {
         }
     }
 
-    /** Extends the lock's Redis TTL by {@code leaseDuration}; throws on failure. */
+    /**
+     * Extends the lock's Redis TTL by {@code leaseDuration} and, on success, trusts ownership
+     * locally until that lease minus {@code ownershipSafetyMargin}, but never for longer than
+     * {@code renewDeadline} (see {@link #ownershipTrustWindow}); throws on failure. The lease is
+     * counted from before the call, so a slow round trip shortens the trusted window rather than
+     * stretching it past the real expiry. The window is kept on {@link #nanoClock}, not on
+     * {@link #clock}, so an NTP step cannot move it. The new expiry is published to
+     * {@link LeadershipStatus}, as degraded while the health probe is failing.
+     */
     private void renewLockOnce() {
-        lockRegistry.renewLock(electorProperties.getLockName(), electorProperties.getLeaseDuration());
+        final long sentAtNanos = nanoClock.getAsLong();
+        final Instant sentAt = clock.instant();
+        final ElectorEvents.LockRenewal event = new ElectorEvents.LockRenewal();
+        event.begin();
+        final long start = System.nanoTime();
+        try {
+            lockRegistry.renewLock(electorProperties.getLockName(), electorProperties.getLeaseDuration());
+        } catch (final RuntimeException e) {
+            metrics.renewal(false, System.nanoTime() - start);
+            event.finish(electorProperties.getLockName(), false);
+            throw e;
+        }
+        metrics.renewal(true, System.nanoTime() - start);
+        event.finish(electorProperties.getLockName(), true);
+        final Instant leaseExpiresAt = sentAt.plus(electorProperties.getLeaseDuration());
+        ownershipTrustedUntil.set(sentAtNanos + ownershipTrustWindow().toNanos());
+        leadershipStatus.leading(consecutiveProbeFailures.get() > 0, leaseExpiresAt);
         log.debug("Lock TTL extended by {} seconds",
                   electorProperties
                           .getLeaseDuration()
@@ -394,11 +839,15 @@ public class ElectorService implements SmartLifecycle {
     }
 
     /**
-     * Re-confirms this pod still holds the Redis lock, and refreshes its lease as a side effect.
-     * {@code renewLock}'s Lua script only extends the key while Redis still maps it to THIS
-     * registry's client id, so a failure is a genuine Redis-side takeover signal that no local
-     * check could see. Also gates on {@code running} so a long reconcile cannot outlive
-     * {@code stop()}. See "Leader-Label Reconcile" in {@code docs/codebase/ARCHITECTURE.md}.
+     * Re-confirms this pod still holds the Redis lock. Within the window a successful renewal
+     * established (see {@link #renewLockOnce}) the answer is local: the key cannot expire, and
+     * Redis only hands an unexpired key to another client if it loses data, which no check short
+     * of a round trip could see either way. Once {@code ownershipSafetyMargin} of the lease is all
+     * that is left, it renews: {@code renewLock}'s Lua script only extends the key while Redis still
+     * maps it to THIS registry's client id, so a failure is a genuine takeover signal, and success
+     * refreshes both the lease and the window. Also gates on {@code running} so a long reconcile
+     * cannot outlive {@code stop()}. See "Leader-Label Reconcile" in
+     * {@code docs/codebase/ARCHITECTURE.md}.
      *
      * @return whether this pod's ownership of the lock was confirmed
      */
@@ -406,10 +855,23 @@ public class ElectorService implements SmartLifecycle {
         if (!running.get() || lock.get() == null) {
             return false;
         }
+        final ElectorEvents.OwnershipCheck event = new ElectorEvents.OwnershipCheck();
+        event.begin();
+        final long start = System.nanoTime();
+        if (ownershipTrusted()) {
+            metrics.ownershipTrusted(System.nanoTime() - start);
+            event.finish(electorProperties.getLockName(), "trusted");
+            return true;
+        }
         try {
-            lockRegistry.renewLock(electorProperties.getLockName(), electorProperties.getLeaseDuration());
+            renewLockOnce();
+            metrics.ownershipChecked(true, System.nanoTime() - start);
+            event.finish(electorProperties.getLockName(), "confirmed");
             return true;
         } catch (final Exception e) {
+            metrics.ownershipChecked(false, System.nanoTime() - start);
+            event.finish(electorProperties.getLockName(), "lost");
+            ownershipTrustedUntil.set(null);
             log.warn("Could not confirm Redis ownership of lock '{}' mid-reconcile; treating as lost",
                      electorProperties.getLockName(),
                      e);
@@ -417,13 +879,70 @@ public class ElectorService implements SmartLifecycle {
         }
     }
 
+    /**
+     * {@link #stillOwnsLock} for reconcile passes, which run on {@code reconcileExecutor}: answered
+     * on the calling thread while ownership is trusted locally, and otherwise handed to the
+     * scheduler thread, so every Redis lock call stays on that one thread. Gives up and returns
+     * {@code false} (halting the pass) if the scheduler cannot answer within
+     * {@link #OWNERSHIP_CHECK_TIMEOUT}.
+     */
+    private boolean stillOwnsLockFromReconcile() {
+        if (!running.get() || lock.get() == null) {
+            return false;
+        }
+        final ElectorEvents.OwnershipCheck event = new ElectorEvents.OwnershipCheck();
+        event.begin();
+        final long start = System.nanoTime();
+        if (ownershipTrusted()) {
+            metrics.ownershipTrusted(System.nanoTime() - start);
+            event.finish(electorProperties.getLockName(), "trusted");
+            return true;
+        }
+        final Callable<Boolean> check = this::stillOwnsLock;
+        try {
+            return taskScheduler
+                    .submit(check)
+                    .get(OWNERSHIP_CHECK_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread
+                    .currentThread()
+                    .interrupt();
+            return false;
+        } catch (final Exception e) {
+            log.warn("Could not confirm ownership of lock '{}' on the scheduler thread; halting reconcile",
+                     electorProperties.getLockName(),
+                     e);
+            return false;
+        }
+    }
+
+    /**
+     * How long a successful renewal vouches for ownership: the lease minus
+     * {@code ownershipSafetyMargin}, capped at {@code renewDeadline}. The cap bounds how long a key
+     * Redis lost (a failover to a lagging replica) goes unnoticed to one renewal period, the same
+     * as without the cache, rather than most of the lease.
+     */
+    private Duration ownershipTrustWindow() {
+        final Duration beforeMargin = electorProperties
+                .getLeaseDuration()
+                .minus(electorProperties.getOwnershipSafetyMargin());
+        final Duration renewDeadline = electorProperties.getRenewDeadline();
+        return beforeMargin.compareTo(renewDeadline) > 0 ? renewDeadline : beforeMargin;
+    }
+
+    /** @return whether the last successful renewal still vouches for ownership; see {@link #renewLockOnce} */
+    private boolean ownershipTrusted() {
+        final Long trustedUntil = ownershipTrustedUntil.get();
+        return trustedUntil != null && nanoClock.getAsLong() - trustedUntil < 0;
+    }
+
     /** Cancels renewal, releases the lock, notifies {@link LockCallbacks#onLockLost()}, and re-enters acquisition if still running. */
     private void handleLockLost() {
         cancelRefreshTask();
         releaseLockIfHeld();
         consecutiveProbeFailures.set(0);
 
-        callbacks.onLockLost();
+        clearLeaderLabelAfterRunningPass();
 
         if (running.get()) {
             log.info("Scheduling re-acquire of lock after loss");
@@ -431,6 +950,25 @@ public class ElectorService implements SmartLifecycle {
         }
     }
 
+    /**
+     * Runs {@link LockCallbacks#onLockLost()} on {@code reconcileExecutor}, behind any pass still in
+     * flight (which halts at its next ownership check, the lock now being released), so that
+     * pass's last {@code true} patch cannot land on top of the {@code false}. Skipped if this pod
+     * has led again by the time it runs. Runs inline if the executor refuses it.
+     */
+    private void clearLeaderLabelAfterRunningPass() {
+        try {
+            reconcileExecutor.execute(() -> {
+                if (lock.get() == null) {
+                    callbacks.onLockLost();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            log.warn("Could not queue leader-label clear; clearing inline", e);
+            callbacks.onLockLost();
+        }
+    }
+
     /** @return {@link Integer#MIN_VALUE} so this service starts as early as possible. */
     @Override
     public int getPhase() {
@@ -1,22 +1,36 @@
 package io.jaredbrown.k8s.leader.elector;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Decides whether this pod is fit to lead by reading a status file the application maintains.
@@ -26,28 +40,95 @@ import java.util.concurrent.TimeoutException;
  * reads it. A missing, stale, or non-healthy file is reported as unhealthy. When the probe is
  * disabled the pod is always considered healthy, so a probe-less elector is unchanged.
  *
- * <p><b>Writer contract:</b> {@link #isHealthy()} checks file type, readability, freshness, and
- * content in separate filesystem calls, not one atomic read. The writer must therefore write to a
- * temporary file in the same directory and atomically rename it into place (e.g.
- * {@code Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE)}), never write the target path
- * in place - otherwise this probe can observe a partially-written file and report a spurious,
- * transient "unhealthy".
+ * <p><b>Writer contract:</b> {@link #isHealthy()} takes file type and freshness from one
+ * {@code lstat}, then opens and reads the file - two filesystem calls, not one atomic read. The
+ * writer must therefore write to a temporary file in the same directory and atomically rename it
+ * into place (e.g. {@code Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE)}), never write
+ * the target path in place - otherwise this probe can observe a partially-written file and report
+ * a spurious, transient "unhealthy".
  *
- * <p>Only a regular file is accepted (never a symlink, FIFO, socket, device, or directory) and the
- * read is bounded by {@link #readTimeout} on a background thread, so neither a planted symlink nor
- * a FIFO swapped in mid-check can redirect or wedge the read. See "Health Status File" in
+ * <p>Only a regular file is accepted (never a symlink, FIFO, socket, device, or directory), the
+ * open refuses symlinks itself, and the read is bounded in both size and time
+ * ({@link #readTimeout}, on a background thread), so neither a planted symlink nor a FIFO swapped
+ * in mid-check can redirect or wedge the read. See "Health Status File" in
  * {@code docs/codebase/ARCHITECTURE.md}.
+ *
+ * <p>With {@link ElectorProperties.HealthProbeMode#WATCH}, the same checks run on a watch thread
+ * whenever the file changes (see {@link #startWatching}), and {@link #isHealthy()} returns the
+ * last verdict. With {@link ElectorProperties.HealthProbeMode#SOCKET} there is no file: the
+ * application pushes statuses and heartbeats over a Unix domain socket instead (see
+ * {@link HealthSocketListener}).
+ *
+ * <p>With {@code healthProbeScoreEnabled}, a healthy status may also carry a score, reported by
+ * {@link #score()}; see {@link ElectorProperties#isHealthProbeScoreEnabled()}.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class HealthProbe {
+    // WATCH mode: how long the watch thread goes without re-reading the file when no event arrives
+    // and no freshness deadline is due sooner. A safety net for filesystems that deliver no events.
+    private static final Duration WATCH_RESYNC_INTERVAL = Duration.ofSeconds(30);
+    // Idle limit for health socket connections when healthProbeMaxAge is zero (freshness disabled).
+    private static final Duration SOCKET_IDLE_TIMEOUT = Duration.ofMinutes(2);
+    // Upper bound on how much of the status file is read. Far above any sane healthy value; a
+    // file that fills it is reported unhealthy rather than read further.
+    private static final int MAX_CONTENT_BYTES = 4096;
+    // One per file-read thread, so a thread abandoned mid-read by a timeout never shares a buffer
+    // with its replacement.
+    private static final ThreadLocal<ByteBuffer> READ_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(MAX_CONTENT_BYTES));
+    // A healthy status without a score. Shared rather than boxed per read.
+    private static final Double NO_SCORE = 0.0;
+
     @Nonnull
     private final ElectorProperties electorProperties;
+    @Nonnull
+    private final ElectorMetrics metrics;
 
     private Duration readTimeout = Duration.ofSeconds(2);
 
     private volatile ExecutorService fileReadExecutor = newFileReadExecutor();
+    private volatile ReadTarget readTarget;
+    // POLL mode only: the score the last healthy read carried.
+    private volatile double polledScore;
+
+    // WATCH mode only: the last verdict, when it ages out, and what to tell when it turns unhealthy.
+    private volatile boolean watchedHealthy;
+    private volatile double watchedScore;
+    private volatile Instant watchedStaleAt;
+    private volatile Runnable unhealthyListener = () -> {
+    };
+    private WatchService watchService;
+    private Thread watchThread;
+    // SOCKET mode only: the listener and the last status pushed to it; null until the first one.
+    private HealthSocketListener socketListener;
+    private final AtomicReference<PushedStatus> pushedStatus = new AtomicReference<>();
+
+    /**
+     * What {@link #probe} reads, resolved once rather than per call: the parsed path, the healthy
+     * content pre-encoded as UTF-8, and the content-check task handed to the file-read thread.
+     */
+    private record ReadTarget(String filePath, String healthyContent, boolean scored, Path path,
+                              Callable<Double> read) {
+        private static ReadTarget of(final String filePath, final String healthyContent, final boolean scored) {
+            final Path path = Path.of(filePath);
+            final byte[] expected = healthyContent == null ? null : healthyContent.getBytes(StandardCharsets.UTF_8);
+            return new ReadTarget(filePath, healthyContent, scored, path, () -> readScore(path, expected, scored));
+        }
+    }
+
+    /** The last status pushed over the health socket, its score if healthy, and when it arrived. */
+    private record PushedStatus(boolean healthy, double score, Instant at) {
+    }
+
+    /**
+     * Outcome of one full read: whether the file says healthy and, if so, its score and when its
+     * mtime ages out.
+     */
+    private record Verdict(boolean healthy, double score, Instant staleAt) {
+        private static final Verdict UNHEALTHY = new Verdict(false, 0, null);
+    }
 
     /** @return the executor dedicated to the bounded read described in this class's read-timeout note */
     private static ExecutorService newFileReadExecutor() {
@@ -58,20 +139,125 @@ public class HealthProbe {
         });
     }
 
+    /** Starts the watch thread or the socket listener, if the configured mode has one. */
+    @PostConstruct
+    void start() {
+        if (!electorProperties.isHealthProbeEnabled()) {
+            return;
+        }
+        if (electorProperties.getHealthProbeMode() == ElectorProperties.HealthProbeMode.WATCH) {
+            startWatching();
+        } else if (electorProperties.getHealthProbeMode() == ElectorProperties.HealthProbeMode.SOCKET) {
+            startListening();
+        }
+    }
+
+    /**
+     * In {@link ElectorProperties.HealthProbeMode#WATCH} mode, reads the file once so the first
+     * {@link #isHealthy()} is already accurate, then starts the watch thread. Fails startup if the
+     * file's directory cannot be watched (e.g. it does not exist), rather than quietly reporting
+     * unhealthy forever.
+     */
+    void startWatching() {
+        if (!electorProperties.isHealthProbeEnabled()
+            || electorProperties.getHealthProbeMode() != ElectorProperties.HealthProbeMode.WATCH) {
+            return;
+        }
+        final String filePath = electorProperties.getHealthProbeFilePath();
+        if (filePath == null || filePath.isBlank()) {
+            // isHealthy() reports this on every call.
+            return;
+        }
+        final Path path = Path
+                .of(filePath)
+                .toAbsolutePath();
+        try {
+            watchService = path
+                    .getFileSystem()
+                    .newWatchService();
+            path
+                    .getParent()
+                    .register(watchService,
+                              StandardWatchEventKinds.ENTRY_CREATE,
+                              StandardWatchEventKinds.ENTRY_MODIFY,
+                              StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Cannot watch the directory of health status file " + filePath, e);
+        }
+        evaluate(filePath);
+        watchThread = new Thread(() -> watchLoop(path, filePath), "health-probe-watch");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    /**
+     * In {@link ElectorProperties.HealthProbeMode#SOCKET} mode, listens on
+     * {@code healthProbeSocketPath} for pushed statuses; see {@link HealthSocketListener}. Until the
+     * first status arrives this pod reports unhealthy. A connection that sends nothing for
+     * {@code healthProbeMaxAge} is closed. Fails startup if the path is unset or the
+     * socket cannot be bound.
+     */
+    private void startListening() {
+        final String socketPath = electorProperties.getHealthProbeSocketPath();
+        if (socketPath == null || socketPath.isBlank()) {
+            throw new IllegalStateException("elector.healthProbeMode=SOCKET requires elector.healthProbeSocketPath");
+        }
+        // A connection silent for longer than healthProbeMaxAge is not keeping this pod healthy
+        // anyway, so it can give its slot up.
+        final Duration maxAge = electorProperties.getHealthProbeMaxAge();
+        socketListener = new HealthSocketListener(Path.of(socketPath),
+                                                  this::onPushedStatus,
+                                                  maxAge.isZero() ? SOCKET_IDLE_TIMEOUT : maxAge);
+        try {
+            socketListener.start();
+        } catch (final IOException e) {
+            throw new IllegalStateException("Cannot listen on health socket " + socketPath, e);
+        }
+        log.info("Listening for health status on {}", socketPath);
+    }
+
     @PreDestroy
     void shutdown() {
         fileReadExecutor.shutdownNow();
+        if (socketListener != null) {
+            socketListener.stop();
+        }
+        if (watchThread != null) {
+            watchThread.interrupt();
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (final IOException e) {
+                log.debug("Failed to close health status file watch", e);
+            }
+        }
+    }
+
+    /**
+     * Registers what to run when the {@link ElectorProperties.HealthProbeMode#WATCH} or
+     * {@link ElectorProperties.HealthProbeMode#SOCKET} verdict turns from healthy to unhealthy.
+     * Runs on the watch or socket thread, so it must hand off rather than block. Never called in
+     * {@code POLL} mode.
+     */
+    public void setUnhealthyListener(@Nonnull final Runnable listener) {
+        unhealthyListener = listener;
     }
 
     /**
      * @return {@code true} if probing is disabled, or the status file exists, is fresh enough, and
      * its trimmed content matches the configured healthy value. Never throws — any problem reading
-     * the file is reported as unhealthy so callers can treat it as a simple boolean gate.
+     * the file is reported as unhealthy so callers can treat it as a simple boolean gate. In
+     * {@code WATCH} mode, the watch thread's last verdict; in {@code SOCKET} mode, see
+     * {@link #pushedHealthy()}.
      */
     public boolean isHealthy() {
         if (!electorProperties.isHealthProbeEnabled()) {
             return true;
         }
+        if (electorProperties.getHealthProbeMode() == ElectorProperties.HealthProbeMode.SOCKET) {
+            return pushedHealthy();
+        }
 
         final String filePath = electorProperties.getHealthProbeFilePath();
         if (filePath == null || filePath.isBlank()) {
@@ -79,22 +265,196 @@ public class HealthProbe {
             return false;
         }
 
-        final Path path = Path.of(filePath);
-        try {
-            if (!Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS)) {
-                log.warn("Health status file {} is missing or not a regular file; reporting unhealthy", filePath);
-                return false;
+        if (electorProperties.getHealthProbeMode() == ElectorProperties.HealthProbeMode.WATCH) {
+            return watchedHealthy;
+        }
+        final Verdict verdict = probe(readTarget(filePath));
+        polledScore = verdict.score();
+        return verdict.healthy();
+    }
+
+    /**
+     * @return the score the status carried as of the last {@link #isHealthy()} in {@code POLL}
+     * mode, or as last read or pushed in {@code WATCH} and {@code SOCKET} modes; {@code 0} when it
+     * was unhealthy or carried no score, and always {@code 0} unless {@code healthProbeScoreEnabled}.
+     * A field read: never touches the file.
+     */
+    public double score() {
+        if (!electorProperties.isHealthProbeEnabled() || !electorProperties.isHealthProbeScoreEnabled()) {
+            return 0;
+        }
+        return switch (electorProperties.getHealthProbeMode()) {
+            case POLL -> polledScore;
+            case WATCH -> watchedScore;
+            case SOCKET -> {
+                final PushedStatus status = pushedStatus.get();
+                yield status == null ? 0 : status.score();
             }
+        };
+    }
+
+    /**
+     * The watch thread: re-reads the file on any event naming it (or on an event overflow), and
+     * otherwise wakes when the cached verdict's mtime is due to age out, or after
+     * {@link #WATCH_RESYNC_INTERVAL}. If the directory's watch is cancelled, it carries on with
+     * the timer alone.
+     */
+    private void watchLoop(final Path path, final String filePath) {
+        boolean watching = true;
+        while (!Thread
+                .currentThread()
+                .isInterrupted()) {
+            final WatchKey key;
+            try {
+                key = watchService.poll(untilNextCheck().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            if (key == null) {
+                evaluate(filePath);
+                continue;
+            }
+            final boolean relevant = key
+                    .pollEvents()
+                    .stream()
+                    .anyMatch(event -> event.kind() == StandardWatchEventKinds.OVERFLOW
+                                       || path
+                                               .getFileName()
+                                               .equals(event.context()));
+            if (relevant) {
+                evaluate(filePath);
+            }
+            if (watching && !key.reset()) {
+                watching = false;
+                log.warn("Watch on the directory of health status file {} was cancelled; re-reading it every {} instead",
+                         filePath,
+                         WATCH_RESYNC_INTERVAL);
+            }
+        }
+    }
+
+    /** @return how long the watch thread may sleep before the cached verdict needs re-checking */
+    private Duration untilNextCheck() {
+        final Instant staleAt = watchedStaleAt;
+        if (staleAt == null) {
+            return WATCH_RESYNC_INTERVAL;
+        }
+        // One millisecond past the deadline, so the re-read sees the file as stale, not just-fresh.
+        final Duration untilStale = Duration
+                .between(Instant.now(), staleAt)
+                .plusMillis(1);
+        if (untilStale.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilStale.compareTo(WATCH_RESYNC_INTERVAL) < 0 ? untilStale : WATCH_RESYNC_INTERVAL;
+    }
+
+    /** Re-reads the file into the cached verdict, telling the listener if it just turned unhealthy. */
+    private void evaluate(final String filePath) {
+        final Verdict verdict = probe(readTarget(filePath));
+        final boolean wasHealthy = watchedHealthy;
+        watchedStaleAt = verdict.staleAt();
+        watchedScore = verdict.score();
+        watchedHealthy = verdict.healthy();
+        if (wasHealthy && !verdict.healthy()) {
+            notifyUnhealthy();
+        }
+    }
+
+    /**
+     * Records one line pushed over the health socket: the status it carries, and a heartbeat. Tells
+     * the listener if it turns a healthy status unhealthy.
+     */
+    private void onPushedStatus(final String line) {
+        final Double score = lineScore(line.trim(),
+                                       electorProperties.getHealthProbeHealthyContent(),
+                                       electorProperties.isHealthProbeScoreEnabled());
+        final boolean healthy = score != null;
+        final PushedStatus previous = pushedStatus.getAndSet(new PushedStatus(healthy,
+                                                                              healthy ? score : 0,
+                                                                              Instant.now()));
+        if (previous != null && previous.healthy() && !healthy) {
+            notifyUnhealthy();
+        }
+    }
 
-            if (!Files.isReadable(path)) {
-                log.warn("Health status file {} is not readable; reporting unhealthy", filePath);
+    /**
+     * @return whether the last pushed status was healthy and arrived within
+     * {@code healthProbeMaxAge} (zero disables the check), so an application that stops sending
+     * heartbeats reads as unhealthy like a file that stops being touched
+     */
+    private boolean pushedHealthy() {
+        final PushedStatus status = pushedStatus.get();
+        if (status == null) {
+            log.warn("No status pushed to health socket {} yet; reporting unhealthy",
+                     electorProperties.getHealthProbeSocketPath());
+            return false;
+        }
+        if (!status.healthy()) {
+            log.warn("Last status pushed to health socket {} did not match the configured healthy value; "
+                     + "reporting unhealthy", electorProperties.getHealthProbeSocketPath());
+            return false;
+        }
+        final Duration maxAge = electorProperties.getHealthProbeMaxAge();
+        if (maxAge != null && !maxAge.isZero() && !maxAge.isNegative()) {
+            final Duration age = Duration.between(status.at(), Instant.now());
+            if (age.compareTo(maxAge) > 0) {
+                log.warn("No heartbeat on health socket {} for {} (max {}); reporting unhealthy",
+                         electorProperties.getHealthProbeSocketPath(),
+                         age,
+                         maxAge);
                 return false;
             }
+        }
+        return true;
+    }
+
+    private void notifyUnhealthy() {
+        try {
+            unhealthyListener.run();
+        } catch (final RuntimeException e) {
+            log.error("Health probe unhealthy listener failed", e);
+        }
+    }
+
+    /** {@link #read}, timed into {@link ElectorMetrics} and recorded as an {@link ElectorEvents.HealthProbeRead}. */
+    private Verdict probe(final ReadTarget target) {
+        final ElectorEvents.HealthProbeRead event = new ElectorEvents.HealthProbeRead();
+        event.begin();
+        final long start = System.nanoTime();
+        final Verdict verdict = read(target);
+        metrics.probeRead(verdict.healthy(), System.nanoTime() - start);
+        event.finish(target.filePath(), verdict.healthy(), verdict.score());
+        return verdict;
+    }
 
+    /**
+     * One full, bounded read of the status file; see the class doc. Never throws.
+     *
+     * <p>Type and mtime come from a single {@code lstat} ({@code readAttributes} with
+     * {@code NOFOLLOW_LINKS}); readability is left to the open itself. The content check then
+     * runs on {@link #fileReadExecutor} as {@link ReadTarget#read}.
+     */
+    private Verdict read(final ReadTarget target) {
+        final String filePath = target.filePath();
+        try {
+            final BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(target.path(), BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (final NoSuchFileException e) {
+                log.warn("Health status file {} is missing or not a regular file; reporting unhealthy", filePath);
+                return Verdict.UNHEALTHY;
+            }
+            if (!attributes.isRegularFile()) {
+                log.warn("Health status file {} is missing or not a regular file; reporting unhealthy", filePath);
+                return Verdict.UNHEALTHY;
+            }
+
+            Instant staleAt = null;
             final Duration maxAge = electorProperties.getHealthProbeMaxAge();
             if (maxAge != null && !maxAge.isZero() && !maxAge.isNegative()) {
-                final Instant modified = Files
-                        .getLastModifiedTime(path)
+                final Instant modified = attributes
+                        .lastModifiedTime()
                         .toInstant();
                 final Duration age = Duration.between(modified, Instant.now());
                 if (age.compareTo(maxAge) > 0) {
@@ -102,16 +462,16 @@ public class HealthProbe {
                              filePath,
                              age,
                              maxAge);
-                    return false;
+                    return Verdict.UNHEALTHY;
                 }
+                staleAt = modified.plus(maxAge);
             }
 
-            final String content;
+            final Double score;
             try {
-                content = fileReadExecutor
-                        .submit(() -> Files.readString(path))
-                        .get(readTimeout.toMillis(), TimeUnit.MILLISECONDS)
-                        .trim();
+                score = fileReadExecutor
+                        .submit(target.read())
+                        .get(readTimeout.toMillis(), TimeUnit.MILLISECONDS);
             } catch (final TimeoutException e) {
                 // The submitted task is likely still blocked forever (e.g. an unopened FIFO) and
                 // this executor's single thread can never run anything else. Replace it so the next
@@ -122,27 +482,123 @@ public class HealthProbe {
                 log.error("Timed out after {} reading health status file {}; reporting unhealthy",
                           readTimeout,
                           filePath);
-                return false;
+                return Verdict.UNHEALTHY;
             } catch (final ExecutionException e) {
                 log.error("Failed to read health status file {}; reporting unhealthy", filePath, e.getCause());
-                return false;
+                return Verdict.UNHEALTHY;
             } catch (final InterruptedException e) {
                 Thread
                         .currentThread()
                         .interrupt();
                 log.error("Interrupted while reading health status file {}; reporting unhealthy", filePath);
-                return false;
+                return Verdict.UNHEALTHY;
             }
 
-            final boolean healthy = content.equals(electorProperties.getHealthProbeHealthyContent());
-            if (!healthy) {
+            if (score == null) {
                 log.warn("Health status file {} content did not match the configured healthy value; "
                          + "reporting unhealthy", filePath);
+                return Verdict.UNHEALTHY;
             }
-            return healthy;
+            return new Verdict(true, score, staleAt);
         } catch (final IOException e) {
             log.error("Failed to read health status file {}; reporting unhealthy", filePath, e);
-            return false;
+            return Verdict.UNHEALTHY;
+        }
+    }
+
+    /** @return the cached {@link ReadTarget}, rebuilt only if the configured path or content changed */
+    private ReadTarget readTarget(final String filePath) {
+        final String healthyContent = electorProperties.getHealthProbeHealthyContent();
+        final boolean scored = electorProperties.isHealthProbeScoreEnabled();
+        final ReadTarget cached = readTarget;
+        if (cached != null && cached
+                .filePath()
+                .equals(filePath) && Objects.equals(cached.healthyContent(), healthyContent)
+            && cached.scored() == scored) {
+            return cached;
+        }
+        final ReadTarget target = ReadTarget.of(filePath, healthyContent, scored);
+        readTarget = target;
+        return target;
+    }
+
+    /**
+     * Runs on the file-read thread: opens the file with {@code O_NOFOLLOW}, so a symlink renamed in
+     * after {@link #read}'s {@code lstat} fails the open instead of being followed, and reads at
+     * most {@link #MAX_CONTENT_BYTES} into that thread's reused direct buffer. Compares the trimmed
+     * bytes with the pre-encoded healthy content; trimming drops bytes up to {@code 0x20}, as
+     * {@link String#trim()} does for the decoded text. When {@code scored}, content may go on past
+     * the healthy value with whitespace and a score; only then is anything decoded.
+     *
+     * @return the score if the content is healthy ({@link #NO_SCORE} without one); {@code null}
+     * if it is not, including a file that fills the buffer
+     */
+    private static Double readScore(final Path path, final byte[] expected, final boolean scored) throws IOException {
+        if (expected == null) {
+            return null;
+        }
+        final ByteBuffer buffer = READ_BUFFER.get();
+        buffer.clear();
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, LinkOption.NOFOLLOW_LINKS)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until EOF or a full buffer.
+            }
+        }
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+        int start = 0;
+        int end = buffer.position();
+        while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        if (end - start < expected.length) {
+            return null;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(start + i) != expected[i]) {
+                return null;
+            }
+        }
+        if (end - start == expected.length) {
+            return NO_SCORE;
+        }
+        if (!scored || (buffer.get(start + expected.length) & 0xFF) > ' ') {
+            return null;
+        }
+        final byte[] suffix = new byte[end - start - expected.length];
+        buffer.get(start + expected.length, suffix);
+        return parseScore(new String(suffix, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * {@link #readScore} for a line pushed over the health socket, already trimmed.
+     *
+     * @return the score if the line is healthy ({@link #NO_SCORE} without one); {@code null} if not
+     */
+    private static Double lineScore(final String line, final String healthyContent, final boolean scored) {
+        if (healthyContent == null || !line.startsWith(healthyContent)) {
+            return null;
+        }
+        if (line.length() == healthyContent.length()) {
+            return NO_SCORE;
+        }
+        if (!scored || line.charAt(healthyContent.length()) > ' ') {
+            return null;
+        }
+        return parseScore(line.substring(healthyContent.length()));
+    }
+
+    /** @return the score written after the healthy value, or {@code null} unless it is a number from 0 to 1 */
+    private static Double parseScore(final String text) {
+        try {
+            final double score = Double.parseDouble(text.trim());
+            return score >= 0 && score <= 1 ? score : null;
+        } catch (final NumberFormatException e) {
+            return null;
         }
     }
 }
@@ -0,0 +1,201 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The Unix domain socket {@link HealthProbe} listens on in
+ * {@link ElectorProperties.HealthProbeMode#SOCKET} mode. The application connects and writes one
+ * status per line, in the same format as the status file; every line, repeated or not, is also a
+ * heartbeat. Connections may stay open or reconnect per message.
+ *
+ * <p>Bounded against a misbehaving writer: at most {@link #MAX_CONNECTIONS} connections at once
+ * (further ones are closed on accept), a line longer than {@link #MAX_LINE_BYTES} closes its
+ * connection, and so does sending nothing for {@code idleTimeout}, so clients that connect and go
+ * quiet cannot hold every slot. Each connection is read on its own virtual thread.
+ */
+@Slf4j
+class HealthSocketListener {
+    static final int MAX_CONNECTIONS = 16;
+    static final int MAX_LINE_BYTES = 4096;
+    // The file-type bits of st_mode, and their value for a socket (S_IFMT and S_IFSOCK).
+    private static final int FILE_TYPE_MASK = 0170000;
+    private static final int SOCKET_FILE_TYPE = 0140000;
+
+    private final Path socketPath;
+    private final Consumer<String> onLine;
+    private final Duration idleTimeout;
+    private final Semaphore connectionSlots = new Semaphore(MAX_CONNECTIONS);
+    // Each open connection, with the System.nanoTime() it last sent anything (or was accepted).
+    private final Map<SocketChannel, Long> connections = new ConcurrentHashMap<>();
+    private final ExecutorService connectionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService idleReaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "health-socket-idle");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ServerSocketChannel server;
+    private Thread acceptThread;
+
+    /**
+     * @param idleTimeout how long a connection may send nothing before it is closed; positive
+     */
+    HealthSocketListener(final Path socketPath, final Consumer<String> onLine, final Duration idleTimeout) {
+        this.socketPath = socketPath;
+        this.onLine = onLine;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Binds the socket and starts accepting. A socket file left at the path by an earlier run is
+     * replaced; anything else there (a regular file, directory, symlink, FIFO or device node) is
+     * not deleted, and fails startup instead.
+     *
+     * @throws IOException if the path holds something other than a socket, or the bind fails
+     */
+    void start() throws IOException {
+        try {
+            final int mode = (Integer) Files.getAttribute(socketPath, "unix:mode", LinkOption.NOFOLLOW_LINKS);
+            if ((mode & FILE_TYPE_MASK) != SOCKET_FILE_TYPE) {
+                throw new FileAlreadyExistsException(socketPath.toString(), null, "not a socket; refusing to replace it");
+            }
+            Files.delete(socketPath);
+        } catch (final NoSuchFileException e) {
+            // Nothing left over.
+        }
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socketPath));
+        acceptThread = new Thread(this::acceptLoop, "health-socket-accept");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+        final long sweepMillis = Math.max(1, idleTimeout.toMillis() / 2);
+        idleReaper.scheduleWithFixedDelay(this::closeIdleConnections, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** Stops accepting, closes open connections, and removes the socket file. */
+    void stop() {
+        try {
+            if (server != null) {
+                server.close();
+            }
+        } catch (final IOException e) {
+            log.debug("Failed to close health socket", e);
+        }
+        idleReaper.shutdownNow();
+        for (final SocketChannel connection : connections.keySet()) {
+            closeQuietly(connection);
+        }
+        connectionExecutor.shutdownNow();
+        try {
+            Files.deleteIfExists(socketPath);
+        } catch (final IOException e) {
+            log.debug("Failed to remove health socket file {}", socketPath, e);
+        }
+    }
+
+    private void acceptLoop() {
+        while (server.isOpen()) {
+            final SocketChannel connection;
+            try {
+                connection = server.accept();
+            } catch (final AsynchronousCloseException e) {
+                return;
+            } catch (final IOException e) {
+                log.error("Health socket accept failed; no longer listening on {}", socketPath, e);
+                return;
+            }
+            if (!connectionSlots.tryAcquire()) {
+                log.warn("Health socket {} already has {} connections; closing a new one", socketPath, MAX_CONNECTIONS);
+                closeQuietly(connection);
+                continue;
+            }
+            connections.put(connection, System.nanoTime());
+            connectionExecutor.execute(() -> {
+                try {
+                    readLines(connection);
+                } finally {
+                    connections.remove(connection);
+                    closeQuietly(connection);
+                    connectionSlots.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Closes every connection that has sent nothing for {@code idleTimeout}; its reader then sees
+     * the close and frees the slot. A blocking {@code SocketChannel} read has no timeout of its
+     * own, hence the sweep.
+     */
+    private void closeIdleConnections() {
+        final long now = System.nanoTime();
+        connections.forEach((connection, lastActive) -> {
+            if (now - lastActive >= idleTimeout.toNanos()) {
+                log.warn("Health socket connection sent nothing for {}; closing it", idleTimeout);
+                closeQuietly(connection);
+            }
+        });
+    }
+
+    /**
+     * Hands each complete line to {@link #onLine} until the peer closes, a line overruns, or the
+     * connection is closed for idling.
+     */
+    private void readLines(final SocketChannel connection) {
+        final ByteBuffer buffer = ByteBuffer.allocate(MAX_LINE_BYTES);
+        try {
+            while (connection.read(buffer) >= 0) {
+                connections.replace(connection, System.nanoTime());
+                buffer.flip();
+                int lineStart = 0;
+                for (int i = 0; i < buffer.limit(); i++) {
+                    if (buffer.get(i) == '\n') {
+                        final byte[] line = new byte[i - lineStart];
+                        buffer.get(lineStart, line);
+                        onLine.accept(new String(line, StandardCharsets.UTF_8));
+                        lineStart = i + 1;
+                    }
+                }
+                buffer.position(lineStart);
+                buffer.compact();
+                if (!buffer.hasRemaining()) {
+                    log.warn("Health socket message longer than {} bytes; closing the connection", MAX_LINE_BYTES);
+                    return;
+                }
+            }
+        } catch (final IOException e) {
+            // The peer went away mid-read, or stop() or the idle sweep closed the connection.
+            log.debug("Health socket connection ended", e);
+        }
+    }
+
+    private static void closeQuietly(final SocketChannel connection) {
+        try {
+            connection.close();
+        } catch (final IOException e) {
+            log.debug("Failed to close health socket connection", e);
+        }
+    }
+}
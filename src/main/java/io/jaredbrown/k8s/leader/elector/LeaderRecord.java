@@ -0,0 +1,84 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import jakarta.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Remembers which pod last acquired the lock, in a plain Redis string next to the lock itself
+ * ({@code <lockName>-leader}), so a new leader knows whose {@code true} label to take away without
+ * walking every selected pod first. See "Failover Labeling" in {@code docs/codebase/ARCHITECTURE.md}.
+ *
+ * <p>Advisory only: the lock, not this record, decides who leads. A missing, stale, or unreadable
+ * record just means the new leader's full reconcile sweep finds the old leader instead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderRecord {
+    @Nonnull
+    private final StringRedisTemplate redisTemplate;
+    @Nonnull
+    private final ElectorProperties electorProperties;
+
+    // Same source and startup validation as LockCallbacks' copy; see validateSelfPodName there.
+    @Value("${POD_NAME}")
+    private String selfPodName;
+
+    // Set once SET ... GET has failed where GETSET then succeeded: a Redis older than 6.2, which
+    // rejects the GET option as a syntax error. Every later claim goes straight to GETSET.
+    private final AtomicBoolean setGetUnsupported = new AtomicBoolean(false);
+
+    /**
+     * Records this pod as the leader and returns who was recorded before, in one round trip
+     * ({@code SET ... GET}). No expiry: the key is a single small string per lock, overwritten by
+     * every acquisition, and an old value is harmless (see class doc). Never throws.
+     *
+     * <p>{@code SET ... GET} needs Redis 6.2. If it fails, the claim is retried once with
+     * {@code GETSET}, which older servers support and which does the same for a key without expiry;
+     * if that works, this pod uses {@code GETSET} from then on.
+     *
+     * @return the previously recorded leader's pod name; {@code null} if there was none, it was
+     * this pod, or Redis could not be reached
+     */
+    public String claim() {
+        try {
+            final String previous = setGetUnsupported.get() ? getSet() : setGetOrFallBack();
+            return selfPodName.equals(previous) ? null : previous;
+        } catch (final DataAccessException e) {
+            log.warn("Could not record leader in Redis; previous leader's label is left to the full reconcile", e);
+            return null;
+        }
+    }
+
+    private String setGetOrFallBack() {
+        try {
+            return redisTemplate
+                    .opsForValue()
+                    .setGet(key(), selfPodName, Expiration.persistent());
+        } catch (final DataAccessException e) {
+            final String previous = getSet();
+            setGetUnsupported.set(true);
+            log.info("Redis rejected SET ... GET (needs Redis 6.2+); recording the leader with GETSET instead", e);
+            return previous;
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private String getSet() {
+        return redisTemplate
+                .opsForValue()
+                .getAndSet(key(), selfPodName);
+    }
+
+    private String key() {
+        return electorProperties.getLockName() + "-leader";
+    }
+}
@@ -0,0 +1,170 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Mirrors {@link LeadershipStatus} into a small memory-mapped file at
+ * {@code elector.leadershipFilePath}, for co-located processes that check leadership too often for
+ * an HTTP round trip. They map the file once and read it with plain memory loads: no syscall per
+ * check. See "Leadership File" in {@code docs/codebase/ARCHITECTURE.md}.
+ *
+ * <p>Layout, {@link #SIZE} bytes, little-endian, every field naturally aligned:
+ *
+ * <pre>
+ *  offset  type   field
+ *   0      u32    magic, the bytes "LEAD"
+ *   4      u32    layout version, {@value #VERSION}
+ *   8      u64    sequence: odd while a write is in progress
+ *  16      u32    state: 0 follower, 1 leader, 2 degraded leader, 3 releasing
+ *  20      u32    reserved, 0
+ *  24      u64    epoch, bumped on every state change; never goes backwards, across restarts too
+ *  32      i64    lease expiry, epoch millis; 0 when not leading
+ *  40      i64    last write, epoch millis
+ *  48      -      reserved, 0
+ * </pre>
+ *
+ * <p>Written seqlock-style: the sequence goes odd, the fields change, and the sequence goes even
+ * again, with fences between. A reader loads the sequence, retries while it is odd, reads the
+ * fields, then loads the sequence again and retries if it moved. There is only one writer, the
+ * scheduler thread that publishes {@link LeadershipStatus}.
+ *
+ * <p>Eager despite {@code spring.main.lazy-initialization}: nothing injects it, so a lazy one would
+ * never be created and the file never written.
+ */
+@Slf4j
+@Lazy(false)
+@Component
+@RequiredArgsConstructor
+public class LeadershipFile {
+    static final int SIZE = 64;
+    static final int MAGIC = 0x4441454C;
+    static final int VERSION = 1;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int SEQUENCE_OFFSET = 8;
+    static final int STATE_OFFSET = 16;
+    static final int EPOCH_OFFSET = 24;
+    static final int LEASE_OFFSET = 32;
+    static final int UPDATED_OFFSET = 40;
+
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    @Nonnull
+    private final ElectorProperties electorProperties;
+    @Nonnull
+    private final LeadershipStatus leadershipStatus;
+    @Nonnull
+    private final Clock clock;
+
+    private MappedByteBuffer buffer;
+    // Last sequence written; even between writes. Only touched by the publishing thread.
+    private long sequence;
+    // Added to LeadershipStatus' epoch, which restarts at 0 with the process, so the file's epoch
+    // carries on from the one a previous run left behind.
+    private long epochBase;
+    private Disposable subscription;
+    private Disposable leaseListener;
+
+    /**
+     * Maps the file, creating it if needed, and starts mirroring {@link LeadershipStatus} into it,
+     * beginning with the current state. A file left by an earlier run is reused in place, not
+     * replaced, so readers that already mapped it keep seeing updates. Never follows a symlink.
+     * Fails startup if the file cannot be opened or mapped.
+     */
+    @PostConstruct
+    void open() {
+        final String filePath = electorProperties.getLeadershipFilePath();
+        if (filePath == null || filePath.isBlank()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(Path.of(filePath),
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE,
+                                                    LinkOption.NOFOLLOW_LINKS)) {
+            final boolean reused = channel.size() >= SIZE;
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SIZE);
+            if (reused && (int) INTS.get(buffer, MAGIC_OFFSET) == MAGIC && (int) INTS.get(buffer, VERSION_OFFSET) == VERSION) {
+                // Round an interrupted write's odd sequence up, and step past the old epoch: this
+                // run's first state is a change as far as a reader is concerned.
+                sequence = ((long) LONGS.getVolatile(buffer, SEQUENCE_OFFSET) + 1) & ~1L;
+                epochBase = (long) LONGS.get(buffer, EPOCH_OFFSET) + 1;
+            } else {
+                for (int offset = 0; offset < SIZE; offset += Long.BYTES) {
+                    LONGS.set(buffer, offset, 0L);
+                }
+                INTS.set(buffer, MAGIC_OFFSET, MAGIC);
+                INTS.set(buffer, VERSION_OFFSET, VERSION);
+            }
+        } catch (final IOException | UnsupportedOperationException e) {
+            throw new IllegalStateException("Cannot map leadership file " + filePath, e);
+        }
+        subscription = leadershipStatus
+                .updates()
+                .subscribe(this::write);
+        leaseListener = leadershipStatus.onLeaseExtended(this::writeLease);
+        log.info("Mirroring leadership state to {}", filePath);
+    }
+
+    @PreDestroy
+    void close() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        if (leaseListener != null) {
+            leaseListener.dispose();
+        }
+    }
+
+    private void write(final LeadershipStatus.Snapshot snapshot) {
+        final Instant leaseExpiresAt = snapshot.leaseExpiresAt();
+        LONGS.setOpaque(buffer, SEQUENCE_OFFSET, sequence + 1);
+        VarHandle.storeStoreFence();
+        INTS.set(buffer, STATE_OFFSET, stateCode(snapshot.state()));
+        LONGS.set(buffer, EPOCH_OFFSET, epochBase + snapshot.epoch());
+        LONGS.set(buffer, LEASE_OFFSET, leaseExpiresAt == null ? 0L : leaseExpiresAt.toEpochMilli());
+        LONGS.set(buffer, UPDATED_OFFSET, clock.millis());
+        sequence += 2;
+        LONGS.setRelease(buffer, SEQUENCE_OFFSET, sequence);
+    }
+
+    /** A renewal: same state and epoch, so only the lease expiry and the last write move. */
+    private void writeLease(final Instant leaseExpiresAt) {
+        LONGS.setOpaque(buffer, SEQUENCE_OFFSET, sequence + 1);
+        VarHandle.storeStoreFence();
+        LONGS.set(buffer, LEASE_OFFSET, leaseExpiresAt.toEpochMilli());
+        LONGS.set(buffer, UPDATED_OFFSET, clock.millis());
+        sequence += 2;
+        LONGS.setRelease(buffer, SEQUENCE_OFFSET, sequence);
+    }
+
+    // Spelled out rather than ordinal(): the codes are a published format, the enum is not.
+    private static int stateCode(final LeadershipStatus.State state) {
+        return switch (state) {
+            case FOLLOWER -> 0;
+            case LEADER -> 1;
+            case DEGRADED_LEADER -> 2;
+            case RELEASING -> 3;
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * This pod's authoritative leadership state, as {@link ElectorService} moves through it, for
+ * co-located processes that would otherwise poll the Kubernetes API for the pod's own label. Served
+ * over loopback HTTP by {@code status.LeadershipStatusController}; see "Leadership Status" in
+ * {@code docs/codebase/ARCHITECTURE.md}.
+ *
+ * <p>Written only by {@code ElectorService}, from the scheduler thread; read from anywhere. Every
+ * change of {@link State} bumps the {@code epoch}, so a reader that saw epoch {@code n} knows from
+ * any later value whether it missed a transition. A renewal moves the lease expiry without bumping
+ * the epoch, and without publishing: {@link #updates()} carries state changes only, each with the
+ * lease expiry as of that change, while {@link #current()} and {@link #onLeaseExtended} follow the
+ * lease as it is renewed.
+ */
+@Component
+public class LeadershipStatus {
+
+    /** Where this pod stands. */
+    public enum State {
+        /** Another pod leads, or none does; this pod must not act as leader. */
+        FOLLOWER,
+        /** This pod holds the lock and passes its health probe. */
+        LEADER,
+        /** This pod holds the lock but fails its health probe: a deadlock-grace leader, or one about to relinquish. */
+        DEGRADED_LEADER,
+        /** This pod is giving the lock up; leader work must stop now. {@link #FOLLOWER} follows. */
+        RELEASING
+    }
+
+    /**
+     * One published state.
+     *
+     * @param state          where this pod stands
+     * @param epoch          bumped on every change of {@code state}; starts at 0 as a follower
+     * @param leaseExpiresAt while leading, the latest instant the Redis lease is known to hold
+     *                       until, counted from before the call that set it; {@code null} otherwise
+     */
+    public record Snapshot(State state, long epoch, Instant leaseExpiresAt) {
+    }
+
+    private final Sinks.Many<Snapshot> updates = Sinks
+            .many()
+            .replay()
+            .latest();
+    private final List<Consumer<Instant>> leaseListeners = new CopyOnWriteArrayList<>();
+    // The last published snapshot; its lease expiry may trail leaseExpiresAt until current() is read.
+    private Snapshot current = new Snapshot(State.FOLLOWER, 0, null);
+    private Instant leaseExpiresAt;
+
+    public LeadershipStatus() {
+        updates.tryEmitNext(current);
+    }
+
+    /** @return the state right now, with the latest lease expiry */
+    public synchronized Snapshot current() {
+        if (current.leaseExpiresAt() != leaseExpiresAt) {
+            current = new Snapshot(current.state(), current.epoch(), leaseExpiresAt);
+        }
+        return current;
+    }
+
+    /** @return the current state, then every change of state; never completes */
+    public Flux<Snapshot> updates() {
+        return updates.asFlux();
+    }
+
+    /**
+     * Calls {@code listener} with the new expiry on every renewal that does not change the state;
+     * a renewal that does is published to {@link #updates()} instead. Called on the publishing
+     * thread.
+     *
+     * @return disposes the listener
+     */
+    public Disposable onLeaseExtended(final Consumer<Instant> listener) {
+        leaseListeners.add(listener);
+        return () -> leaseListeners.remove(listener);
+    }
+
+    /**
+     * Publishes that this pod leads, with its lease good until {@code leaseExpiresAt}. If it already
+     * did, in the same state, only the lease moves: no snapshot is built or published.
+     */
+    void leading(final boolean degraded, final Instant leaseExpiresAt) {
+        final State state = degraded ? State.DEGRADED_LEADER : State.LEADER;
+        synchronized (this) {
+            if (current.state() != state) {
+                publish(state, leaseExpiresAt);
+                return;
+            }
+            this.leaseExpiresAt = leaseExpiresAt;
+        }
+        for (final Consumer<Instant> listener : leaseListeners) {
+            listener.accept(leaseExpiresAt);
+        }
+    }
+
+    /** Publishes that this pod is about to release the lock. Keeps the lease expiry: it still holds until released. */
+    synchronized void releasing() {
+        publish(State.RELEASING, leaseExpiresAt);
+    }
+
+    /** Publishes that this pod does not lead. */
+    void following() {
+        publish(State.FOLLOWER, null);
+    }
+
+    // Every caller is on the scheduler thread today, but a Sinks.Many drops a concurrent emit
+    // rather than queueing it, so a publish from anywhere else must not race one from there.
+    private synchronized void publish(final State state, final Instant leaseExpiresAt) {
+        if (current.state() == state) {
+            return;
+        }
+        this.leaseExpiresAt = leaseExpiresAt;
+        current = new Snapshot(state, current.epoch() + 1, leaseExpiresAt);
+        updates.tryEmitNext(current);
+    }
+}
@@ -1,22 +1,45 @@
 package io.jaredbrown.k8s.leader.elector;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.LabelingMode;
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.ListConsistency;
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.ReconcileSource;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.net.HttpURLConnection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 
 /**
@@ -33,11 +56,22 @@ public class LockCallbacks {
     // inflated matching-pod count, keeping each individual list call small enough to stay well
     // inside K8sClientConfiguration's 2s request timeout regardless of total matching pod count.
     private static final long RECONCILE_LIST_PAGE_SIZE = 500;
+    // Field selector for ReconcileSource.SELECTOR's self/peer split; pods support it on every
+    // API server version this targets.
+    private static final String POD_NAME_FIELD = "metadata.name";
+    // ListConsistency.CACHED: "0" means any resourceVersion, which the API server serves from its
+    // watch cache; NotOlderThan states that explicitly.
+    private static final String ANY_RESOURCE_VERSION = "0";
+    private static final String NOT_OLDER_THAN = "NotOlderThan";
 
     @Nonnull
     private final ElectorProperties electorProperties;
     @Nonnull
     private final KubernetesClient kubernetesClient;
+    @Nonnull
+    private final Clock clock;
+    @Nonnull
+    private final ElectorMetrics metrics;
 
     // No default: POD_NAME identifies this pod for every label decision below, so a missing value
     // must fail context startup rather than silently compare every real pod name against a
@@ -46,6 +80,13 @@ public class LockCallbacks {
     @Value("${POD_NAME}")
     private String selfPodName;
 
+    // Non-null only while leading with ReconcileSource.INFORMER or driftWatchEnabled; see watchPods.
+    private final AtomicReference<SharedIndexInformer<Pod>> podInformer = new AtomicReference<>();
+    // Per-pod fight history for watch-triggered corrections; written by the informer's handler
+    // thread, pruned once an entry would reset anyway (see forgetQuietDriftFights), and cleared
+    // when the watch stops. See admitDriftCorrection.
+    private final Map<String, DriftFight> driftFights = new ConcurrentHashMap<>();
+
     /**
      * Fails startup if {@code POD_NAME} is blank.
      *
@@ -62,13 +103,29 @@ public class LockCallbacks {
     }
 
     /**
-     * Reconciles leader labels after acquiring the lock.
+     * Moves the leader label after acquiring the lock in at most two patches: self to {@code true},
+     * then {@code previousLeader} (if known) to {@code false}. Deliberately not a full reconcile —
+     * for a large selector that would leave the old leader holding {@code true}, and its Service
+     * traffic, until the sweep happened to reach it. {@code ElectorService} queues the full sweep
+     * right after, which fixes anything else (and anything these two patches missed).
      *
-     * @param stillLeader re-confirms leadership mid-reconcile; see {@link #reconcileLeaderLabels}
+     * @param stillLeader    re-confirms leadership once before patching; see
+     *                       {@link #reconcileLeaderLabels}
+     * @param previousLeader the pod {@link LeaderRecord#claim()} says held the lock before, or
+     *                       {@code null} if unknown
      */
-    public void onLockAcquired(final BooleanSupplier stillLeader) {
-        log.info("Lock acquired - reconciling leader labels across deployment");
-        reconcileLeaderLabels(stillLeader);
+    public void onLockAcquired(final BooleanSupplier stillLeader, final String previousLeader) {
+        log.info("Lock acquired - labeling self{}",
+                 previousLeader == null ? "" : " and clearing previous leader " + previousLeader);
+        if (!stillLeader.getAsBoolean()) {
+            log.warn("Skipping failover labeling: leadership no longer confirmed (leaderPod={})", selfPodName);
+            return;
+        }
+        final String namespace = kubernetesClient.getNamespace();
+        updatePodLeaderLabel(namespace, selfPodName, true);
+        if (previousLeader != null && !previousLeader.equals(selfPodName)) {
+            updatePodLeaderLabel(namespace, previousLeader, false);
+        }
     }
 
     /**
@@ -82,81 +139,475 @@ public class LockCallbacks {
      *
      * <p>Lists in pages of {@link #RECONCILE_LIST_PAGE_SIZE} and patches each page before fetching
      * the next, bounding both per-request time and peak memory against an inflated matching-pod
-     * count. See "Leader-Label Reconcile" in {@code docs/codebase/ARCHITECTURE.md}.
+     * count. With {@link ReconcileSource#INFORMER} and a synced informer (see {@link #watchPods})
+     * the pass diffs against the informer's cache instead and issues no list at all; with
+     * {@link ReconcileSource#SELECTOR} it lists only drifted pods (self, then peers). With
+     * {@link LabelingMode#SELF} it only reconciles this pod's own label. See
+     * "Leader-Label Reconcile" in {@code docs/codebase/ARCHITECTURE.md}.
      *
      * @param stillLeader re-confirms leadership Redis-side (see {@code
-     *                    ElectorService#stillOwnsLock}) before mutating each drifted pod and before
-     *                    fetching another page, so a reconcile that outlives the lease stops
-     *                    instead of stamping stale labels over the new leader's
+     *                    ElectorService#stillOwnsLock}) before mutating each drifted pod (each batch,
+     *                    with {@code reconcilePatchConcurrency} above 1) and before fetching another
+     *                    page, so a reconcile that outlives the lease stops instead of stamping
+     *                    stale labels over the new leader's. Always invoked on the calling thread.
      */
     public void reconcileLeaderLabels(final BooleanSupplier stillLeader) {
+        final long start = System.nanoTime();
+        forgetQuietDriftFights(clock.instant());
+        if (electorProperties.getLabelingMode() == LabelingMode.SELF) {
+            metrics.reconcilePass(reconcileOwnLabel(true, stillLeader) ? 1 : 0, System.nanoTime() - start);
+            return;
+        }
+        final String namespace = kubernetesClient.getNamespace();
+        final ReconcileTally tally = new ReconcileTally();
+        final SharedIndexInformer<Pod> informer = podInformer.get();
+        if (electorProperties.getReconcileSource() == ReconcileSource.INFORMER && informer != null && informer.hasSynced()) {
+            final ElectorEvents.ReconcilePage event = new ElectorEvents.ReconcilePage();
+            event.begin();
+            final int updatedBefore = tally.updated;
+            final int failuresBefore = tally.failures;
+            final List<Pod> pods = informer
+                    .getStore()
+                    .list();
+            reconcilePods(namespace, pods, stillLeader, tally);
+            event.finish(electorProperties.getLockName(),
+                         ReconcileSource.INFORMER.name(),
+                         pods.size(),
+                         tally.updated - updatedBefore,
+                         tally.failures - failuresBefore,
+                         false);
+        } else if (electorProperties.getReconcileSource() == ReconcileSource.SELECTOR) {
+            // Self first: a missing true on the leader matters more than a stale true on a peer.
+            if (reconcileListedPods(namespace, driftedSelf(namespace), stillLeader, tally)) {
+                reconcileListedPods(namespace, driftedPeers(namespace), stillLeader, tally);
+            }
+        } else {
+            reconcileListedPods(namespace, selectedPods(namespace), stillLeader, tally);
+        }
+        metrics.reconcilePass(tally.updated, System.nanoTime() - start);
+        if (tally.updated > 0 || tally.failures > 0) {
+            log.info("Reconciled leader labels: {} updated, {} failed ({} pods total, leaderPod={})",
+                     tally.updated,
+                     tally.failures,
+                     tally.total,
+                     selfPodName);
+        }
+    }
+
+    /**
+     * {@link LabelingMode#SELF}'s whole reconcile: the follower side of it, for {@code
+     * ElectorService} to call while another pod leads. Puts this pod's label back to {@code false}
+     * if someone set it otherwise. Never throws.
+     */
+    public void reconcileFollowerLabel() {
+        reconcileOwnLabel(false, () -> true);
+    }
+
+    /**
+     * Reads this pod and patches its label to {@code isLeader} only if it differs, re-confirming
+     * leadership first when patching to {@code true}. One GET per call in steady state, regardless
+     * of how many pods the selector matches. Never throws: a failure is logged and the next call
+     * retries.
+     *
+     * @return whether the label was patched
+     */
+    private boolean reconcileOwnLabel(final boolean isLeader, final BooleanSupplier stillLeader) {
         final String namespace = kubernetesClient.getNamespace();
         try {
-            int updated = 0;
-            int failures = 0;
-            int total = 0;
+            final Pod self = kubernetesClient
+                    .pods()
+                    .inNamespace(namespace)
+                    .withName(selfPodName)
+                    .get();
+            if (self == null) {
+                log.warn("Pod {} not found while reconciling its own leader label", selfPodName);
+                return false;
+            }
+            if (!needsLabelUpdate(self, isLeader)) {
+                return false;
+            }
+        } catch (final KubernetesClientException e) {
+            log.warn("Failed to read pod {} while reconciling its own leader label; will retry", selfPodName, e);
+            return false;
+        }
+        if (isLeader && !stillLeader.getAsBoolean()) {
+            log.warn("Halting leader-label reconcile: leadership no longer confirmed (was leaderPod={})", selfPodName);
+            return false;
+        }
+        if (updatePodLeaderLabel(namespace, selfPodName, isLeader)) {
+            log.info("Corrected own leader label to {} (pod={})", isLeader, selfPodName);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Lists {@code query} in pages of {@link #RECONCILE_LIST_PAGE_SIZE} and reconciles each page
+     * before fetching the next. Never throws: a failed list is logged and left to the next pass.
+     *
+     * @return {@code false} if leadership could not be confirmed and the pass must stop
+     */
+    private boolean reconcileListedPods(final String namespace,
+                                        final FilterWatchListDeletable<Pod, PodList, PodResource> query,
+                                        final BooleanSupplier stillLeader,
+                                        final ReconcileTally tally) {
+        try {
             String continueToken = null;
             do {
-                final PodList page = kubernetesClient
-                        .pods()
-                        .inNamespace(namespace)
-                        .withLabel(electorProperties.getSelectorLabelKey(), electorProperties.getSelectorLabelValue())
-                        .list(new ListOptionsBuilder()
-                                      .withLimit(RECONCILE_LIST_PAGE_SIZE)
-                                      .withContinue(continueToken)
-                                      .build());
-
-                for (final Pod pod : page.getItems()) {
-                    total++;
-                    final String podName = pod
-                            .getMetadata()
-                            .getName();
-                    final boolean isLeader = podName.equals(selfPodName);
-
-                    if (!needsLabelUpdate(pod, isLeader)) {
-                        continue;
-                    }
-                    if (!stillLeader.getAsBoolean()) {
-                        log.warn("Halting leader-label reconcile: leadership no longer confirmed " +
-                                 "(was leaderPod={}, {} pods updated before ownership was lost)",
-                                 selfPodName,
-                                 updated);
-                        return;
-                    }
-                    if (updatePodLeaderLabel(namespace, podName, isLeader)) {
-                        updated++;
-                    } else {
-                        failures++;
-                    }
-                }
+                final ElectorEvents.ReconcilePage event = new ElectorEvents.ReconcilePage();
+                event.begin();
+                final int updatedBefore = tally.updated;
+                final int failuresBefore = tally.failures;
+                final PartialObjectMetadataList page = query.listAsPartialObjectMetadata(listOptions(continueToken));
 
+                final boolean confirmed = reconcilePods(namespace, page.getItems(), stillLeader, tally);
                 continueToken = page
                         .getMetadata()
                         .getContinue();
+                event.finish(electorProperties.getLockName(),
+                             String.valueOf(electorProperties.getReconcileSource()),
+                             page
+                                     .getItems()
+                                     .size(),
+                             tally.updated - updatedBefore,
+                             tally.failures - failuresBefore,
+                             StringUtils.hasText(continueToken));
+                if (!confirmed) {
+                    return false;
+                }
+
                 if (StringUtils.hasText(continueToken) && !stillLeader.getAsBoolean()) {
                     log.warn("Halting leader-label reconcile: leadership no longer confirmed before fetching " +
-                             "next page ({} pods updated so far)", updated);
-                    return;
+                             "next page ({} pods updated so far)", tally.updated);
+                    return false;
                 }
             } while (StringUtils.hasText(continueToken));
-
-            if (updated > 0 || failures > 0) {
-                log.info("Reconciled leader labels: {} updated, {} failed ({} pods total, leaderPod={})",
-                         updated,
-                         failures,
-                         total,
-                         selfPodName);
-            }
         } catch (final KubernetesClientException e) {
             log.error("Failed to list pods while reconciling leader labels; will retry on next reconcile", e);
         }
+        return true;
+    }
+
+    /**
+     * @return options for one reconcile page. With {@link ListConsistency#CACHED}, the first page
+     * asks for {@code resourceVersion=0} / {@code NotOlderThan} so the API server may answer from
+     * its watch cache instead of a quorum read through to etcd; continuation pages carry only the
+     * token, since the API server rejects a resourceVersion alongside {@code continue} (the token
+     * already pins the snapshot). The watch cache may also ignore {@code limit} and return every
+     * match in one response with no token, which the pagination loop handles as a single page.
+     */
+    private ListOptions listOptions(final String continueToken) {
+        final ListOptionsBuilder options = new ListOptionsBuilder()
+                .withLimit(RECONCILE_LIST_PAGE_SIZE)
+                .withContinue(continueToken);
+        if (continueToken == null && electorProperties.getReconcileListConsistency() == ListConsistency.CACHED) {
+            options
+                    .withResourceVersion(ANY_RESOURCE_VERSION)
+                    .withResourceVersionMatch(NOT_OLDER_THAN);
+        }
+        return options.build();
+    }
+
+    /**
+     * Patches every pod in {@code pods} whose label has drifted, in batches of
+     * {@code reconcilePatchConcurrency}, re-confirming leadership before each batch. A batch of one
+     * (the default) patches inline; a larger batch patches on virtual threads while this thread
+     * waits. Only the patches leave this thread: {@code stillLeader} (a Redis call) and the tally
+     * stay on the caller, so the single-scheduler-thread invariant for lock operations holds.
+     *
+     * @return {@code false} if leadership could not be confirmed and the pass must stop
+     */
+    private boolean reconcilePods(final String namespace,
+                                  final List<? extends HasMetadata> pods,
+                                  final BooleanSupplier stillLeader,
+                                  final ReconcileTally tally) {
+        final int batchSize = Math.max(1, electorProperties.getReconcilePatchConcurrency());
+        final List<HasMetadata> batch = new ArrayList<>(Math.min(batchSize, pods.size()));
+        for (final HasMetadata pod : pods) {
+            tally.total++;
+            if (!needsLabelUpdate(pod, isSelf(pod))) {
+                continue;
+            }
+            batch.add(pod);
+            if (batch.size() == batchSize && !patchBatch(namespace, batch, stillLeader, tally)) {
+                return false;
+            }
+        }
+        return batch.isEmpty() || patchBatch(namespace, batch, stillLeader, tally);
+    }
+
+    /**
+     * Confirms leadership, then patches and clears {@code batch}. A batch of more than one pod gets
+     * its own virtual-thread executor (each patch just waits on the API server, and the batch size
+     * already bounds concurrency), which is always shut down and drained before this returns. An
+     * interrupt (lock loss or shutdown) therefore cancels the patches still in flight and waits for
+     * them, so none lands after {@code onLockLost} or {@code onShutdown} has cleared the labels.
+     *
+     * @return {@code false} if leadership could not be confirmed (nothing in the batch is patched),
+     * or this thread was interrupted while waiting for the batch
+     */
+    private boolean patchBatch(final String namespace,
+                               final List<HasMetadata> batch,
+                               final BooleanSupplier stillLeader,
+                               final ReconcileTally tally) {
+        if (!stillLeader.getAsBoolean()) {
+            log.warn("Halting leader-label reconcile: leadership no longer confirmed " +
+                     "(was leaderPod={}, {} pods updated before ownership was lost)",
+                     selfPodName,
+                     tally.updated);
+            return false;
+        }
+        try {
+            if (batch.size() == 1) {
+                tally.record(updatePodLeaderLabel(namespace, batch.getFirst()));
+                return true;
+            }
+            return patchConcurrently(namespace, batch, tally);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private boolean patchConcurrently(final String namespace,
+                                      final List<HasMetadata> batch,
+                                      final ReconcileTally tally) {
+        final ExecutorService patchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            final List<Future<Boolean>> patches = new ArrayList<>(batch.size());
+            for (final HasMetadata pod : batch) {
+                patches.add(patchExecutor.submit(() -> updatePodLeaderLabel(namespace, pod)));
+            }
+            for (final Future<Boolean> patch : patches) {
+                tally.record(awaitPatch(patch));
+            }
+            return true;
+        } catch (final InterruptedException e) {
+            Thread
+                    .currentThread()
+                    .interrupt();
+            log.warn("Interrupted while patching leader labels; cancelling the rest of the batch and halting reconcile");
+            return false;
+        } finally {
+            // Interrupts whatever is still running (nothing, on the normal path), then waits for it
+            // to finish: close() keeps waiting through this thread's interrupt and restores it.
+            patchExecutor.shutdownNow();
+            patchExecutor.close();
+        }
+    }
+
+    /**
+     * @return the patch's result; {@code false} if it threw something other than the
+     * {@link KubernetesClientException} {@link #updatePodLeaderLabel} already handles. Bounded by
+     * {@code K8sClientConfiguration}'s request timeout, so no explicit wait limit is needed.
+     */
+    private static boolean awaitPatch(final Future<Boolean> patch) throws InterruptedException {
+        try {
+            return patch.get();
+        } catch (final ExecutionException e) {
+            log.warn("Leader-label patch failed unexpectedly", e.getCause());
+            return false;
+        }
+    }
+
+    private boolean isSelf(final HasMetadata pod) {
+        return selfPodName.equals(pod
+                                          .getMetadata()
+                                          .getName());
+    }
+
+    /** @return the pods this elector reconciles: {@code selectorLabelKey=selectorLabelValue} in {@code namespace} */
+    private FilterWatchListDeletable<Pod, PodList, PodResource> selectedPods(final String namespace) {
+        return kubernetesClient
+                .pods()
+                .inNamespace(namespace)
+                .withLabel(electorProperties.getSelectorLabelKey(), electorProperties.getSelectorLabelValue());
+    }
+
+    /**
+     * @return self, if selected and not labeled {@code true}; empty once self is correct. Together
+     * with {@link #driftedPeers} this is {@link ReconcileSource#SELECTOR}'s server-side equivalent
+     * of filtering {@link #selectedPods} through {@link #needsLabelUpdate}.
+     */
+    private FilterWatchListDeletable<Pod, PodList, PodResource> driftedSelf(final String namespace) {
+        return selectedPods(namespace)
+                .withField(POD_NAME_FIELD, selfPodName)
+                .withLabelNotIn(electorProperties.getLabelKey(), "true");
+    }
+
+    /**
+     * @return every selected pod other than self whose label is not {@code false}, including those
+     * missing it; empty in steady state
+     */
+    private FilterWatchListDeletable<Pod, PodList, PodResource> driftedPeers(final String namespace) {
+        return selectedPods(namespace)
+                .withoutField(POD_NAME_FIELD, selfPodName)
+                .withLabelNotIn(electorProperties.getLabelKey(), "false");
+    }
+
+    /**
+     * Starts a pod informer for {@link ReconcileSource#INFORMER} or {@code driftWatchEnabled}
+     * (no-op otherwise, with {@link LabelingMode#SELF}, or if one is already running). Called by
+     * {@code ElectorService} once it leads; stopped again by {@link #onLockLost()} and {@link #onShutdown()}.
+     *
+     * <p>The informer's handler never patches anything itself: handler threads are not the
+     * scheduler thread, and every patch must be preceded by a Redis ownership check that belongs
+     * there. It only calls {@code onDrift} when an added or updated pod carries the wrong label and
+     * {@link #admitDriftCorrection} lets it through, and {@code ElectorService} queues a reconcile
+     * pass in response — which reads this cache with {@link ReconcileSource#INFORMER}, and runs the
+     * configured list otherwise.
+     *
+     * @param onDrift requests an out-of-band reconcile; must be cheap and non-blocking
+     */
+    public void watchPods(final Runnable onDrift) {
+        if ((electorProperties.getReconcileSource() != ReconcileSource.INFORMER && !electorProperties.isDriftWatchEnabled()) ||
+            electorProperties.getLabelingMode() == LabelingMode.SELF ||
+            podInformer.get() != null) {
+            return;
+        }
+        final SharedIndexInformer<Pod> informer = selectedPods(kubernetesClient.getNamespace()).runnableInformer(0);
+        if (!podInformer.compareAndSet(null, informer)) {
+            return;
+        }
+        informer.addEventHandler(new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(final Pod pod) {
+                requestIfDrifted(pod);
+            }
+
+            @Override
+            public void onUpdate(final Pod oldPod, final Pod newPod) {
+                requestIfDrifted(newPod);
+            }
+
+            @Override
+            public void onDelete(final Pod pod, final boolean deletedFinalStateUnknown) {
+                // A deleted pod has no label left to correct, nor anyone left to fight with over it.
+                driftFights.remove(pod
+                                           .getMetadata()
+                                           .getName());
+            }
+
+            private void requestIfDrifted(final Pod pod) {
+                final String podName = pod
+                        .getMetadata()
+                        .getName();
+                if (!needsLabelUpdate(pod, isSelf(pod))) {
+                    correctionObserved(podName);
+                } else if (admitDriftCorrection(podName)) {
+                    onDrift.run();
+                }
+            }
+        });
+        log.info("Starting pod informer for {}={}",
+                 electorProperties.getSelectorLabelKey(),
+                 electorProperties.getSelectorLabelValue());
+        // start() returns once the watch is requested; until the initial list syncs, reconcile
+        // falls back to listing. The informer retries a dropped watch on its own.
+        informer
+                .start()
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        log.error("Pod informer failed to start; reconcile will keep listing pods", e);
+                    }
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stopWatchingPods();
+    }
+
+    /** Stops the pod informer started by {@link #watchPods}, if any. */
+    public void stopWatchingPods() {
+        final SharedIndexInformer<Pod> informer = podInformer.getAndSet(null);
+        if (informer != null) {
+            log.info("Stopping pod informer");
+            informer.stop();
+        }
+        driftFights.clear();
+    }
+
+    /**
+     * Damps watch-triggered corrections of {@code podName} so the leader does not get into a patch
+     * war with another writer (a human, a Helm upgrade, another controller) that keeps setting the
+     * label back. The first drift is always admitted. Once the watch has shown the correction
+     * applied (see {@link #correctionObserved}), a drift within {@code driftMaxCooldown} of the end
+     * of the last quiet period counts as a fight and opens a quiet period of {@code driftCooldown},
+     * doubling per fight up to {@code driftMaxCooldown}; drifts during it are not admitted and are
+     * left to the periodic renewal pass, which is never damped. Events for a pod that is still drifted because
+     * the correction has not landed yet (a status update, say) are admitted without counting, since
+     * the requested pass is coalesced with the one already queued. A pod left alone for
+     * {@code driftMaxCooldown} after its quiet period starts over, so a writer that waits out each
+     * cooldown keeps meeting the cap rather than an undamped correction.
+     *
+     * @return {@code true} if an immediate correction should be requested
+     */
+    boolean admitDriftCorrection(final String podName) {
+        final Instant now = clock.instant();
+        forgetQuietDriftFights(now);
+        final DriftFight previous = driftFights.get(podName);
+        if (previous != null && now.isBefore(previous.quietUntil)) {
+            log.debug("Leader label on {} drifted again during its cooldown; leaving it to the next renewal", podName);
+            return false;
+        }
+        if (previous != null && !previous.corrected) {
+            return true;
+        }
+        final Duration maxCooldown = electorProperties.getDriftMaxCooldown();
+        final int fights = previous != null ? previous.fights + 1 : 0;
+        Instant quietUntil = now;
+        if (fights > 0) {
+            final Duration cooldown = cooldownFor(fights, electorProperties.getDriftCooldown(), maxCooldown);
+            quietUntil = now.plus(cooldown);
+            log.warn("Leader label on {} keeps being overwritten (repeat #{}); correcting now, then holding off " +
+                     "immediate corrections for {}", podName, fights, cooldown);
+        }
+        driftFights.put(podName, new DriftFight(fights, quietUntil, false));
+        return true;
+    }
+
+    /**
+     * Notes that the watch saw {@code podName} correctly labeled after an admitted drift, so that
+     * the next drift is another writer undoing the correction rather than the same one still
+     * pending.
+     */
+    void correctionObserved(final String podName) {
+        driftFights.computeIfPresent(podName,
+                                     (name, fight) -> fight.corrected
+                                                      ? fight
+                                                      : new DriftFight(fight.fights, fight.quietUntil, true));
+    }
+
+    /**
+     * Drops the history of pods whose quiet period ended more than {@code driftMaxCooldown} ago.
+     * Their next drift would start over at no fights anyway. Counting from the end of the quiet
+     * period rather than the admission matters once the cooldown is at the cap: the two would
+     * coincide, and the fight would reset the moment the cooldown ran out.
+     */
+    private void forgetQuietDriftFights(final Instant now) {
+        if (driftFights.isEmpty()) {
+            return;
+        }
+        final Duration maxCooldown = electorProperties.getDriftMaxCooldown();
+        driftFights
+                .values()
+                .removeIf(fight -> !now.isBefore(fight.quietUntil.plus(maxCooldown)));
+    }
+
+    /** @return {@code base * 2^(fights - 1)}, capped at {@code max} without overflowing */
+    private static Duration cooldownFor(final int fights, final Duration base, final Duration max) {
+        Duration cooldown = base;
+        for (int i = 1; i < fights && cooldown.compareTo(max) < 0; i++) {
+            cooldown = cooldown.multipliedBy(2);
+        }
+        return cooldown.compareTo(max) < 0 ? cooldown : max;
     }
 
     /**
      * @return whether {@code pod}'s current leader label differs from what {@code isLeader}
      * implies (including when the pod carries no labels map at all)
      */
-    private boolean needsLabelUpdate(final Pod pod, final boolean isLeader) {
+    boolean needsLabelUpdate(final HasMetadata pod, final boolean isLeader) {
         final Map<String, String> labels = pod
                 .getMetadata()
                 .getLabels();
@@ -166,32 +617,52 @@ public class LockCallbacks {
                 .equals(current);
     }
 
-    /** Patches {@code podName}'s leader label; propagates any {@link KubernetesClientException}. */
-    private void patchPodLeaderLabel(final String namespace, final String podName, final boolean isLeader) {
-        final Pod patch = new PodBuilder()
+    /** @return the JSON merge patch body that sets the leader label to {@code isLeader} and touches nothing else */
+    Pod leaderLabelPatch(final boolean isLeader) {
+        return new PodBuilder()
                 .withNewMetadata()
                 .addToLabels(electorProperties.getLabelKey(), Boolean.toString(isLeader))
                 .endMetadata()
                 .build();
+    }
 
+    /** Patches {@code podName}'s leader label; propagates any {@link KubernetesClientException}. */
+    private void patchPodLeaderLabel(final String namespace, final String podName, final boolean isLeader) {
         kubernetesClient
                 .pods()
                 .inNamespace(namespace)
                 .withName(podName)
-                .patch(PatchContext.of(PatchType.JSON_MERGE), patch);
+                .patch(PatchContext.of(PatchType.JSON_MERGE), leaderLabelPatch(isLeader));
         log.debug("Set {}={} on pod {}", electorProperties.getLabelKey(), isLeader, podName);
     }
 
+    /** Patches {@code pod} to the label its identity implies: true for self, false otherwise. */
+    private boolean updatePodLeaderLabel(final String namespace, final HasMetadata pod) {
+        return updatePodLeaderLabel(namespace, pod
+                .getMetadata()
+                .getName(), isSelf(pod));
+    }
+
     /**
      * @return {@code true} if the patch succeeded; on failure, logs (at error for the leader, warn
      * otherwise) and returns {@code false} rather than throwing
      */
     private boolean updatePodLeaderLabel(final String namespace, final String podName, final boolean isLeader) {
+        final ElectorEvents.PodPatch event = new ElectorEvents.PodPatch();
+        event.begin();
+        final long start = System.nanoTime();
         try {
             patchPodLeaderLabel(namespace, podName, isLeader);
+            metrics.patch(true, System.nanoTime() - start);
+            event.finish(electorProperties.getLockName(), podName, isLeader, true, 0);
             return true;
         } catch (final KubernetesClientException e) {
-            if (isLeader) {
+            metrics.patch(false, System.nanoTime() - start);
+            event.finish(electorProperties.getLockName(), podName, isLeader, false, e.getCode());
+            if (e.getCode() == HttpURLConnection.HTTP_NOT_FOUND && !isLeader) {
+                // Routine for a previous leader that was deleted (the usual reason it lost the lock).
+                log.debug("Pod {} no longer exists; no leader label to clear", podName);
+            } else if (isLeader) {
                 log.error("Failed to update leader label on elected pod {}; will retry on next reconcile",
                           podName,
                           e);
@@ -211,21 +682,45 @@ public class LockCallbacks {
         updatePodLeaderLabel(kubernetesClient.getNamespace(), selfPodName, false);
     }
 
-    /** Removes the leader label from self after losing the lock. */
+    /** Stops watching pods and removes the leader label from self after losing the lock. */
     public void onLockLost() {
+        stopWatchingPods();
         log.warn("Lock lost - removing leader label from self");
         updatePodLeaderLabel(kubernetesClient.getNamespace(), selfPodName, false);
     }
 
     /**
      * Called on graceful shutdown, but only for a pod that was actually leading (see {@code
-     * ElectorService#releaseLockAndClearLabelIfHeld}) — otherwise the label is already false.
+     * ElectorService#awaitLockRelease}) — otherwise the label is already false.
      * Without this, a departing leader would stay labeled true for the rest of its
      * {@code terminationGracePeriod}, which anything selecting directly on the label (not just the
      * Service, which drops NotReady endpoints immediately) could still match.
      */
     public void onShutdown() {
+        stopWatchingPods();
         log.info("Shutting down while leading - removing leader label from self");
         updatePodLeaderLabel(kubernetesClient.getNamespace(), selfPodName, false);
     }
+
+    /**
+     * One pod's drift history: consecutive fights, until when to hold off (the last admission, for
+     * the first drift), and whether the watch has since seen the pod correctly labeled.
+     */
+    private record DriftFight(int fights, Instant quietUntil, boolean corrected) {
+    }
+
+    /** Per-pass counters, shared by every page (or the cache snapshot) a pass reconciles. */
+    private static final class ReconcileTally {
+        private int updated;
+        private int failures;
+        private int total;
+
+        private void record(final boolean patched) {
+            if (patched) {
+                updated++;
+            } else {
+                failures++;
+            }
+        }
+    }
 }
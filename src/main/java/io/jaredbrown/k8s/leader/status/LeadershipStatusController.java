@@ -0,0 +1,67 @@
+package io.jaredbrown.k8s.leader.status;
+
+import io.jaredbrown.k8s.leader.elector.LeadershipStatus;
+import jakarta.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Serves {@link LeadershipStatus} to the application container over loopback, so it learns of a
+ * transition in milliseconds without polling the Kubernetes API for its own label. See
+ * "Leadership Status" in {@code docs/codebase/ARCHITECTURE.md}.
+ *
+ * <ul>
+ *   <li>{@code GET /leadership} answers with the current state at once.</li>
+ *   <li>{@code GET /leadership?epoch=N} long-polls: it answers as soon as the epoch differs from
+ *       {@code N}, or with the unchanged state after {@code waitSeconds}.</li>
+ *   <li>{@code GET /leadership/stream} is a server-sent event stream of the current state and then
+ *       every change of state. Renewals send nothing, so each event's lease expiry is as of that
+ *       change; {@code GET /leadership} has the latest.</li>
+ * </ul>
+ */
+@RestController
+@RequiredArgsConstructor
+public class LeadershipStatusController {
+    static final long DEFAULT_WAIT_SECONDS = 30;
+    // Long enough to cut polling to a trickle, short enough that a client's own read timeout
+    // rarely has to be raised to match.
+    static final long MAX_WAIT_SECONDS = 300;
+
+    @Nonnull
+    private final LeadershipStatus leadershipStatus;
+
+    @GetMapping(path = "/leadership", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<LeadershipStatus.Snapshot> leadership(@RequestParam(name = "epoch", required = false) final Long epoch,
+                                                      @RequestParam(name = "waitSeconds", defaultValue = "" + DEFAULT_WAIT_SECONDS) final long waitSeconds) {
+        if (epoch == null) {
+            return Mono.just(leadershipStatus.current());
+        }
+        final Duration wait = Duration.ofSeconds(Math.clamp(waitSeconds, 0, MAX_WAIT_SECONDS));
+        return leadershipStatus
+                .updates()
+                .filter(snapshot -> snapshot.epoch() != epoch)
+                .next()
+                .timeout(wait, Mono.fromSupplier(leadershipStatus::current));
+    }
+
+    @GetMapping(path = "/leadership/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<LeadershipStatus.Snapshot>> stream() {
+        return leadershipStatus
+                .updates()
+                .map(snapshot -> ServerSentEvent
+                        .builder(snapshot)
+                        .id(Long.toString(snapshot.epoch()))
+                        .event(snapshot
+                                       .state()
+                                       .name())
+                        .build());
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * The loopback HTTP endpoint that tells the application container, in the same pod, whether it
+ * leads.
+ *
+ * <p>Read-only: everything here renders {@link io.jaredbrown.k8s.leader.elector.LeadershipStatus},
+ * which only {@code ElectorService} writes. Nothing in this package may reach Redis or the
+ * Kubernetes API, so a client polling hard costs neither.
+ */
+package io.jaredbrown.k8s.leader.status;
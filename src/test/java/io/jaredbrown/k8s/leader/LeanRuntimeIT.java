@@ -0,0 +1,377 @@
+package io.jaredbrown.k8s.leader;
+
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Holds the packaged jar, run with the container image's JVM flags, to the post-startup footprint
+ * recorded when the lean runtime configuration went in. Runs it against a real Redis
+ * (Testcontainers) and the mock Kubernetes API server until it leads and has renewed a few times,
+ * forces a full GC, then reads the app's own meters from {@code /actuator/prometheus}:
+ *
+ * <ul>
+ *   <li>{@code jvm.gc.live.data.size}, the heap still live after that GC, under
+ *   {@link #LIVE_HEAP_BUDGET_MIB};</li>
+ *   <li>{@code jvm.classes.loaded} under {@link #LOADED_CLASSES_BUDGET};</li>
+ *   <li>{@code jvm.threads.live} under {@link #THREADS_BUDGET}.</li>
+ * </ul>
+ *
+ * Recorded at 22 MiB, 12,900 classes and 20 threads, with the JVM pinned to two processors so the
+ * Netty event-loop count does not follow the CI runner's. A starter, auto-configuration or eager bean
+ * that creeps back in shows up here. Raise a budget deliberately, in the change that explains why.
+ *
+ * <p>The image's heap is a share of the pod's memory limit, which {@code -XX:MaxRAM} stands in for
+ * here. {@link #footprintWithInformerCache} holds the README's sizing rule to account: with
+ * {@code INFORMER} reconcile the informer caches every selected pod in full, so it leads
+ * {@value #CACHED_PODS} heavy pods under a limit of {@link #BASE_MEMORY_LIMIT_MIB} MiB plus
+ * {@link #MEMORY_LIMIT_PER_CACHED_POD_KIB} KiB per pod, must not run out of heap, and must keep its
+ * live heap under {@link #LIVE_HEAP_BUDGET_MIB} MiB plus {@link #LIVE_HEAP_PER_CACHED_POD_BUDGET_KIB}
+ * KiB per pod, at most half the heap that limit gives it. Needs Docker and the packaged jar, so it
+ * runs from {@code verify}.
+ */
+@Testcontainers
+@EnableKubernetesMockClient(crud = true, https = false)
+class LeanRuntimeIT {
+
+    static final long LIVE_HEAP_BUDGET_MIB = 32;
+    static final long LOADED_CLASSES_BUDGET = 15_000;
+    static final long THREADS_BUDGET = 28;
+    // The README's memory-limit rule: a base, plus a share per pod the informer caches.
+    static final long BASE_MEMORY_LIMIT_MIB = 256;
+    static final long MEMORY_LIMIT_PER_CACHED_POD_KIB = 160;
+    static final long LIVE_HEAP_PER_CACHED_POD_BUDGET_KIB = 96;
+    static final int CACHED_PODS = 500;
+    // The image's -XX:MaxRAMPercentage.
+    private static final double HEAP_SHARE_OF_LIMIT = 0.75;
+
+    private static final String LABEL_KEY = "dns.jb.io/leader";
+    private static final String SELECTOR_KEY = "app";
+    private static final String SELECTOR_VALUE = "lean-runtime";
+    private static final String NAMESPACE = "test";
+    private static final String POD = "pod-lean";
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration CONVERGE_TIMEOUT = Duration.ofSeconds(180);
+    private static final Duration SETTLE = Duration.ofSeconds(5);
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    // Injected by the mock-client extension; fresh per test method.
+    private KubernetesMockServer mockServer;
+
+    @Test
+    void footprintAfterStartup() throws Exception {
+        seedPod(new PodBuilder()
+                        .withNewMetadata()
+                        .withName(POD)
+                        .withNamespace(NAMESPACE)
+                        .addToLabels(SELECTOR_KEY, SELECTOR_VALUE)
+                        .endMetadata()
+                        .build());
+
+        final Footprint footprint = leadAndMeasure(BASE_MEMORY_LIMIT_MIB,
+                                                   Map.of(),
+                                                   AWAIT_TIMEOUT,
+                                                   () -> "true".equals(currentLabel()));
+
+        System.out.printf("%nlean | live heap %3d MiB (budget %3d) | classes %6d (budget %6d) | threads %3d (budget %3d)%n",
+                          footprint.liveHeapMib(),
+                          LIVE_HEAP_BUDGET_MIB,
+                          footprint.loadedClasses(),
+                          LOADED_CLASSES_BUDGET,
+                          footprint.threads(),
+                          THREADS_BUDGET);
+        assertThat(footprint.liveHeapMib()).isLessThan(LIVE_HEAP_BUDGET_MIB);
+        assertThat(footprint.loadedClasses()).isLessThan(LOADED_CLASSES_BUDGET);
+        assertThat(footprint.threads()).isLessThan(THREADS_BUDGET);
+    }
+
+    @Test
+    void footprintWithInformerCache() throws Exception {
+        seedPod(new PodBuilder()
+                        .withNewMetadata()
+                        .withName(POD)
+                        .withNamespace(NAMESPACE)
+                        .addToLabels(SELECTOR_KEY, SELECTOR_VALUE)
+                        .endMetadata()
+                        .build());
+        for (int i = 0; i < CACHED_PODS; i++) {
+            seedPod(heavyPod(i));
+        }
+        final long memoryLimitMib = BASE_MEMORY_LIMIT_MIB + CACHED_PODS * MEMORY_LIMIT_PER_CACHED_POD_KIB / 1024;
+        final long liveHeapBudgetMib = LIVE_HEAP_BUDGET_MIB + CACHED_PODS * LIVE_HEAP_PER_CACHED_POD_BUDGET_KIB / 1024;
+        // The rule leaves the collector room: the budgeted live set fits in half the heap.
+        assertThat(liveHeapBudgetMib * 2).isLessThan((long) (memoryLimitMib * HEAP_SHARE_OF_LIMIT));
+
+        // Every peer starts unlabeled, so convergence means the informer has seen and the leader
+        // has patched all of them.
+        final Footprint footprint = leadAndMeasure(memoryLimitMib,
+                                                   Map.of("ELECTOR_RECONCILE_SOURCE", "INFORMER"),
+                                                   CONVERGE_TIMEOUT,
+                                                   () -> "true".equals(currentLabel()) && labeledPeers() == CACHED_PODS);
+
+        System.out.printf("%ninformer | %d cached pods | limit %4d MiB | live heap %3d MiB (budget %3d)%n",
+                          CACHED_PODS,
+                          memoryLimitMib,
+                          footprint.liveHeapMib(),
+                          liveHeapBudgetMib);
+        assertThat(footprint.liveHeapMib()).isLessThan(liveHeapBudgetMib);
+    }
+
+    /** The app's own meters after a forced full GC. */
+    private record Footprint(long liveHeapMib, long loadedClasses, long threads) {
+    }
+
+    /**
+     * Starts the packaged jar with the image's JVM flags under a {@code memoryLimitMib} memory
+     * limit, waits for {@code converged}, lets it renew a few times, forces a full GC and scrapes
+     * its meters. Fails if the process exited in the meantime, as it would on running out of heap.
+     */
+    private Footprint leadAndMeasure(final long memoryLimitMib,
+                                     final Map<String, String> extraEnvironment,
+                                     final Duration timeout,
+                                     final Callable<Boolean> converged) throws Exception {
+        final int managementPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            managementPort = socket.getLocalPort();
+        }
+        // The image's flags (see the Dockerfile), less the AOT cache, which needs the image's JDK.
+        final List<String> command = new ArrayList<>(List.of(tool("java"),
+                                                             "-XX:ActiveProcessorCount=2",
+                                                             "-XX:MaxRAM=" + memoryLimitMib + "m",
+                                                             "-XX:+UseSerialGC",
+                                                             "-XX:MaxRAMPercentage=" + HEAP_SHARE_OF_LIMIT * 100,
+                                                             "-XX:+ExitOnOutOfMemoryError",
+                                                             "-Dspring.aot.enabled=true",
+                                                             "-jar",
+                                                             packagedJar().toString()));
+        final ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        final Map<String, String> environment = new HashMap<>(Map.of("POD_NAME", POD,
+                                                                     "ELECTOR_LABEL_KEY", LABEL_KEY,
+                                                                     "ELECTOR_LOCK_NAME", "lean-runtime",
+                                                                     "ELECTOR_SELECTOR_LABEL_KEY", SELECTOR_KEY,
+                                                                     "ELECTOR_SELECTOR_LABEL_VALUE", SELECTOR_VALUE,
+                                                                     "ELECTOR_LEASE_DURATION", "PT10S",
+                                                                     "ELECTOR_RENEW_DEADLINE", "PT1S",
+                                                                     "SPRING_DATA_REDIS_HOST", REDIS.getHost(),
+                                                                     "SPRING_DATA_REDIS_PORT", Integer.toString(REDIS.getMappedPort(6379))));
+        environment.putAll(Map.of("SERVER_PORT", "0",
+                                  "MANAGEMENT_SERVER_PORT", Integer.toString(managementPort),
+                                  "KUBERNETES_MASTER", mockServer.url("/"),
+                                  "KUBERNETES_NAMESPACE", NAMESPACE,
+                                  "KUBERNETES_AUTH_TRYKUBECONFIG", "false",
+                                  "KUBERNETES_AUTH_TRYSERVICEACCOUNT", "false"));
+        environment.putAll(extraEnvironment);
+        builder
+                .environment()
+                .putAll(environment);
+
+        final Process process = builder.start();
+        try {
+            await()
+                    .atMost(timeout)
+                    .until(() -> {
+                        assertThat(process.isAlive())
+                                .as("elector process exited early")
+                                .isTrue();
+                        return converged.call();
+                    });
+            Thread.sleep(SETTLE.toMillis());
+            assertThat(process.isAlive())
+                    .as("elector process exited (out of heap?)")
+                    .isTrue();
+            run(List.of(tool("jcmd"), Long.toString(process.pid()), "GC.run"));
+
+            final String scrape = HttpClient
+                    .newHttpClient()
+                    .send(HttpRequest
+                                  .newBuilder(URI.create("http://localhost:" + managementPort + "/actuator/prometheus"))
+                                  .build(), HttpResponse.BodyHandlers.ofString())
+                    .body();
+            return new Footprint((long) meter(scrape, "jvm_gc_live_data_size_bytes") / (1024 * 1024),
+                                 (long) meter(scrape, "jvm_classes_loaded_classes"),
+                                 (long) meter(scrape, "jvm_threads_live_threads"));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /** @return the value of an untagged meter line in a Prometheus scrape */
+    private static double meter(final String scrape, final String name) {
+        return scrape
+                .lines()
+                .filter(line -> line.startsWith(name + " "))
+                .map(line -> Double.parseDouble(line.substring(name.length() + 1)))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " in the scrape"));
+    }
+
+    private static Path packagedJar() throws IOException {
+        try (Stream<Path> jars = Files.list(Path.of("target"))) {
+            return jars
+                    .filter(path -> path
+                            .getFileName()
+                            .toString()
+                            .matches("leader-elector-.*\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No packaged jar in target/; run verify, not test"));
+        }
+    }
+
+    private static String tool(final String name) {
+        return Path
+                .of(System.getProperty("java.home"), "bin", name)
+                .toString();
+    }
+
+    private static void run(final List<String> command) throws Exception {
+        final Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        assertThat(process.waitFor(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(process.exitValue())
+                .as("exit code of %s", command)
+                .isZero();
+    }
+
+    private void seedPod(final Pod pod) {
+        try (KubernetesClient client = mockServer.createClient()) {
+            client
+                    .pods()
+                    .inNamespace(NAMESPACE)
+                    .resource(pod)
+                    .create();
+        }
+    }
+
+    /**
+     * A peer as a real workload's pod looks to the informer: several containers with env vars,
+     * resources and statuses, the same shape as {@code ReconcileBenchmarkIT}'s. Starts without the
+     * leader label.
+     */
+    private static Pod heavyPod(final int index) {
+        final String name = "peer-" + index;
+        final PodBuilder pod = new PodBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .withNamespace(NAMESPACE)
+                .addToLabels(SELECTOR_KEY, SELECTOR_VALUE)
+                .addToAnnotations("kubectl.kubernetes.io/restartedAt", "2026-01-01T00:00:00Z")
+                .endMetadata()
+                .withNewSpec()
+                .withServiceAccountName("app")
+                .endSpec()
+                .withNewStatus()
+                .withPhase("Running")
+                .withPodIP("10.0." + (index / 250) + "." + (index % 250))
+                .endStatus();
+        for (int c = 0; c < 6; c++) {
+            final String container = "container-" + c;
+            pod
+                    .editSpec()
+                    .addNewContainer()
+                    .withName(container)
+                    .withImage("registry.example.com/team/" + container + ":1.2.3")
+                    .withArgs("--config=/etc/app/config.yaml", "--log-level=info")
+                    .withEnv(IntStream
+                                     .range(0, 25)
+                                     .mapToObj(e -> new EnvVar("ENV_VARIABLE_" + e, "value-" + e + "-for-" + container, null))
+                                     .toList())
+                    .withNewResources()
+                    .addToRequests("cpu", new Quantity("100m"))
+                    .addToRequests("memory", new Quantity("128Mi"))
+                    .addToLimits("memory", new Quantity("256Mi"))
+                    .endResources()
+                    .endContainer()
+                    .endSpec()
+                    .editStatus()
+                    .addNewContainerStatus()
+                    .withName(container)
+                    .withReady(true)
+                    .withRestartCount(0)
+                    .withImage("registry.example.com/team/" + container + ":1.2.3")
+                    .withImageID("registry.example.com/team/" + container + "@sha256:" + "0".repeat(64))
+                    .withContainerID("containerd://" + "f".repeat(64))
+                    .endContainerStatus()
+                    .endStatus();
+        }
+        return pod.build();
+    }
+
+    /** @return how many peers (every selected pod but this one) carry {@code leader=false} */
+    private long labeledPeers() {
+        try (KubernetesClient client = mockServer.createClient()) {
+            return client
+                    .pods()
+                    .inNamespace(NAMESPACE)
+                    .withLabel(SELECTOR_KEY, SELECTOR_VALUE)
+                    .list()
+                    .getItems()
+                    .stream()
+                    .filter(pod -> !POD.equals(pod
+                                                       .getMetadata()
+                                                       .getName()))
+                    .filter(pod -> "false".equals(pod
+                                                          .getMetadata()
+                                                          .getLabels()
+                                                          .get(LABEL_KEY)))
+                    .count();
+        }
+    }
+
+    private String currentLabel() {
+        try (KubernetesClient client = mockServer.createClient()) {
+            final Pod pod = client
+                    .pods()
+                    .inNamespace(NAMESPACE)
+                    .withName(POD)
+                    .get();
+            return pod
+                    .getMetadata()
+                    .getLabels() == null
+                    ? null
+                    : pod
+                            .getMetadata()
+                            .getLabels()
+                            .get(LABEL_KEY);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.jaredbrown.k8s.leader;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Holds the native executable ({@code -Pnative}) to a declared footprint budget. Runs it against a
+ * real Redis (Testcontainers) and the mock Kubernetes API server with a pod to lead and
+ * {@value #FOLLOWERS} more to reconcile, renewing every second so the window covers many
+ * acquire/renew/reconcile cycles rather than one idle wait. {@code -XX:MaxRAM} stands in for a pod
+ * memory limit of {@value #MEMORY_LIMIT_MIB} MiB, which the executable sizes its heap from. Then it
+ * checks:
+ *
+ * <ul>
+ *   <li>launch to the pod labeled leader is under {@link #STARTUP_BUDGET};</li>
+ *   <li>the largest RSS ({@code VmRSS} in {@code /proc/<pid>/status}) sampled over the last third of
+ *   the window is under {@link #RSS_BUDGET_MIB}, after the first passes have grown the heap and
+ *   connection pools to their working size.</li>
+ * </ul>
+ *
+ * The budgets are a regression gate: raise one deliberately, in the same change that explains
+ * why. Skipped unless the {@code native} profile supplies the executable; needs Docker and Linux:
+ *
+ * <pre>{@code ./mvnw -Pnative verify -Dit.test=NativeFootprintIT}</pre>
+ */
+@Testcontainers
+@EnabledOnOs(OS.LINUX)
+@EnabledIfSystemProperty(named = "native.executable", matches = ".+")
+@EnableKubernetesMockClient(crud = true, https = false)
+class NativeFootprintIT {
+
+    static final Duration STARTUP_BUDGET = Duration.ofSeconds(1);
+    static final long RSS_BUDGET_MIB = 96;
+    static final long MEMORY_LIMIT_MIB = 256;
+
+    private static final String LABEL_KEY = "dns.jb.io/leader";
+    private static final String SELECTOR_KEY = "app";
+    private static final String SELECTOR_VALUE = "native-footprint";
+    private static final String NAMESPACE = "test";
+    private static final String LEADER = "pod-native";
+    private static final int FOLLOWERS = 20;
+    private static final Duration WINDOW = Duration.ofSeconds(30);
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(30);
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    // Injected by the mock-client extension; fresh per test method.
+    private KubernetesMockServer mockServer;
+
+    @Test
+    void staysWithinBudget() throws Exception {
+        final Path executable = Path.of(System.getProperty("native.executable"));
+        assertThat(executable).isExecutable();
+        seedPod(LEADER);
+        for (int i = 0; i < FOLLOWERS; i++) {
+            seedPod("pod-follower-" + i);
+        }
+
+        final ProcessBuilder builder = new ProcessBuilder(executable.toString(), "-XX:MaxRAM=" + MEMORY_LIMIT_MIB + "m")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        builder
+                .environment()
+                .putAll(Map.of("POD_NAME", LEADER,
+                               "ELECTOR_LABEL_KEY", LABEL_KEY,
+                               "ELECTOR_LOCK_NAME", "native-footprint",
+                               "ELECTOR_SELECTOR_LABEL_KEY", SELECTOR_KEY,
+                               "ELECTOR_SELECTOR_LABEL_VALUE", SELECTOR_VALUE,
+                               "ELECTOR_LEASE_DURATION", "PT10S",
+                               "ELECTOR_RENEW_DEADLINE", "PT1S",
+                               "SPRING_DATA_REDIS_HOST", REDIS.getHost(),
+                               "SPRING_DATA_REDIS_PORT", Integer.toString(REDIS.getMappedPort(6379))));
+        builder
+                .environment()
+                .putAll(Map.of("SERVER_PORT", "0",
+                               "MANAGEMENT_SERVER_PORT", "0",
+                               "KUBERNETES_MASTER", mockServer.url("/"),
+                               "KUBERNETES_NAMESPACE", NAMESPACE,
+                               "KUBERNETES_AUTH_TRYKUBECONFIG", "false",
+                               "KUBERNETES_AUTH_TRYSERVICEACCOUNT", "false"));
+
+        final long launch = System.nanoTime();
+        final Process process = builder.start();
+        try {
+            await()
+                    .atMost(AWAIT_TIMEOUT)
+                    .pollInterval(Duration.ofMillis(5))
+                    .until(() -> "true".equals(currentLabel(LEADER)));
+            final long startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launch);
+            await()
+                    .atMost(AWAIT_TIMEOUT)
+                    .until(() -> "false".equals(currentLabel("pod-follower-" + (FOLLOWERS - 1))));
+
+            long steadyRssKib = 0;
+            final long samples = WINDOW.toSeconds();
+            for (long sample = 0; sample < samples; sample++) {
+                Thread.sleep(1000);
+                assertThat(process.isAlive()).isTrue();
+                if (sample >= samples * 2 / 3) {
+                    steadyRssKib = Math.max(steadyRssKib, rssKib(process.pid()));
+                }
+            }
+
+            System.out.printf("%nnative | launch to leader label %5d ms (budget %5d) | steady RSS %4d MiB (budget %4d)%n",
+                              startupMillis,
+                              STARTUP_BUDGET.toMillis(),
+                              steadyRssKib / 1024,
+                              RSS_BUDGET_MIB);
+            assertThat(startupMillis).isLessThan(STARTUP_BUDGET.toMillis());
+            assertThat(steadyRssKib / 1024).isLessThan(RSS_BUDGET_MIB);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static long rssKib(final long pid) throws IOException {
+        return Files
+                .readAllLines(Path.of("/proc", Long.toString(pid), "status"))
+                .stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void seedPod(final String name) {
+        try (KubernetesClient client = mockServer.createClient()) {
+            client
+                    .pods()
+                    .inNamespace(NAMESPACE)
+                    .resource(new PodBuilder()
+                                      .withNewMetadata()
+                                      .withName(name)
+                                      .withNamespace(NAMESPACE)
+                                      .addToLabels(SELECTOR_KEY, SELECTOR_VALUE)
+                                      .endMetadata()
+                                      .build())
+                    .create();
+        }
+    }
+
+    private String currentLabel(final String name) {
+        try (KubernetesClient client = mockServer.createClient()) {
+            final Pod pod = client
+                    .pods()
+                    .inNamespace(NAMESPACE)
+                    .withName(name)
+                    .get();
+            return pod
+                    .getMetadata()
+                    .getLabels() == null
+                    ? null
+                    : pod
+                            .getMetadata()
+                            .getLabels()
+                            .get(LABEL_KEY);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package io.jaredbrown.k8s.leader;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Measures cold start of the packaged jar, each run a fresh JVM against a real Redis
+ * (Testcontainers) and the mock Kubernetes API server, in the three configurations that lead up to
+ * the container image's:
+ *
+ * <ul>
+ *   <li>{@code PLAIN}: the extracted jar, as {@code java -jar} would run it;</li>
+ *   <li>{@code SPRING_AOT}: plus {@code -Dspring.aot.enabled=true}, using the bean definitions
+ *   {@code process-aot} generated at build time;</li>
+ *   <li>{@code SPRING_AOT_CACHED}: plus the JVM cache from a training run, as the image runs. On
+ *   JDK 25+ that is the AOT cache ({@code -XX:AOTCacheOutput}/{@code -XX:AOTCache}); on an older
+ *   JDK it falls back to an AppCDS archive ({@code -XX:ArchiveClassesAtExit}/
+ *   {@code -XX:SharedArchiveFile}), so the numbers understate what the image gets.</li>
+ * </ul>
+ *
+ * Reports the median, over several interleaved rounds, of three milestones, each counted from just
+ * before the JVM is launched: {@code ElectorService.start()}, the first {@code tryLock} (both from
+ * their log lines, stamped as they arrive on the child's stdout) and the pod labeled leader (polled
+ * on the mock API server, so one label patch is included).
+ *
+ * Opt-in, needs Docker and the packaged jar, so runs from {@code verify}:
+ *
+ * <pre>{@code ./mvnw verify -Dbenchmark=true -Dit.test=StartupBenchmarkIT}</pre>
+ */
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@EnableKubernetesMockClient(crud = true, https = false)
+class StartupBenchmarkIT {
+
+    private static final String LABEL_KEY = "dns.jb.io/leader";
+    private static final String SELECTOR_KEY = "app";
+    private static final String NAMESPACE = "test";
+    private static final String STARTED = "Starting ElectorService";
+    private static final String TRYING = "Attempting to acquire lock";
+    private static final Path WORK_DIR = Path.of("target", "startup-benchmark");
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(60);
+    private static final int ROUNDS = 5;
+    private static final boolean AOT_CACHE = Runtime
+            .version()
+            .feature() >= 25;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static Path jar;
+    private static Path cache;
+
+    // Injected by the mock-client extension; fresh per test method.
+    private KubernetesMockServer mockServer;
+
+    private enum Mode {
+        PLAIN,
+        SPRING_AOT,
+        SPRING_AOT_CACHED
+    }
+
+    /**
+     * Extracts the packaged jar, as the Dockerfile does, then trains the JVM cache with a run that
+     * creates every bean, lazy ones included, and exits once the context has refreshed, before
+     * {@code ElectorService} would reach Redis or the API server.
+     */
+    @BeforeAll
+    static void train() throws Exception {
+        final Path packaged;
+        try (Stream<Path> jars = Files.list(Path.of("target"))) {
+            packaged = jars
+                    .filter(path -> path
+                            .getFileName()
+                            .toString()
+                            .matches("leader-elector-.*\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No packaged jar in target/; run verify, not test"));
+        }
+        Files.createDirectories(WORK_DIR);
+        run(List.of(java(), "-Djarmode=tools", "-jar", packaged.toString(), "extract", "--force", "--destination",
+                    WORK_DIR.toString()), Map.of());
+        jar = WORK_DIR.resolve(packaged.getFileName());
+        cache = WORK_DIR.resolve(AOT_CACHE ? "leader-elector.aot" : "leader-elector.jsa");
+        Files.deleteIfExists(cache);
+
+        final List<String> command = new ArrayList<>();
+        command.add(java());
+        command.add(AOT_CACHE ? "-XX:AOTCacheOutput=" + cache : "-XX:ArchiveClassesAtExit=" + cache);
+        command.add("-Dspring.aot.enabled=true");
+        command.add("-Dspring.main.lazy-initialization=false");
+        command.add("-Dspring.context.exit=onRefresh");
+        command.add("-jar");
+        command.add(jar.toString());
+        run(command, Map.of("POD_NAME", "training",
+                            "ELECTOR_LABEL_KEY", LABEL_KEY,
+                            "ELECTOR_LOCK_NAME", "training",
+                            "ELECTOR_SELECTOR_LABEL_KEY", SELECTOR_KEY,
+                            "ELECTOR_SELECTOR_LABEL_VALUE", "training"));
+        assertThat(cache).exists();
+    }
+
+    @Test
+    void coldStart() throws Exception {
+        final Map<Mode, long[][]> milestones = new EnumMap<>(Mode.class);
+        for (final Mode mode : Mode.values()) {
+            milestones.put(mode, new long[3][ROUNDS]);
+        }
+        // Interleaved, so drift in the host's load spreads over every mode alike.
+        for (int round = 0; round < ROUNDS; round++) {
+            for (final Mode mode : Mode.values()) {
+                final long[] run = startOnce(mode, "startup-" + mode.ordinal() + "-" + round);
+                for (int milestone = 0; milestone < run.length; milestone++) {
+                    milestones.get(mode)[milestone][round] = run[milestone];
+                }
+            }
+        }
+
+        System.out.printf("%n%-17s | median ms from JVM launch: start() | first tryLock | labeled leader%n", "mode");
+        for (final Mode mode : Mode.values()) {
+            final long[][] runs = milestones.get(mode);
+            for (final long[] milestone : runs) {
+                Arrays.sort(milestone);
+            }
+            System.out.printf("%-17s | %33d | %13d | %14d%n",
+                              mode,
+                              runs[0][ROUNDS / 2],
+                              runs[1][ROUNDS / 2],
+                              runs[2][ROUNDS / 2]);
+            assertThat(runs[2][ROUNDS - 1]).isLessThan(AWAIT_TIMEOUT.toMillis());
+        }
+    }
+
+    /** @return milliseconds from launch to {@code start()}, to the first {@code tryLock} and to the leader label */
+    private long[] startOnce(final Mode mode, final String run) throws Exception {
+        seedPod(run);
+        final List<String> command = new ArrayList<>();
+        command.add(java());
+        if (mode == Mode.SPRING_AOT_CACHED) {
+            command.add(AOT_CACHE ? "-XX:AOTCache=" + cache : "-XX:SharedArchiveFile=" + cache);
+        }
+        if (mode != Mode.PLAIN) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-jar");
+        command.add(jar.toString());
+        final ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+        builder
+                .environment()
+                .putAll(Map.of("POD_NAME", run,
+                               "ELECTOR_LABEL_KEY", LABEL_KEY,
+                               "ELECTOR_LOCK_NAME", run,
+                               "ELECTOR_SELECTOR_LABEL_KEY", SELECTOR_KEY,
+                               "ELECTOR_SELECTOR_LABEL_VALUE", run,
+                               "SPRING_DATA_REDIS_HOST", REDIS.getHost(),
+                               "SPRING_DATA_REDIS_PORT", Integer.toString(REDIS.getMappedPort(6379)),
+                               "SERVER_PORT", "0",
+                               "MANAGEMENT_SERVER_PORT", "0"));
+        builder
+                .environment()
+                .putAll(Map.of("KUBERNETES_MASTER", mockServer.url("/"),
+                               "KUBERNETES_NAMESPACE", NAMESPACE,
+                               "KUBERNETES_AUTH_TRYKUBECONFIG", "false",
+                               "KUBERNETES_AUTH_TRYSERVICEACCOUNT", "false"));
+
+        final AtomicLong started = new AtomicLong();
+        final AtomicLong trying = new AtomicLong();
+        final long launch = System.nanoTime();
+        final Process process = builder.start();
+        final Thread reader = Thread.startVirtualThread(() -> {
+            try (BufferedReader lines = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                                                                                 StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    final long now = System.nanoTime();
+                    if (line.contains(STARTED)) {
+                        started.compareAndSet(0, now);
+                    } else if (line.contains(TRYING)) {
+                        trying.compareAndSet(0, now);
+                    }
+                }
+            } catch (final IOException e) {
+                // The process went away; whatever was stamped stands.
+            }
+        });
+        try {
+            await()
+                    .atMost(AWAIT_TIMEOUT)
+                    .pollInterval(Duration.ofMillis(5))
+                    .until(() -> "true".equals(currentLabel(run)));
+            final long labeled = System.nanoTime();
+            assertThat(started.get()).isPositive();
+            assertThat(trying.get()).isPositive();
+            return new long[]{
+                    TimeUnit.NANOSECONDS.toMillis(started.get() - launch),
+                    TimeUnit.NANOSECONDS.toMillis(trying.get() - launch),
+                    TimeUnit.NANOSECONDS.toMillis(labeled - launch)
+            };
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+            reader.join();
+        }
+    }
+
+    private void seedPod(final String name) {
+        try (KubernetesClient client = mockServer.createClient()) {
+            client
+                    .pods()
+                    .inNamespace(NAMESPACE)
+                    .resource(new PodBuilder()
+                                      .withNewMetadata()
+                                      .withName(name)
+                                      .withNamespace(NAMESPACE)
+                                      .addToLabels(SELECTOR_KEY, name)
+                                      .endMetadata()
+                                      .build())
+                    .create();
+        }
+    }
+
+    private String currentLabel(final String name) {
+        try (KubernetesClient client = mockServer.createClient()) {
+            final Pod pod = client
+                    .pods()
+                    .inNamespace(NAMESPACE)
+                    .withName(name)
+                    .get();
+            return pod
+                    .getMetadata()
+                    .getLabels() == null
+                    ? null
+                    : pod
+                            .getMetadata()
+                            .getLabels()
+                            .get(LABEL_KEY);
+        }
+    }
+
+    private static String java() {
+        return Path
+                .of(System.getProperty("java.home"), "bin", "java")
+                .toString();
+    }
+
+    /** Runs a child JVM to completion, failing on a non-zero exit. */
+    private static void run(final List<String> command, final Map<String, String> environment) throws Exception {
+        final ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        builder
+                .environment()
+                .putAll(environment);
+        final Process process = builder.start();
+        if (!process.waitFor(5, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Timed out: " + command);
+        }
+        assertThat(process.exitValue())
+                .as("exit code of %s", command)
+                .isZero();
+    }
+}
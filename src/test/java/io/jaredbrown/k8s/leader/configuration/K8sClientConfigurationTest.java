@@ -1,9 +1,22 @@
 package io.jaredbrown.k8s.leader.configuration;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.jaredbrown.k8s.leader.elector.ElectorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class K8sClientConfigurationTest {
 
@@ -11,9 +24,52 @@ class K8sClientConfigurationTest {
     void kubernetesClient_shouldBoundRequestTimeoutAndRetries() {
         // Guards the bounds against a silent revert to fabric8's 10s/10-retry defaults; see
         // K8sClientConfiguration's class comment for why they matter.
-        try (KubernetesClient client = new K8sClientConfiguration().kubernetesClient()) {
+        final ElectorMetrics metrics = new ElectorMetrics(new SimpleMeterRegistry());
+        try (KubernetesClient client = new K8sClientConfiguration().kubernetesClient(metrics)) {
             assertEquals(2000, client.getConfiguration().getRequestTimeout());
             assertEquals(1, client.getConfiguration().getRequestRetryBackoffLimit());
         }
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void listBytesInterceptor_shouldCountPodListBodiesAndPassThem() throws Exception {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final AsyncBody.Consumer<List<ByteBuffer>> delegate = mock(AsyncBody.Consumer.class);
+        final AsyncBody body = mock(AsyncBody.class);
+        when(body.done()).thenReturn(new CompletableFuture<>());
+        final List<ByteBuffer> chunk = List.of(ByteBuffer.allocate(7), ByteBuffer.allocate(3));
+
+        K8sClientConfiguration
+                .listBytesInterceptor(new ElectorMetrics(registry))
+                .consumer(delegate, request("GET", "/api/v1/namespaces/default/pods?labelSelector=app%3Dx&limit=500"))
+                .consume(chunk, body);
+
+        assertEquals(10.0, registry
+                .get("elector.kubernetes.list.bytes")
+                .counter()
+                .count());
+        verify(delegate).consume(chunk, body);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void listBytesInterceptor_shouldLeaveWatchesAndPatchesAlone() {
+        final AsyncBody.Consumer<List<ByteBuffer>> delegate = mock(AsyncBody.Consumer.class);
+        final ElectorMetrics metrics = new ElectorMetrics(new SimpleMeterRegistry());
+
+        assertSame(delegate, K8sClientConfiguration
+                .listBytesInterceptor(metrics)
+                .consumer(delegate, request("GET", "/api/v1/namespaces/default/pods?watch=true")));
+        assertSame(delegate, K8sClientConfiguration
+                .listBytesInterceptor(metrics)
+                .consumer(delegate, request("PATCH", "/api/v1/namespaces/default/pods/pod-1")));
+    }
+
+    private static HttpRequest request(final String method, final String pathAndQuery) {
+        final HttpRequest request = mock(HttpRequest.class);
+        when(request.method()).thenReturn(method);
+        when(request.uri()).thenReturn(URI.create("https://kubernetes.default.svc" + pathAndQuery));
+        return request;
+    }
 }
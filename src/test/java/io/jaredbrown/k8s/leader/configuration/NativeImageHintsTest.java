@@ -0,0 +1,46 @@
+package io.jaredbrown.k8s.leader.configuration;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.jaredbrown.k8s.leader.elector.LeadershipStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeImageHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeImageHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_shouldLetTheClientBuilderConstructTheClientByName() {
+        assertTrue(RuntimeHintsPredicates
+                           .reflection()
+                           .onType(TypeReference.of(NativeImageHints.KUBERNETES_CLIENT_IMPL))
+                           .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                           .test(hints));
+    }
+
+    @Test
+    void registerHints_shouldCoverNestedModelTypesForJackson() {
+        for (final Class<?> type : new Class<?>[]{Pod.class, PodList.class, ObjectMeta.class, Container.class,
+                LeadershipStatus.Snapshot.class}) {
+            assertTrue(RuntimeHintsPredicates
+                               .reflection()
+                               .onType(type)
+                               .test(hints), type.getName());
+        }
+    }
+}
@@ -27,11 +27,25 @@ class RedisLockRegistryConfigurationTest {
     void redisLockRegistry_shouldUseConfiguredLockNameAndLeaseDuration() {
         when(electorProperties.getLockName()).thenReturn("test-lock");
         when(electorProperties.getLeaseDuration()).thenReturn(Duration.ofSeconds(42));
+        when(electorProperties.getLockType()).thenReturn(ElectorProperties.LockType.SPIN);
 
         final RedisLockRegistry registry =
                 new RedisLockRegistryConfiguration().redisLockRegistry(redisConnectionFactory, electorProperties);
 
         assertEquals("test-lock-lock-registry", ReflectionTestUtils.getField(registry, "registryKey"));
         assertEquals(Duration.ofSeconds(42), ReflectionTestUtils.getField(registry, "expireAfter"));
+        assertEquals(RedisLockRegistry.RedisLockType.SPIN_LOCK, ReflectionTestUtils.getField(registry, "redisLockType"));
+    }
+
+    @Test
+    void redisLockRegistry_shouldUsePubSubLockWhenConfigured() {
+        when(electorProperties.getLockName()).thenReturn("test-lock");
+        when(electorProperties.getLeaseDuration()).thenReturn(Duration.ofSeconds(42));
+        when(electorProperties.getLockType()).thenReturn(ElectorProperties.LockType.PUB_SUB);
+
+        final RedisLockRegistry registry =
+                new RedisLockRegistryConfiguration().redisLockRegistry(redisConnectionFactory, electorProperties);
+
+        assertEquals(RedisLockRegistry.RedisLockType.PUB_SUB_LOCK, ReflectionTestUtils.getField(registry, "redisLockType"));
     }
 }
@@ -1,6 +1,7 @@
 package io.jaredbrown.k8s.leader.configuration;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -22,4 +23,15 @@ class TaskSchedulerConfigurationTest {
         // the Redis lock would leak on every graceful shutdown.
         assertTrue((boolean) ReflectionTestUtils.getField(scheduler, "acceptTasksAfterContextClose"));
     }
+
+    @Test
+    void reconcileExecutor_shouldBeSingleThreadedAndAcceptTasksAfterContextClose() {
+        final ThreadPoolTaskExecutor executor = new TaskSchedulerConfiguration().reconcileExecutor();
+
+        // Passes must never overlap, or two could patch the same pod in either order.
+        assertEquals(1, executor.getMaxPoolSize());
+        // ElectorService#stop() clears the leader label through this executor after the context closes.
+        assertTrue((boolean) ReflectionTestUtils.getField(executor, "acceptTasksAfterContextClose"));
+        executor.shutdown();
+    }
 }
@@ -0,0 +1,123 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CandidateScoresTest {
+
+    private static final String SELF_POD_NAME = "pod-1";
+    private static final String KEY = "test-lock-candidates";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private CandidateScores candidateScores;
+
+    @BeforeEach
+    void setUp() {
+        final ElectorProperties electorProperties = new ElectorProperties();
+        electorProperties.setLockName("test-lock");
+        candidateScores = new CandidateScores(redisTemplate, electorProperties, Clock.fixed(NOW, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(candidateScores, "selfPodName", SELF_POD_NAME);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    void publish_shouldRecordScoreAndTimeUnderThisPod() {
+        candidateScores.publish(0.75);
+
+        verify(hashOperations).put(KEY, SELF_POD_NAME, "0.75@" + NOW.toEpochMilli());
+    }
+
+    @Test
+    void bestPeer_shouldIgnoreSelfAndDropStaleOrUnreadableEntries() {
+        // Fresh within three retryPeriods (15s by default), except pod-3 and the garbage entry.
+        final Map<Object, Object> entries = new LinkedHashMap<>();
+        entries.put(SELF_POD_NAME, entry(1.0, Duration.ZERO));
+        entries.put("pod-2", entry(0.6, Duration.ofSeconds(10)));
+        entries.put("pod-3", entry(0.9, Duration.ofSeconds(20)));
+        entries.put("pod-4", "garbage");
+        when(hashOperations.entries(KEY)).thenReturn(entries);
+
+        assertEquals(OptionalDouble.of(0.6), candidateScores.bestPeer());
+        // Each field goes with the value read, so one a peer republished since is left alone.
+        verify(redisTemplate).execute(any(RedisScript.class),
+                                      eq(List.of(KEY)),
+                                      eq("pod-3"),
+                                      eq(entry(0.9, Duration.ofSeconds(20))),
+                                      eq("pod-4"),
+                                      eq("garbage"));
+    }
+
+    @Test
+    void bestPeer_shouldStillAnswerWhenStaleCleanupFails() {
+        when(hashOperations.entries(KEY)).thenReturn(Map.of("pod-2", entry(0.6, Duration.ofSeconds(20)),
+                                                            "pod-3", entry(0.4, Duration.ZERO)));
+        when(redisTemplate.execute(any(RedisScript.class), any(List.class), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(OptionalDouble.of(0.4), candidateScores.bestPeer());
+    }
+
+    @Test
+    void bestPeer_shouldBeEmptyWithoutPeers() {
+        when(hashOperations.entries(KEY)).thenReturn(Map.of(SELF_POD_NAME, entry(0.5, Duration.ZERO)));
+
+        assertTrue(candidateScores
+                           .bestPeer()
+                           .isEmpty());
+    }
+
+    @Test
+    void bestPeer_shouldBeEmptyRatherThanThrowWhenRedisFails() {
+        when(hashOperations.entries(any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(candidateScores
+                           .bestPeer()
+                           .isEmpty());
+    }
+
+    @Test
+    void withdraw_shouldNotThrowWhenRedisFails() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(hashOperations)
+                .delete(any(), any());
+
+        candidateScores.withdraw();
+    }
+
+    private static String entry(final double score, final Duration age) {
+        return score + "@" + NOW
+                .minus(age)
+                .toEpochMilli();
+    }
+}
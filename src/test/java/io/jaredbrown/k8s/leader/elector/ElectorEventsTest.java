@@ -0,0 +1,87 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElectorEventsTest {
+
+    private static final String RECONCILE_PAGE = "io.jaredbrown.elector.ReconcilePage";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void finish_shouldCommitFieldsWhenEnabled() throws IOException {
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(RECONCILE_PAGE);
+            recording.start();
+
+            final ElectorEvents.ReconcilePage event = new ElectorEvents.ReconcilePage();
+            event.begin();
+            event.finish("test-lock", "LIST", 500, 2, 1, true);
+
+            recording.stop();
+            events = dump(recording);
+        }
+
+        assertEquals(1, events.size());
+        final RecordedEvent page = events.getFirst();
+        assertEquals("test-lock", page.getString("lockName"));
+        assertEquals("LIST", page.getString("source"));
+        assertEquals(500, page.getInt("pods"));
+        assertEquals(2, page.getInt("patched"));
+        assertEquals(1, page.getInt("failed"));
+        assertTrue(page.getBoolean("morePages"));
+        // No stack traces: they are the expensive part of an event, and none is needed here.
+        assertEquals(null, page.getStackTrace());
+    }
+
+    @Test
+    void finish_shouldSkipEventsUnderTheirThreshold() throws IOException {
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording
+                    .enable(RECONCILE_PAGE)
+                    .withThreshold(Duration.ofHours(1));
+            recording.start();
+
+            final ElectorEvents.ReconcilePage event = new ElectorEvents.ReconcilePage();
+            event.begin();
+            event.finish("test-lock", "LIST", 500, 2, 1, true);
+
+            recording.stop();
+            events = dump(recording);
+        }
+
+        assertFalse(events
+                            .stream()
+                            .anyMatch(event -> RECONCILE_PAGE.equals(event
+                                                                             .getEventType()
+                                                                             .getName())));
+    }
+
+    private List<RecordedEvent> dump(final Recording recording) throws IOException {
+        final Path file = tempDir.resolve("recording.jfr");
+        recording.dump(file);
+        return RecordingFile
+                .readAllEvents(file)
+                .stream()
+                .filter(event -> RECONCILE_PAGE.equals(event
+                                                               .getEventType()
+                                                               .getName()))
+                .toList();
+    }
+}
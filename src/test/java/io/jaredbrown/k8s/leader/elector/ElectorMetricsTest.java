@@ -0,0 +1,80 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElectorMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private ElectorMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new ElectorMetrics(registry);
+    }
+
+    @Test
+    void becameLeader_shouldRecordLeaderlessTimeOnlyAfterALeaderWasSeen() {
+        // First boot: no leader ever seen, so there is no leaderless interval to measure.
+        metrics.becameLeader();
+        metrics.lostLeadership();
+        assertEquals(0, registry
+                .get("elector.leaderless")
+                .timer()
+                .count());
+
+        metrics.leaderSeen();
+        metrics.becameLeader();
+
+        assertEquals(1, registry
+                .get("elector.leaderless")
+                .timer()
+                .count());
+        assertEquals(2.0, registry
+                .get("elector.leadership.transitions")
+                .tag("transition", "acquired")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void currentTenure_shouldTrackTheOngoingStintAndResetOnLoss() throws InterruptedException {
+        assertEquals(0.0, currentTenureMillis());
+
+        metrics.becameLeader();
+        Thread.sleep(20);
+        assertTrue(currentTenureMillis() >= 20);
+
+        metrics.lostLeadership();
+        assertEquals(0.0, currentTenureMillis());
+        assertEquals(1, registry
+                .get("elector.leadership.tenure")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void lostLeadership_shouldBeANoOpWhileFollowing() {
+        metrics.lostLeadership();
+
+        assertEquals(0.0, registry
+                .get("elector.leadership.transitions")
+                .tag("transition", "lost")
+                .counter()
+                .count());
+    }
+
+    private double currentTenureMillis() {
+        return registry
+                .get("elector.leader.current.tenure")
+                .timeGauge()
+                .value(TimeUnit.MILLISECONDS);
+    }
+}
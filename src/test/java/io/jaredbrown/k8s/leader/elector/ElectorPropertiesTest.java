@@ -44,6 +44,15 @@ class ElectorPropertiesTest {
         assertEquals(Duration.ofSeconds(120), properties.getLeaseDuration());
         assertEquals(Duration.ofSeconds(60), properties.getRenewDeadline());
         assertEquals(Duration.ofSeconds(5), properties.getRetryPeriod());
+        assertEquals(1, properties.getReconcilePatchConcurrency());
+        assertEquals(ElectorProperties.LockType.SPIN, properties.getLockType());
+        assertEquals(Duration.ofSeconds(15), properties.getOwnershipSafetyMargin());
+        assertEquals(ElectorProperties.LabelingMode.CLUSTER, properties.getLabelingMode());
+        assertEquals(ElectorProperties.ListConsistency.CONSISTENT, properties.getReconcileListConsistency());
+        assertFalse(properties.isDriftWatchEnabled());
+        assertEquals(Duration.ofSeconds(1), properties.getDriftCooldown());
+        assertEquals(Duration.ofSeconds(60), properties.getDriftMaxCooldown());
+        assertNull(properties.getLeadershipFilePath());
     }
 
     @Test
@@ -53,11 +62,16 @@ class ElectorPropertiesTest {
         // Then — disabled with safe defaults so probe-less consumers are unaffected
         assertFalse(properties.isHealthProbeEnabled());
         assertNull(properties.getHealthProbeFilePath());
+        assertNull(properties.getHealthProbeSocketPath());
         assertEquals("healthy", properties.getHealthProbeHealthyContent());
         assertEquals(Duration.ofMinutes(2), properties.getHealthProbeMaxAge());
         assertEquals(3, properties.getHealthProbeFailureThreshold());
         assertEquals(Duration.ofMinutes(5), properties.getHealthProbeDeadlockGrace());
         assertEquals(Duration.ofSeconds(30), properties.getHealthProbeUnhealthyBackoff());
+        assertEquals(ElectorProperties.HealthProbeMode.POLL, properties.getHealthProbeMode());
+        assertFalse(properties.isHealthProbeScoreEnabled());
+        assertEquals(0.0, properties.getHealthProbeScoreYieldMargin());
+        assertEquals(Duration.ofMinutes(5), properties.getHealthProbeScoreYieldAfter());
     }
 
     @Test
@@ -227,6 +241,24 @@ class ElectorPropertiesTest {
                                    .equals("renewDeadline")));
     }
 
+    @Test
+    void shouldFailValidationWhenReconcilePatchConcurrencyIsBelowOne() {
+        final ElectorProperties properties = new ElectorProperties();
+        properties.setLabelKey("test-label");
+        properties.setLockName("test-lock");
+        properties.setSelectorLabelValue("test-app");
+        properties.setReconcilePatchConcurrency(0);
+
+        final Set<ConstraintViolation<ElectorProperties>> violations = validator.validate(properties);
+
+        assertTrue(violations
+                           .stream()
+                           .anyMatch(v -> v
+                                   .getPropertyPath()
+                                   .toString()
+                                   .equals("reconcilePatchConcurrency")));
+    }
+
     @Test
     void shouldFailValidationWhenRetryPeriodIsNull() {
         final ElectorProperties properties = new ElectorProperties();
@@ -1,13 +1,17 @@
 package io.jaredbrown.k8s.leader.elector;
 
+import io.jaredbrown.k8s.leader.configuration.TaskSchedulerConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.integration.redis.util.RedisLockRegistry;
 import org.springframework.integration.support.locks.DistributedLock;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -16,13 +20,23 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -30,7 +44,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -54,6 +71,9 @@ class ElectorServiceTest {
     @Mock
     private ThreadPoolTaskScheduler taskScheduler;
 
+    @Mock
+    private ThreadPoolTaskExecutor reconcileExecutor;
+
     @Mock
     private DistributedLock lock;
 
@@ -63,14 +83,38 @@ class ElectorServiceTest {
     @Mock
     private HealthProbe healthProbe;
 
+    @Mock
+    private LeaderRecord leaderRecord;
+
+    @Mock
+    private CandidateScores candidateScores;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final LeadershipStatus leadershipStatus = new LeadershipStatus();
+
     private MutableClock clock;
 
+    // Stands in for System.nanoTime(), which the ownership trust window is kept on.
+    private final AtomicLong nanos = new AtomicLong();
+
     private ElectorService electorService;
 
     @BeforeEach
     void setUp() {
         clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
-        electorService = new ElectorService(callbacks, electorProperties, lockRegistry, taskScheduler, healthProbe, clock);
+        electorService = new ElectorService(callbacks,
+                                             electorProperties,
+                                             lockRegistry,
+                                             taskScheduler,
+                                             reconcileExecutor,
+                                             healthProbe,
+                                             clock,
+                                             leaderRecord,
+                                             candidateScores,
+                                             new ElectorMetrics(meterRegistry),
+                                             leadershipStatus);
+        ReflectionTestUtils.setField(electorService, "nanoClock", (LongSupplier) nanos::get);
 
         // Default to healthy so probe-agnostic tests are unaffected by the health gate; the
         // health-gate tests below override this per case.
@@ -94,6 +138,9 @@ class ElectorServiceTest {
         lenient()
                 .when(electorProperties.getHealthProbeUnhealthyBackoff())
                 .thenReturn(Duration.ofSeconds(30));
+        lenient()
+                .when(electorProperties.getOwnershipSafetyMargin())
+                .thenReturn(Duration.ofSeconds(15));
 
         // stop()/awaitLockRelease() submits the release onto taskScheduler and waits for it (the
         // real ThreadPoolTaskScheduler runs it there); the mock doesn't run anything by default, so
@@ -107,6 +154,25 @@ class ElectorServiceTest {
                             .run();
                     return CompletableFuture.completedFuture(null);
                 });
+        // Likewise for reconcileExecutor: passes and label clears run inline. Tests that need to
+        // see a pass queued before it runs override execute() with doNothing().
+        lenient()
+                .doAnswer(invocation -> {
+                    invocation
+                            .<Runnable>getArgument(0)
+                            .run();
+                    return null;
+                })
+                .when(reconcileExecutor)
+                .execute(any(Runnable.class));
+        lenient()
+                .when(reconcileExecutor.submit(any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation
+                            .<Runnable>getArgument(0)
+                            .run();
+                    return CompletableFuture.completedFuture(null);
+                });
     }
 
     @Test
@@ -133,9 +199,9 @@ class ElectorServiceTest {
     void lockLoop_shouldAcquireLockAndInvokeCallbacks() throws Exception {
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
-        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class),
-                                               any(Instant.class),
-                                               any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
 
         electorService.start();
 
@@ -148,17 +214,289 @@ class ElectorServiceTest {
 
         verify(lockRegistry).obtain("test-lock");
         verify(lock).tryLock(5L, TimeUnit.SECONDS);
-        verify(callbacks).onLockAcquired(any());
-        verify(taskScheduler).scheduleAtFixedRate(any(Runnable.class), any(Instant.class), eq(Duration.ofSeconds(60)));
+        verify(callbacks).onLockAcquired(any(), any());
+        verify(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), eq(Duration.ofSeconds(60)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void becomeLeader_shouldLabelSelfAndPreviousLeaderBeforeQueueingFullSweep() throws Exception {
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
+        when(leaderRecord.claim()).thenReturn("pod-old");
+        doNothing()
+                .when(reconcileExecutor)
+                .execute(any(Runnable.class));
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> lockLoopCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(lockLoopCaptor.capture(), any(Instant.class));
+        lockLoopCaptor
+                .getValue()
+                .run();
+
+        // Then: acquisition claims the record and schedules renewal, but the two-patch failover is
+        // only queued on the reconcile thread, behind the startup self-label.
+        verify(leaderRecord).claim();
+        verify(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), any(Duration.class));
+        verify(callbacks, never()).onLockAcquired(any(), any());
+        final ArgumentCaptor<Runnable> queuedCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(reconcileExecutor).execute(queuedCaptor.capture());
+        queuedCaptor
+                .getValue()
+                .run();
+
+        // When it runs, it labels self and the recorded previous leader, then queues the full sweep
+        // rather than running it inside.
+        verify(callbacks).onLockAcquired(any(), eq("pod-old"));
+        verify(reconcileExecutor, times(2)).execute(queuedCaptor.capture());
+        verify(callbacks, never()).reconcileLeaderLabels(any());
+
+        queuedCaptor
+                .getAllValues()
+                .getLast()
+                .run();
+        verify(callbacks).reconcileLeaderLabels(any());
     }
 
     @Test
+    @SuppressWarnings("unchecked")
+    void becomeLeader_shouldWatchPodsAndCoalesceDriftTriggeredReconciles() throws Exception {
+        doNothing()
+                .when(reconcileExecutor)
+                .execute(any(Runnable.class));
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> lockLoopCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(lockLoopCaptor.capture(), any(Instant.class));
+        lockLoopCaptor
+                .getValue()
+                .run();
+        // The leader-label moves, queued on the reconcile thread, start the watch.
+        final ArgumentCaptor<Runnable> acquisitionCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(reconcileExecutor).execute(acquisitionCaptor.capture());
+        acquisitionCaptor
+                .getValue()
+                .run();
+
+        final ArgumentCaptor<Runnable> driftCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(callbacks).watchPods(driftCaptor.capture());
+
+        // When: a burst of drift events arrives before the scheduler gets to the queued pass.
+        driftCaptor
+                .getValue()
+                .run();
+        driftCaptor
+                .getValue()
+                .run();
+
+        // Then: they coalesced into the full sweep acquisition already queued - exactly one pass,
+        // reconciling on the reconcile thread.
+        final ArgumentCaptor<Runnable> reconcileCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(reconcileExecutor, times(2)).execute(reconcileCaptor.capture());
+        reconcileCaptor
+                .getValue()
+                .run();
+        verify(callbacks, times(1)).reconcileLeaderLabels(any());
+
+        // Once that pass has started, the next drift event queues a fresh one.
+        driftCaptor
+                .getValue()
+                .run();
+        verify(reconcileExecutor, times(3)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void renewals_shouldKeepFiringOnScheduleWhileReconcileStalls() throws Exception {
+        // Given: the real single-threaded scheduler and reconcile executor, renewing every 50ms.
+        final TaskSchedulerConfiguration configuration = new TaskSchedulerConfiguration();
+        final ThreadPoolTaskScheduler realScheduler = configuration.taskScheduler();
+        final ThreadPoolTaskExecutor realExecutor = configuration.reconcileExecutor();
+        final ElectorService service = new ElectorService(callbacks,
+                                                          electorProperties,
+                                                          lockRegistry,
+                                                          realScheduler,
+                                                          realExecutor,
+                                                          healthProbe,
+                                                          Clock.systemUTC(),
+                                                          leaderRecord,
+                                                          candidateScores,
+                                                          new ElectorMetrics(meterRegistry),
+                                             leadershipStatus);
+        when(electorProperties.getRenewDeadline()).thenReturn(Duration.ofMillis(50));
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
+        final List<Long> renewedAt = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> renewedAt.add(System.nanoTime()))
+                .when(lockRegistry)
+                .renewLock(anyString(), any(Duration.class));
+        // And: the first reconcile pass hangs on the Kubernetes API until released.
+        final CountDownLatch apiRecovers = new CountDownLatch(1);
+        final AtomicInteger passes = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (passes.incrementAndGet() == 1) {
+                apiRecovers.await();
+            }
+            return null;
+        })
+                .when(callbacks)
+                .reconcileLeaderLabels(any());
+
+        try {
+            service.start();
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> passes.get() == 1);
+            final int renewalsBefore = renewedAt.size();
+            Thread.sleep(1000);
+
+            // Then: renewals kept their ~50ms cadence through a full second of stalled reconcile...
+            final List<Long> duringStall = List.copyOf(renewedAt.subList(renewalsBefore, renewedAt.size()));
+            assertTrue(duringStall.size() >= 10, "renewals during stall: " + duringStall.size());
+            for (int i = 1; i < duringStall.size(); i++) {
+                assertTrue(duringStall.get(i) - duringStall.get(i - 1) < Duration
+                        .ofMillis(500)
+                        .toNanos());
+            }
+            // ...and every tick's reconcile request collapsed into one follow-up behind the stall.
+            assertEquals(1, passes.get());
+            apiRecovers.countDown();
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> passes.get() >= 2);
+        } finally {
+            apiRecovers.countDown();
+            service.stop();
+            realScheduler.shutdown();
+            realExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void start_shouldAttemptFirstAcquisitionWithoutWaitingForSelfLabel() throws Exception {
+        // Given: the real single-threaded scheduler and reconcile executor.
+        final TaskSchedulerConfiguration configuration = new TaskSchedulerConfiguration();
+        final ThreadPoolTaskScheduler realScheduler = configuration.taskScheduler();
+        final ThreadPoolTaskExecutor realExecutor = configuration.reconcileExecutor();
+        final ElectorService service = new ElectorService(callbacks,
+                                                          electorProperties,
+                                                          lockRegistry,
+                                                          realScheduler,
+                                                          realExecutor,
+                                                          healthProbe,
+                                                          Clock.systemUTC(),
+                                                          leaderRecord,
+                                                          candidateScores,
+                                                          new ElectorMetrics(meterRegistry),
+                                                          leadershipStatus);
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        final AtomicLong firstAttemptAt = new AtomicLong();
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenAnswer(invocation -> {
+            firstAttemptAt.compareAndSet(0, System.nanoTime());
+            return true;
+        });
+        // And: the startup self-label hangs on a slow API server until released.
+        final CountDownLatch apiRecovers = new CountDownLatch(1);
+        final CountDownLatch selfLabelStarted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            selfLabelStarted.countDown();
+            apiRecovers.await();
+            return null;
+        })
+                .when(callbacks)
+                .ensureSelfLabeled();
+
+        try {
+            final long startedAt = System.nanoTime();
+            service.start();
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> firstAttemptAt.get() != 0);
+
+            // Then: the first tryLock went out while the self-label was still in flight...
+            final long startToFirstAttempt = firstAttemptAt.get() - startedAt;
+            assertTrue(selfLabelStarted.await(0, TimeUnit.SECONDS));
+            assertTrue(startToFirstAttempt < Duration
+                               .ofMillis(250)
+                               .toNanos(),
+                       "start() to first tryLock: " + TimeUnit.NANOSECONDS.toMillis(startToFirstAttempt) + "ms");
+            // ...and becoming leader did not park the scheduler thread behind it either...
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> leadershipStatus
+                            .current()
+                            .state() == LeadershipStatus.State.LEADER);
+            assertTrue(realScheduler
+                               .submit(() -> true)
+                               .get(1, TimeUnit.SECONDS));
+            // ...but the won lock's leader=true waits for the self-label's leader=false to land.
+            verify(callbacks, never()).onLockAcquired(any(), any());
+            apiRecovers.countDown();
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> verify(callbacks).onLockAcquired(any(), any()));
+            final InOrder inOrder = inOrder(callbacks);
+            inOrder
+                    .verify(callbacks)
+                    .ensureSelfLabeled();
+            inOrder
+                    .verify(callbacks)
+                    .onLockAcquired(any(), any());
+        } finally {
+            apiRecovers.countDown();
+            service.stop();
+            realScheduler.shutdown();
+            realExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void start_shouldLabelSelfInlineWhenReconcileExecutorRejects() {
+        when(reconcileExecutor.submit(any(Runnable.class))).thenThrow(new RejectedExecutionException("shut down"));
+
+        electorService.start();
+
+        verify(callbacks).ensureSelfLabeled();
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void requestReconcile_shouldBeNoOpWhenNotLeading() {
+        electorService.start();
+
+        electorService.requestReconcile();
+
+        verify(reconcileExecutor, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
     void lockLoop_shouldReleaseLockAndRetryWhenLockAcquiredCallbackFails() throws Exception {
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
         doThrow(new IllegalStateException("failed to label elected pod"))
                 .when(callbacks)
-                .onLockAcquired(any());
+                .onLockAcquired(any(), any());
+        // The callback fails on the reconcile thread, which hands the release back to the scheduler.
+        doAnswer(invocation -> {
+            invocation
+                    .<Runnable>getArgument(0)
+                    .run();
+            return null;
+        })
+                .when(taskScheduler)
+                .execute(any(Runnable.class));
 
         electorService.start();
 
@@ -169,9 +507,32 @@ class ElectorServiceTest {
                 .getValue()
                 .run();
 
-        verify(callbacks).onLockAcquired(any());
+        verify(callbacks).onLockAcquired(any(), any());
         verify(lock).unlock();
-        verify(taskScheduler, never()).scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class));
+        verify(scheduledFuture).cancel(true);
+        verify(callbacks).onLockLost();
+        verify(callbacks, never()).watchPods(any());
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void lockLoop_shouldReleaseLockAndRetryWhenLeaderRecordClaimFails() throws Exception {
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
+        when(leaderRecord.claim()).thenThrow(new IllegalStateException("Redis unavailable"));
+
+        electorService.start();
+
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+
+        runnableCaptor
+                .getValue()
+                .run();
+
+        verify(callbacks, never()).onLockAcquired(any(), any());
+        verify(lock).unlock();
+        verify(taskScheduler, never()).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), any(Duration.class));
         verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
     }
 
@@ -191,10 +552,171 @@ class ElectorServiceTest {
 
         verify(lockRegistry).obtain("test-lock");
         verify(lock).tryLock(5L, TimeUnit.SECONDS);
-        verify(callbacks, never()).onLockAcquired(any());
+        verify(callbacks, never()).onLockAcquired(any(), any());
         verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
     }
 
+    @Test
+    void stop_shouldInterruptPendingAcquisitionInsteadOfWaitingItOut() throws Exception {
+        final CountDownLatch parked = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean(false);
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenAnswer(invocation -> {
+            parked.countDown();
+            try {
+                // Stands in for a tryLock that would otherwise wait out its whole retryPeriod.
+                new CountDownLatch(1).await();
+            } catch (final InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            }
+            return false;
+        });
+        electorService.start();
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+        final Thread schedulerThread = new Thread(runnableCaptor.getValue());
+        schedulerThread.start();
+        assertTrue(parked.await(5, TimeUnit.SECONDS));
+
+        electorService.stop();
+
+        // Then: the wait ends at once, so the release stop() queues is not stuck behind it.
+        schedulerThread.join(Duration.ofSeconds(5));
+        assertFalse(schedulerThread.isAlive());
+        assertTrue(interrupted.get());
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void lockLoop_shouldLeaveLockWonDuringShutdownForTheQueuedRelease() throws Exception {
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        electorService.start();
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenAnswer(invocation -> {
+            // stop() begins while the wait is in progress, and the lock is won anyway.
+            ((AtomicBoolean) ReflectionTestUtils.getField(electorService, "running")).set(false);
+            return true;
+        });
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+
+        runnableCaptor
+                .getValue()
+                .run();
+
+        // Then: no leadership is taken up, but the lock is where stop()'s release will find it.
+        verify(callbacks, never()).onLockAcquired(any(), any());
+        electorService.stop();
+        verify(lock).unlock();
+    }
+
+    @Test
+    void lockLoop_pubSubLock_shouldRetryWithoutIdlingWhenLockNotAcquired() throws Exception {
+        when(electorProperties.getLockType()).thenReturn(ElectorProperties.LockType.PUB_SUB);
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(false);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+        runnableCaptor
+                .getValue()
+                .run();
+
+        // Then: the timed tryLock was the wait; the next one is queued for now, not retryPeriod out.
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), eq(clock.instant()));
+    }
+
+    @Test
+    void lockLoop_pubSubLock_shouldStillBackOffWhenUnhealthy() throws Exception {
+        lenient()
+                .when(electorProperties.getLockType())
+                .thenReturn(ElectorProperties.LockType.PUB_SUB);
+        when(healthProbe.isHealthy()).thenReturn(false);
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(false);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+        runnableCaptor
+                .getValue()
+                .run();
+
+        verify(taskScheduler).schedule(any(Runnable.class), eq(clock
+                                                                  .instant()
+                                                                  .plus(Duration.ofSeconds(30))));
+    }
+
+    @Test
+    void lockLoop_selfLabelingMode_shouldCheckFollowerLabelAtMostOncePerRenewDeadline() throws Exception {
+        when(electorProperties.getLabelingMode()).thenReturn(ElectorProperties.LabelingMode.SELF);
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(false);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+        final Runnable lockLoop = runnableCaptor.getValue();
+
+        // When: three failed attempts, the last one a full renewDeadline after the first.
+        lockLoop.run();
+        clock.advance(Duration.ofSeconds(5));
+        lockLoop.run();
+        clock.advance(Duration.ofSeconds(55));
+        lockLoop.run();
+
+        // Then: a follower's own-label GET runs at the leader's reconcile cadence, not every retry.
+        verify(callbacks, times(2)).reconcileFollowerLabel();
+    }
+
+    @Test
+    void lockLoop_selfLabelingMode_shouldQueueFollowerLabelCheckOffTheSchedulerThread() throws Exception {
+        when(electorProperties.getLabelingMode()).thenReturn(ElectorProperties.LabelingMode.SELF);
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(false);
+        doNothing()
+                .when(reconcileExecutor)
+                .execute(any(Runnable.class));
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+        final Runnable lockLoop = runnableCaptor.getValue();
+
+        // When: two failed attempts a renewDeadline apart, before the reconcile thread gets to the
+        // first check.
+        lockLoop.run();
+        clock.advance(Duration.ofSeconds(60));
+        lockLoop.run();
+
+        // Then: the attempt did not wait on the API server - the check is only queued, once.
+        verify(callbacks, never()).reconcileFollowerLabel();
+        final ArgumentCaptor<Runnable> checkCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(reconcileExecutor).execute(checkCaptor.capture());
+        checkCaptor
+                .getValue()
+                .run();
+        verify(callbacks).reconcileFollowerLabel();
+    }
+
+    @Test
+    void lockLoop_clusterLabelingMode_shouldNotCheckFollowerLabel() throws Exception {
+        when(electorProperties.getLabelingMode()).thenReturn(ElectorProperties.LabelingMode.CLUSTER);
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(false);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+        runnableCaptor
+                .getValue()
+                .run();
+
+        verify(callbacks, never()).reconcileFollowerLabel();
+    }
+
     @Test
     void lockLoop_shouldHandleInterruptedException() throws Exception {
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
@@ -209,10 +731,43 @@ class ElectorServiceTest {
                 .getValue()
                 .run();
 
-        verify(callbacks, never()).onLockAcquired(any());
+        verify(callbacks, never()).onLockAcquired(any(), any());
         assertTrue(Thread.interrupted()); // Verify interrupt flag is set
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void lockLoop_shouldClearAnInterruptThatLandsAsTryLockReturns() throws Exception {
+        // Given: stop()'s interrupt reaches the scheduler thread just as tryLock wins the lock, too
+        // late to cut the wait short.
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenAnswer(invocation -> {
+            ReflectionTestUtils.invokeMethod(electorService, "interruptAcquisition");
+            return true;
+        });
+        final AtomicBoolean interruptedAtClaim = new AtomicBoolean(true);
+        when(leaderRecord.claim()).thenAnswer(invocation -> {
+            interruptedAtClaim.set(Thread
+                                           .currentThread()
+                                           .isInterrupted());
+            return null;
+        });
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+        runnableCaptor
+                .getValue()
+                .run();
+
+        // Then: the stray interrupt is gone before the next blocking call, which would otherwise fail.
+        assertFalse(interruptedAtClaim.get());
+        assertFalse(Thread.interrupted());
+    }
+
     @Test
     void lockLoop_shouldRetryOnException() throws Exception {
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
@@ -227,7 +782,7 @@ class ElectorServiceTest {
                 .getValue()
                 .run();
 
-        verify(callbacks, never()).onLockAcquired(any());
+        verify(callbacks, never()).onLockAcquired(any(), any());
         verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
     }
 
@@ -236,9 +791,9 @@ class ElectorServiceTest {
     void refreshLock_shouldRenewLock() throws Exception {
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
-        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class),
-                                               any(Instant.class),
-                                               any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
 
         electorService.start();
 
@@ -249,15 +804,118 @@ class ElectorServiceTest {
                 .run();
 
         final ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
-        verify(taskScheduler).scheduleAtFixedRate(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
+        verify(taskScheduler).scheduleWithFixedDelay(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
 
         refreshCaptor
                 .getValue()
                 .run();
 
         verify(lockRegistry).renewLock("test-lock", Duration.ofSeconds(120));
-        // Self-heals any label a prior attempt failed to set, every renewal tick.
-        verify(callbacks).reconcileLeaderLabels(any());
+        // Self-heals any label a prior attempt failed to set, every renewal tick - on top of the
+        // sweep right after acquisition.
+        verify(callbacks, times(2)).reconcileLeaderLabels(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void metrics_shouldRecordAcquisitionRenewalAndLoss() throws Exception {
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> lockLoopCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(lockLoopCaptor.capture(), any(Instant.class));
+        lockLoopCaptor
+                .getValue()
+                .run();
+        final ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).scheduleWithFixedDelay(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
+        refreshCaptor
+                .getValue()
+                .run();
+
+        assertEquals(1, meterRegistry
+                .get("elector.lock.acquire")
+                .tag("outcome", "acquired")
+                .timer()
+                .count());
+        assertEquals(1, meterRegistry
+                .get("elector.lock.renew")
+                .tag("outcome", "success")
+                .timer()
+                .count());
+        assertEquals(1.0, meterRegistry
+                .get("elector.leader")
+                .gauge()
+                .value());
+
+        electorService.stop();
+
+        assertEquals(1.0, meterRegistry
+                .get("elector.leadership.transitions")
+                .tag("transition", "lost")
+                .counter()
+                .count());
+        assertEquals(1, meterRegistry
+                .get("elector.leadership.tenure")
+                .timer()
+                .count());
+        assertEquals(0.0, meterRegistry
+                .get("elector.leader")
+                .gauge()
+                .value());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void leadershipStatus_shouldFollowAcquisitionRenewalAndRelease() throws Exception {
+        final Instant start = clock.instant();
+        final List<LeadershipStatus.State> states = new ArrayList<>();
+        leadershipStatus
+                .updates()
+                .subscribe(snapshot -> states.add(snapshot.state()));
+        final List<Instant> leaseExtensions = new ArrayList<>();
+        leadershipStatus.onLeaseExtended(leaseExtensions::add);
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> lockLoopCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(lockLoopCaptor.capture(), any(Instant.class));
+        lockLoopCaptor
+                .getValue()
+                .run();
+
+        // The lease counts from the start of the winning attempt.
+        assertEquals(new LeadershipStatus.Snapshot(LeadershipStatus.State.LEADER, 1, start.plusSeconds(120)),
+                     leadershipStatus.current());
+
+        clock.advance(Duration.ofSeconds(60));
+        final ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).scheduleWithFixedDelay(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
+        refreshCaptor
+                .getValue()
+                .run();
+
+        // A renewal moves the lease, not the epoch, and publishes no new state.
+        assertEquals(new LeadershipStatus.Snapshot(LeadershipStatus.State.LEADER, 1, start.plusSeconds(180)),
+                     leadershipStatus.current());
+        assertEquals(List.of(start.plusSeconds(180)), leaseExtensions);
+
+        electorService.stop();
+
+        assertEquals(new LeadershipStatus.Snapshot(LeadershipStatus.State.FOLLOWER, 3, null),
+                     leadershipStatus.current());
+        assertEquals(List.of(LeadershipStatus.State.FOLLOWER,
+                             LeadershipStatus.State.LEADER,
+                             LeadershipStatus.State.RELEASING,
+                             LeadershipStatus.State.FOLLOWER), states);
     }
 
     @Test
@@ -266,9 +924,9 @@ class ElectorServiceTest {
         // Given: the first renew attempt throws, the second (immediate retry) succeeds.
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
-        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class),
-                                               any(Instant.class),
-                                               any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
         doThrow(new RuntimeException("Redis blip"))
                 .doNothing()
                 .when(lockRegistry)
@@ -283,7 +941,7 @@ class ElectorServiceTest {
                 .run();
 
         final ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
-        verify(taskScheduler).scheduleAtFixedRate(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
+        verify(taskScheduler).scheduleWithFixedDelay(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
 
         refreshCaptor
                 .getValue()
@@ -292,7 +950,8 @@ class ElectorServiceTest {
         // Then: a single transient failure does not cost leadership — it's absorbed by the retry.
         verify(lockRegistry, times(2)).renewLock("test-lock", Duration.ofSeconds(120));
         verify(callbacks, never()).onLockLost();
-        verify(callbacks).reconcileLeaderLabels(any());
+        // One sweep right after acquisition, one from the renewal tick.
+        verify(callbacks, times(2)).reconcileLeaderLabels(any());
     }
 
     @Test
@@ -301,9 +960,9 @@ class ElectorServiceTest {
         // Given: both the initial renew attempt AND its immediate retry fail.
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
-        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class),
-                                               any(Instant.class),
-                                               any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
         doThrow(new RuntimeException("Renew failed"))
                 .when(lockRegistry)
                 .renewLock(anyString(), any(Duration.class));
@@ -317,7 +976,7 @@ class ElectorServiceTest {
                 .run();
 
         final ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
-        verify(taskScheduler).scheduleAtFixedRate(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
+        verify(taskScheduler).scheduleWithFixedDelay(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
 
         refreshCaptor
                 .getValue()
@@ -360,9 +1019,9 @@ class ElectorServiceTest {
         // Then: it does not lead, releases the transiently-held lock, and re-probes — but on the
         // longer unhealthy backoff (30s), NOT the tight retryPeriod (5s). Re-grabbing the free lock
         // every retryPeriod is exactly the livelock that starves the healthy peers racing for it.
-        verify(callbacks, never()).onLockAcquired(any());
+        verify(callbacks, never()).onLockAcquired(any(), any());
         verify(lock).unlock();
-        verify(taskScheduler, never()).scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class));
+        verify(taskScheduler, never()).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), any(Duration.class));
         final ArgumentCaptor<Instant> whenCaptor = ArgumentCaptor.forClass(Instant.class);
         verify(taskScheduler, times(2)).schedule(any(Runnable.class), whenCaptor.capture());
         final Instant t0 = Instant.parse("2026-01-01T00:00:00Z");
@@ -395,7 +1054,7 @@ class ElectorServiceTest {
                 .run();
 
         // Then: it re-probes on retryPeriod (5s), not the unhealthy backoff (30s).
-        verify(callbacks, never()).onLockAcquired(any());
+        verify(callbacks, never()).onLockAcquired(any(), any());
         verify(lock).unlock();
         final ArgumentCaptor<Instant> whenCaptor = ArgumentCaptor.forClass(Instant.class);
         verify(taskScheduler, times(2)).schedule(any(Runnable.class), whenCaptor.capture());
@@ -422,7 +1081,7 @@ class ElectorServiceTest {
 
         // Then: an unhealthy pod has no business racing for leadership, so it re-probes on the
         // longer backoff (30s) rather than the retryPeriod (5s) a healthy pod would use here.
-        verify(callbacks, never()).onLockAcquired(any());
+        verify(callbacks, never()).onLockAcquired(any(), any());
         final ArgumentCaptor<Instant> whenCaptor = ArgumentCaptor.forClass(Instant.class);
         verify(taskScheduler, times(2)).schedule(any(Runnable.class), whenCaptor.capture());
         final Instant t0 = Instant.parse("2026-01-01T00:00:00Z");
@@ -463,9 +1122,9 @@ class ElectorServiceTest {
         when(electorProperties.getHealthProbeDeadlockGrace()).thenReturn(Duration.ZERO);
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
-        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class),
-                                               any(Instant.class),
-                                               any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
 
         electorService.start();
         final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
@@ -476,8 +1135,8 @@ class ElectorServiceTest {
                 .run();
 
         // Then: it leads (degraded) rather than deadlocking forever
-        verify(callbacks).onLockAcquired(any());
-        verify(taskScheduler).scheduleAtFixedRate(any(Runnable.class), any(Instant.class), eq(Duration.ofSeconds(60)));
+        verify(callbacks).onLockAcquired(any(), any());
+        verify(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), eq(Duration.ofSeconds(60)));
     }
 
     @Test
@@ -488,9 +1147,9 @@ class ElectorServiceTest {
         when(electorProperties.getHealthProbeFailureThreshold()).thenReturn(1);
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
-        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class),
-                                               any(Instant.class),
-                                               any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
 
         electorService.start();
         final ArgumentCaptor<Runnable> lockLoopCaptor = ArgumentCaptor.forClass(Runnable.class);
@@ -500,7 +1159,7 @@ class ElectorServiceTest {
                 .run();
 
         final ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
-        verify(taskScheduler).scheduleAtFixedRate(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
+        verify(taskScheduler).scheduleWithFixedDelay(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
 
         refreshCaptor
                 .getValue()
@@ -512,6 +1171,44 @@ class ElectorServiceTest {
         verify(lock).unlock();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void healthProbeTurningUnhealthy_shouldRelinquishWithoutWaitingForTheNextRenewal() throws Exception {
+        // Given: leading, with threshold 1
+        when(healthProbe.isHealthy()).thenReturn(true, false);
+        when(electorProperties.getHealthProbeFailureThreshold()).thenReturn(1);
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> listenerCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(healthProbe).setUnhealthyListener(listenerCaptor.capture());
+        final ArgumentCaptor<Runnable> lockLoopCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(lockLoopCaptor.capture(), any(Instant.class));
+        lockLoopCaptor
+                .getValue()
+                .run();
+
+        // When: the watched status file turns unhealthy between renewal ticks
+        listenerCaptor
+                .getValue()
+                .run();
+        final ArgumentCaptor<Runnable> checkCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).execute(checkCaptor.capture());
+        checkCaptor
+                .getValue()
+                .run();
+
+        // Then: it relinquishes on the scheduler thread right away, with no renewal tick
+        verify(lockRegistry, never()).renewLock(anyString(), any(Duration.class));
+        verify(scheduledFuture).cancel(true);
+        verify(callbacks).onLockLost();
+        verify(lock).unlock();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void refreshLock_shouldTolerateTransientUnhealthyBelowThreshold() throws Exception {
@@ -520,9 +1217,9 @@ class ElectorServiceTest {
         when(electorProperties.getHealthProbeFailureThreshold()).thenReturn(3);
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
-        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class),
-                                               any(Instant.class),
-                                               any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
 
         electorService.start();
         final ArgumentCaptor<Runnable> lockLoopCaptor = ArgumentCaptor.forClass(Runnable.class);
@@ -532,7 +1229,7 @@ class ElectorServiceTest {
                 .run();
 
         final ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
-        verify(taskScheduler).scheduleAtFixedRate(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
+        verify(taskScheduler).scheduleWithFixedDelay(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
 
         refreshCaptor
                 .getValue()
@@ -541,7 +1238,8 @@ class ElectorServiceTest {
         // Then: a single failure below the threshold keeps the lock (renews, does not relinquish)
         verify(lockRegistry).renewLock("test-lock", Duration.ofSeconds(120));
         verify(callbacks, never()).onLockLost();
-        verify(callbacks).reconcileLeaderLabels(any());
+        // One sweep right after acquisition, one from the renewal tick.
+        verify(callbacks, times(2)).reconcileLeaderLabels(any());
     }
 
     @Test
@@ -556,9 +1254,9 @@ class ElectorServiceTest {
         when(electorProperties.getHealthProbeFailureThreshold()).thenReturn(1);
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
-        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class),
-                                               any(Instant.class),
-                                               any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
 
         electorService.start();
         final ArgumentCaptor<Runnable> loopCaptor = ArgumentCaptor.forClass(Runnable.class);
@@ -567,16 +1265,16 @@ class ElectorServiceTest {
 
         // 1) First loop, still within grace: starts the deadlock timer but does not lead.
         lockLoop.run();
-        verify(callbacks, never()).onLockAcquired(any());
+        verify(callbacks, never()).onLockAcquired(any(), any());
 
         // 2) Grace elapses → next loop breaks the deadlock and leads (degraded).
         clock.advance(Duration.ofMinutes(6));
         lockLoop.run();
-        verify(callbacks, times(1)).onLockAcquired(any());
+        verify(callbacks, times(1)).onLockAcquired(any(), any());
 
         // Fire the refresh: unhealthy at threshold 1 → relinquish leadership.
         final ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
-        verify(taskScheduler).scheduleAtFixedRate(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
+        verify(taskScheduler).scheduleWithFixedDelay(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
         refreshCaptor
                 .getValue()
                 .run();
@@ -585,7 +1283,97 @@ class ElectorServiceTest {
         // 3) Immediate re-acquire attempt, still unhealthy, no time advanced: must NOT re-lead,
         //    proving the deadlock timer was reset on becoming leader (still only one acquisition).
         lockLoop.run();
-        verify(callbacks, times(1)).onLockAcquired(any());
+        verify(callbacks, times(1)).onLockAcquired(any(), any());
+    }
+
+    @Test
+    void lockLoop_withScores_shouldDeferToABetterScoringPeer() throws Exception {
+        // Given: healthy, scoring 0.4, while a contending peer scores 0.9.
+        when(electorProperties.isHealthProbeScoreEnabled()).thenReturn(true);
+        when(healthProbe.score()).thenReturn(0.4);
+        when(candidateScores.bestPeer()).thenReturn(OptionalDouble.of(0.9));
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+
+        runnableCaptor
+                .getValue()
+                .run();
+
+        // Then: it publishes its score but sits this attempt out, checking again after retryPeriod.
+        verify(candidateScores).publish(0.4);
+        verify(lockRegistry, never()).obtain(anyString());
+        final ArgumentCaptor<Instant> whenCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), whenCaptor.capture());
+        assertEquals(Instant
+                             .parse("2026-01-01T00:00:00Z")
+                             .plus(Duration.ofSeconds(5)), whenCaptor
+                             .getAllValues()
+                             .get(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void lockLoop_withScores_shouldContendAndWithdrawOnLeadingWhenNoPeerScoresHigher() throws Exception {
+        when(electorProperties.isHealthProbeScoreEnabled()).thenReturn(true);
+        when(healthProbe.score()).thenReturn(0.9);
+        when(candidateScores.bestPeer()).thenReturn(OptionalDouble.of(0.9));
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+
+        runnableCaptor
+                .getValue()
+                .run();
+
+        // Then: an equal score races as before, and the new leader leaves the candidate board.
+        verify(callbacks).onLockAcquired(any(), any());
+        verify(candidateScores).withdraw();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refreshLock_withScores_shouldYieldOnlyOnceOutscoredForYieldAfter() throws Exception {
+        // Given: leading at 0.5, with a peer at 0.9 - past the 0.2 yield margin.
+        when(electorProperties.isHealthProbeScoreEnabled()).thenReturn(true);
+        when(electorProperties.getHealthProbeScoreYieldMargin()).thenReturn(0.2);
+        when(electorProperties.getHealthProbeScoreYieldAfter()).thenReturn(Duration.ofMinutes(2));
+        when(healthProbe.score()).thenReturn(0.5);
+        when(candidateScores.bestPeer()).thenReturn(OptionalDouble.empty(), OptionalDouble.of(0.9));
+        when(lockRegistry.obtain("test-lock")).thenReturn(lock);
+        when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+
+        electorService.start();
+        final ArgumentCaptor<Runnable> lockLoopCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(lockLoopCaptor.capture(), any(Instant.class));
+        lockLoopCaptor
+                .getValue()
+                .run();
+        final ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).scheduleWithFixedDelay(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
+        final Runnable refresh = refreshCaptor.getValue();
+
+        // When: the first out-scored tick only starts the clock.
+        refresh.run();
+        verify(lockRegistry).renewLock("test-lock", Duration.ofSeconds(120));
+        verify(lock, never()).unlock();
+
+        // Then: still out-scored once yieldAfter has passed, it yields instead of renewing.
+        clock.advance(Duration.ofMinutes(2));
+        refresh.run();
+        verify(lockRegistry, times(1)).renewLock(anyString(), any(Duration.class));
+        verify(lock).unlock();
+        verify(callbacks).onLockLost();
     }
 
     @Test
@@ -623,6 +1411,97 @@ class ElectorServiceTest {
         assertFalse(electorService.stillOwnsLock());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void stillOwnsLock_shouldTrustRenewalUntilSafetyMarginThenRenewAgain() {
+        // A renewal period past the margin, so the margin rather than the renewDeadline cap ends the window.
+        when(electorProperties.getRenewDeadline()).thenReturn(Duration.ofSeconds(110));
+        ((AtomicBoolean) ReflectionTestUtils.getField(electorService, "running")).set(true);
+        ((AtomicReference<DistributedLock>) ReflectionTestUtils.getField(electorService, "lock")).set(lock);
+
+        // When: a 200-pod reconcile's worth of checks, right after one renewal.
+        for (int i = 0; i < 200; i++) {
+            assertTrue(electorService.stillOwnsLock());
+        }
+
+        // Then: one round trip; the rest are answered from the 120s lease minus the 15s margin.
+        verify(lockRegistry, times(1)).renewLock("test-lock", Duration.ofSeconds(120));
+
+        // And: once only the margin is left, the next check asks Redis again.
+        advanceNanos(Duration.ofSeconds(104));
+        assertTrue(electorService.stillOwnsLock());
+        verify(lockRegistry, times(1)).renewLock("test-lock", Duration.ofSeconds(120));
+        advanceNanos(Duration.ofSeconds(1));
+        assertTrue(electorService.stillOwnsLock());
+        verify(lockRegistry, times(2)).renewLock("test-lock", Duration.ofSeconds(120));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void stillOwnsLock_shouldCapTrustAtRenewDeadline() {
+        ((AtomicBoolean) ReflectionTestUtils.getField(electorService, "running")).set(true);
+        ((AtomicReference<DistributedLock>) ReflectionTestUtils.getField(electorService, "lock")).set(lock);
+        assertTrue(electorService.stillOwnsLock());
+
+        // When: the 60s renewDeadline runs out, well inside the 120s lease minus the 15s margin.
+        advanceNanos(Duration.ofSeconds(59));
+        assertTrue(electorService.stillOwnsLock());
+        verify(lockRegistry, times(1)).renewLock("test-lock", Duration.ofSeconds(120));
+        advanceNanos(Duration.ofSeconds(1));
+
+        // Then: a key Redis lost goes unnoticed for at most one renewal period, so Redis is asked.
+        assertTrue(electorService.stillOwnsLock());
+        verify(lockRegistry, times(2)).renewLock("test-lock", Duration.ofSeconds(120));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void stillOwnsLock_shouldNotStretchTrustWhenWallClockStepsBack() {
+        ((AtomicBoolean) ReflectionTestUtils.getField(electorService, "running")).set(true);
+        ((AtomicReference<DistributedLock>) ReflectionTestUtils.getField(electorService, "lock")).set(lock);
+        assertTrue(electorService.stillOwnsLock());
+
+        // When: the window runs out while NTP steps the wall clock back an hour.
+        advanceNanos(Duration.ofSeconds(105));
+        clock.advance(Duration.ofHours(-1));
+
+        // Then: the check asks Redis rather than trusting a window the step made look fresh.
+        assertTrue(electorService.stillOwnsLock());
+        verify(lockRegistry, times(2)).renewLock("test-lock", Duration.ofSeconds(120));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void stillOwnsLock_shouldAskRedisAgainAfterRejectedRenew() {
+        ((AtomicBoolean) ReflectionTestUtils.getField(electorService, "running")).set(true);
+        ((AtomicReference<DistributedLock>) ReflectionTestUtils.getField(electorService, "lock")).set(lock);
+        assertTrue(electorService.stillOwnsLock());
+        advanceNanos(Duration.ofSeconds(110));
+        doThrow(new IllegalStateException("Could not renew mutex at test-lock"))
+                .when(lockRegistry)
+                .renewLock(anyString(), any(Duration.class));
+
+        assertFalse(electorService.stillOwnsLock());
+        advanceNanos(Duration.ofSeconds(-110));
+
+        // Then: a rejection is never cached over, even if the clock is still inside the old window.
+        assertFalse(electorService.stillOwnsLock());
+        verify(lockRegistry, times(3)).renewLock("test-lock", Duration.ofSeconds(120));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void stillOwnsLock_shouldAlwaysAskRedisWhenMarginCoversLease() {
+        when(electorProperties.getOwnershipSafetyMargin()).thenReturn(Duration.ofSeconds(120));
+        ((AtomicBoolean) ReflectionTestUtils.getField(electorService, "running")).set(true);
+        ((AtomicReference<DistributedLock>) ReflectionTestUtils.getField(electorService, "lock")).set(lock);
+
+        assertTrue(electorService.stillOwnsLock());
+        assertTrue(electorService.stillOwnsLock());
+
+        verify(lockRegistry, times(2)).renewLock("test-lock", Duration.ofSeconds(120));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void stillOwnsLock_shouldReturnFalseAndSkipRedisWhenNotRunning() {
@@ -659,9 +1538,9 @@ class ElectorServiceTest {
     void releaseLockIfHeld_shouldHandleUnlockException() throws Exception {
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
-        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class),
-                                               any(Instant.class),
-                                               any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
         doThrow(new RuntimeException("Unlock failed"))
                 .when(lock)
                 .unlock();
@@ -691,9 +1570,9 @@ class ElectorServiceTest {
         // taskScheduler instead of calling releaseLockIfHeld() inline.
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
-        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class),
-                                               any(Instant.class),
-                                               any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
 
         electorService.start();
         final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
@@ -765,9 +1644,9 @@ class ElectorServiceTest {
         // Given: leadership acquired and a refresh tick already queued before stop() ran.
         when(lockRegistry.obtain("test-lock")).thenReturn(lock);
         when(lock.tryLock(5L, TimeUnit.SECONDS)).thenReturn(true);
-        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class),
-                                               any(Instant.class),
-                                               any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class),
+                                                  any(Instant.class),
+                                                  any(Duration.class))).thenReturn((ScheduledFuture) scheduledFuture);
 
         electorService.start();
         final ArgumentCaptor<Runnable> lockLoopCaptor = ArgumentCaptor.forClass(Runnable.class);
@@ -777,7 +1656,7 @@ class ElectorServiceTest {
                 .run();
 
         final ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
-        verify(taskScheduler).scheduleAtFixedRate(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
+        verify(taskScheduler).scheduleWithFixedDelay(refreshCaptor.capture(), any(Instant.class), any(Duration.class));
 
         electorService.stop();
 
@@ -792,6 +1671,10 @@ class ElectorServiceTest {
         verify(callbacks).onLockLost();
     }
 
+    private void advanceNanos(final Duration amount) {
+        nanos.addAndGet(amount.toNanos());
+    }
+
     // A hand-advanceable clock so deadlock-grace timing can be tested deterministically.
     private static final class MutableClock extends Clock {
         private Instant instant;
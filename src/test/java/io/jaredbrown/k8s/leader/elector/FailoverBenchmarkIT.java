@@ -0,0 +1,186 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Measures failover labeling against a fabric8 mock API server: the time from lock acquisition
+ * until exactly one pod - the new leader - carries {@code true}, at several pod counts. Compares
+ * the two-patch {@link LockCallbacks#onLockAcquired} (told the previous leader, as
+ * {@link LeaderRecord} would) against a full {@link LockCallbacks#reconcileLeaderLabels} sweep,
+ * which is what acquisition used to run. "Exactly one {@code true}" is observed through a watch,
+ * so both paths pay the same event-delivery latency. Opt-in:
+ *
+ * <pre>{@code ./mvnw verify -Dbenchmark=true -Dit.test=FailoverBenchmarkIT}</pre>
+ *
+ * <p>The old leader sits mid-selector, the average position a sweep has to reach. No Redis is
+ * involved; ownership is a plain {@code () -> true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@EnableKubernetesMockClient(crud = true, https = false)
+class FailoverBenchmarkIT {
+
+    private static final String LABEL_KEY = "dns.jb.io/leader";
+    private static final String SELECTOR_KEY = "app";
+    private static final String SELECTOR_VALUE = "failover-benchmark";
+    private static final String NEW_LEADER = "pod-00000";
+    private static final int SEED_THREADS = 16;
+    private static final Duration AWAIT_TIMEOUT = Duration.ofMinutes(2);
+
+    // Injected by the mock-client extension; fresh per test method.
+    private KubernetesClient client;
+
+    private final Set<String> labeledTrue = ConcurrentHashMap.newKeySet();
+    private final AtomicLong singleLeaderAt = new AtomicLong();
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 100, 1000, 5000})
+    void timeToSingleLeaderLabel(final int podCount) throws Exception {
+        final String oldLeader = podName(podCount / 2);
+        seedPods(podCount, oldLeader);
+        final LockCallbacks lockCallbacks = lockCallbacks();
+
+        try (final Watch ignored = watchLeaderLabels()) {
+            final long sweepMillis = measure(oldLeader, () -> lockCallbacks.reconcileLeaderLabels(() -> true));
+            final long twoPatchMillis = measure(oldLeader, () -> lockCallbacks.onLockAcquired(() -> true, oldLeader));
+
+            System.out.printf("%n%5d pods | full sweep %6d ms | self + previous leader %6d ms%n",
+                              podCount,
+                              sweepMillis,
+                              twoPatchMillis);
+        } finally {
+            lockCallbacks.shutdown();
+        }
+    }
+
+    /**
+     * Puts {@code true} back on {@code oldLeader} and {@code false} on the new leader, waits for the
+     * watch to see it, then runs {@code failover}.
+     *
+     * @return millis from the start of {@code failover} until the watch sees only the new leader
+     * labeled {@code true}
+     */
+    private long measure(final String oldLeader, final Runnable failover) {
+        setLabel(NEW_LEADER, "false");
+        setLabel(oldLeader, "true");
+        await()
+                .atMost(AWAIT_TIMEOUT)
+                .until(() -> labeledTrue.equals(Set.of(oldLeader)));
+
+        singleLeaderAt.set(0);
+        final long start = System.nanoTime();
+        failover.run();
+        await()
+                .atMost(AWAIT_TIMEOUT)
+                .pollInterval(Duration.ofMillis(1))
+                .until(() -> singleLeaderAt.get() != 0);
+        return (singleLeaderAt.get() - start) / 1_000_000;
+    }
+
+    private Watch watchLeaderLabels() {
+        return client
+                .pods()
+                .withLabel(SELECTOR_KEY, SELECTOR_VALUE)
+                .watch(new Watcher<>() {
+                    @Override
+                    public void eventReceived(final Action action, final Pod pod) {
+                        final String name = pod
+                                .getMetadata()
+                                .getName();
+                        final Map<String, String> labels = pod
+                                .getMetadata()
+                                .getLabels();
+                        if (action != Action.DELETED && labels != null && "true".equals(labels.get(LABEL_KEY))) {
+                            labeledTrue.add(name);
+                        } else {
+                            labeledTrue.remove(name);
+                        }
+                        if (labeledTrue.equals(Set.of(NEW_LEADER))) {
+                            singleLeaderAt.compareAndSet(0, System.nanoTime());
+                        }
+                    }
+
+                    @Override
+                    public void onClose(final WatcherException cause) {
+                        // Closed by the test's try-with-resources.
+                    }
+                });
+    }
+
+    private LockCallbacks lockCallbacks() {
+        final ElectorProperties electorProperties = new ElectorProperties();
+        electorProperties.setLabelKey(LABEL_KEY);
+        electorProperties.setLockName("failover-benchmark");
+        electorProperties.setSelectorLabelKey(SELECTOR_KEY);
+        electorProperties.setSelectorLabelValue(SELECTOR_VALUE);
+        final LockCallbacks lockCallbacks = new LockCallbacks(electorProperties,
+                                                              client,
+                                                              Clock.systemUTC(),
+                                                              new ElectorMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(lockCallbacks, "selfPodName", NEW_LEADER);
+        return lockCallbacks;
+    }
+
+    /** Creates {@code podCount} followers labeled {@code false}; {@link #measure} sets up the leaders. */
+    private void seedPods(final int podCount, final String oldLeader) throws Exception {
+        // Bounded: the mock server times out requests when thousands arrive at once.
+        try (final ExecutorService seeders = Executors.newFixedThreadPool(SEED_THREADS)) {
+            final List<Future<Pod>> created = IntStream
+                    .range(0, podCount)
+                    .mapToObj(i -> seeders.submit(() -> client
+                            .pods()
+                            .resource(new PodBuilder()
+                                              .withNewMetadata()
+                                              .withName(podName(i))
+                                              .addToLabels(SELECTOR_KEY, SELECTOR_VALUE)
+                                              .addToLabels(LABEL_KEY, podName(i).equals(oldLeader) ? "true" : "false")
+                                              .endMetadata()
+                                              .build())
+                            .create()))
+                    .toList();
+            for (final Future<Pod> pod : created) {
+                pod.get();
+            }
+        }
+        labeledTrue.add(oldLeader);
+    }
+
+    private void setLabel(final String name, final String value) {
+        client
+                .pods()
+                .withName(name)
+                .edit(pod -> new PodBuilder(pod)
+                        .editMetadata()
+                        .addToLabels(LABEL_KEY, value)
+                        .endMetadata()
+                        .build());
+    }
+
+    private static String podName(final int index) {
+        return "pod-%05d".formatted(index);
+    }
+}
@@ -1,5 +1,7 @@
 package io.jaredbrown.k8s.leader.elector;
 
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.HealthProbeMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.condition.EnabledOnOs;
@@ -11,19 +13,31 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
@@ -37,11 +51,13 @@ class HealthProbeTest {
     @TempDir
     private Path tempDir;
 
+    private final ElectorMetrics metrics = new ElectorMetrics(new SimpleMeterRegistry());
+
     @Test
     void isHealthy_returnsTrueWhenProbeDisabled() {
         when(electorProperties.isHealthProbeEnabled()).thenReturn(false);
 
-        assertTrue(new HealthProbe(electorProperties).isHealthy());
+        assertTrue(new HealthProbe(electorProperties, metrics).isHealthy());
     }
 
     @Test
@@ -49,7 +65,7 @@ class HealthProbeTest {
         final Path file = writeStatus("healthy");
         enabled(file, Duration.ofMinutes(2));
 
-        assertTrue(new HealthProbe(electorProperties).isHealthy());
+        assertTrue(new HealthProbe(electorProperties, metrics).isHealthy());
     }
 
     @Test
@@ -57,7 +73,7 @@ class HealthProbeTest {
         final Path file = writeStatus("  healthy\n");
         enabled(file, Duration.ofMinutes(2));
 
-        assertTrue(new HealthProbe(electorProperties).isHealthy());
+        assertTrue(new HealthProbe(electorProperties, metrics).isHealthy());
     }
 
     @Test
@@ -65,14 +81,70 @@ class HealthProbeTest {
         final Path file = writeStatus("unhealthy");
         enabled(file, Duration.ofMinutes(2));
 
-        assertFalse(new HealthProbe(electorProperties).isHealthy());
+        assertFalse(new HealthProbe(electorProperties, metrics).isHealthy());
+    }
+
+    @Test
+    void isHealthy_returnsFalseWhenContentOnlyStartsWithHealthyValue() throws IOException {
+        // The byte-wise compare must match the whole trimmed content, not a prefix of it.
+        final Path file = writeStatus("healthy-ish\n");
+        enabled(file, Duration.ofMinutes(2));
+
+        assertFalse(new HealthProbe(electorProperties, metrics).isHealthy());
+    }
+
+    @Test
+    void isHealthy_returnsFalseWithoutReadingPastTheBoundForAnOversizedFile() throws IOException {
+        // Trailing whitespace would trim away, but the read stops at its bound and reports unhealthy
+        // rather than reading an arbitrarily large file.
+        final Path file = writeStatus("healthy" + " ".repeat(1 << 20));
+        enabled(file, Duration.ofMinutes(2));
+
+        assertFalse(new HealthProbe(electorProperties, metrics).isHealthy());
+    }
+
+    @Test
+    void isHealthy_withScores_readsTheScoreAfterTheHealthyValue() throws IOException {
+        final Path file = writeStatus("healthy 0.75\n");
+        scored(file);
+        final HealthProbe healthProbe = new HealthProbe(electorProperties, metrics);
+
+        assertTrue(healthProbe.isHealthy());
+        assertEquals(0.75, healthProbe.score());
+    }
+
+    @Test
+    void isHealthy_withScores_countsAMissingScoreAsZero() throws IOException {
+        final Path file = writeStatus("healthy\n");
+        scored(file);
+        final HealthProbe healthProbe = new HealthProbe(electorProperties, metrics);
+
+        assertTrue(healthProbe.isHealthy());
+        assertEquals(0.0, healthProbe.score());
+    }
+
+    @Test
+    void isHealthy_withScores_returnsFalseForAnOutOfRangeScore() throws IOException {
+        final Path file = writeStatus("healthy 1.5\n");
+        scored(file);
+
+        assertFalse(new HealthProbe(electorProperties, metrics).isHealthy());
+    }
+
+    @Test
+    void isHealthy_returnsFalseForAScoredStatusWhenScoresAreDisabled() throws IOException {
+        // Unchanged matching for every existing deployment: the whole trimmed content must match.
+        final Path file = writeStatus("healthy 0.75\n");
+        enabled(file, Duration.ofMinutes(2));
+
+        assertFalse(new HealthProbe(electorProperties, metrics).isHealthy());
     }
 
     @Test
     void isHealthy_returnsFalseWhenFileMissing() {
         enabled(tempDir.resolve("does-not-exist"), Duration.ofMinutes(2));
 
-        assertFalse(new HealthProbe(electorProperties).isHealthy());
+        assertFalse(new HealthProbe(electorProperties, metrics).isHealthy());
     }
 
     @Test
@@ -83,7 +155,7 @@ class HealthProbeTest {
                                                               .minus(Duration.ofMinutes(10))));
         enabled(file, Duration.ofMinutes(2));
 
-        assertFalse(new HealthProbe(electorProperties).isHealthy());
+        assertFalse(new HealthProbe(electorProperties, metrics).isHealthy());
     }
 
     @Test
@@ -94,7 +166,7 @@ class HealthProbeTest {
                                                               .minus(Duration.ofMinutes(10))));
         enabled(file, Duration.ZERO);
 
-        assertTrue(new HealthProbe(electorProperties).isHealthy());
+        assertTrue(new HealthProbe(electorProperties, metrics).isHealthy());
     }
 
     @Test
@@ -103,7 +175,7 @@ class HealthProbeTest {
         final Path directory = Files.createDirectory(tempDir.resolve("not-a-file"));
         enabled(directory, Duration.ZERO);
 
-        assertFalse(new HealthProbe(electorProperties).isHealthy());
+        assertFalse(new HealthProbe(electorProperties, metrics).isHealthy());
     }
 
     @Test
@@ -115,7 +187,7 @@ class HealthProbeTest {
         final Path symlink = Files.createSymbolicLink(tempDir.resolve("status-link"), target);
         enabled(symlink, Duration.ofMinutes(2));
 
-        assertFalse(new HealthProbe(electorProperties).isHealthy());
+        assertFalse(new HealthProbe(electorProperties, metrics).isHealthy());
     }
 
     @Test
@@ -134,7 +206,7 @@ class HealthProbeTest {
                 .waitFor());
         enabled(fifo, Duration.ofMinutes(2));
 
-        assertFalse(new HealthProbe(electorProperties).isHealthy());
+        assertFalse(new HealthProbe(electorProperties, metrics).isHealthy());
     }
 
     @Test
@@ -160,7 +232,7 @@ class HealthProbeTest {
                 .waitFor());
         Files.move(regularSource, path);
         enabled(path, Duration.ofMinutes(2));
-        final HealthProbe healthProbe = new HealthProbe(electorProperties);
+        final HealthProbe healthProbe = new HealthProbe(electorProperties, metrics);
 
         final AtomicBoolean stop = new AtomicBoolean(false);
         final Thread swapper = new Thread(() -> {
@@ -208,7 +280,7 @@ class HealthProbeTest {
         // itself.
         final Path file = writeStatus("healthy");
         enabled(file, Duration.ofMinutes(2));
-        final HealthProbe healthProbe = new HealthProbe(electorProperties);
+        final HealthProbe healthProbe = new HealthProbe(electorProperties, metrics);
         ReflectionTestUtils.setField(healthProbe, "readTimeout", Duration.ofMillis(200));
 
         final ExecutorService executor =
@@ -234,7 +306,252 @@ class HealthProbeTest {
                 .when(electorProperties.getHealthProbeFilePath())
                 .thenReturn(null);
 
-        assertFalse(new HealthProbe(electorProperties).isHealthy());
+        assertFalse(new HealthProbe(electorProperties, metrics).isHealthy());
+    }
+
+    @Test
+    @Timeout(10)
+    void watch_followsAtomicRenameWritesAndTellsListenerWhenTurningUnhealthy() throws IOException {
+        final Path file = writeStatus("healthy");
+        final HealthProbe healthProbe = watching(file, Duration.ofMinutes(2));
+        final AtomicInteger turnedUnhealthy = new AtomicInteger();
+        healthProbe.setUnhealthyListener(turnedUnhealthy::incrementAndGet);
+        try {
+            assertTrue(healthProbe.isHealthy());
+
+            replaceStatus("unhealthy");
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> !healthProbe.isHealthy());
+            assertEquals(1, turnedUnhealthy.get());
+
+            replaceStatus("healthy");
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(healthProbe::isHealthy);
+        } finally {
+            healthProbe.shutdown();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void watch_turnsUnhealthyWhenFileAgesOutWithoutAnyEvent() throws IOException {
+        // Nobody touches the file again: only the freshness timer can notice it went stale.
+        final Path file = writeStatus("healthy");
+        final Duration maxAge = Duration.ofMinutes(2);
+        Files.setLastModifiedTime(file, FileTime.from(Instant
+                                                              .now()
+                                                              .minus(maxAge)
+                                                              .plusMillis(500)));
+        final HealthProbe healthProbe = watching(file, maxAge);
+        try {
+            assertTrue(healthProbe.isHealthy());
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> !healthProbe.isHealthy());
+        } finally {
+            healthProbe.shutdown();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void watch_stillRejectsSymlinkSwappedIn() throws IOException {
+        // The watch re-runs the same NOFOLLOW_LINKS regular-file check, so a symlink renamed over
+        // the status file reads as unhealthy even though its target says healthy.
+        final Path file = writeStatus("healthy");
+        final Path target = Files.writeString(tempDir.resolve("elsewhere"), "healthy");
+        final HealthProbe healthProbe = watching(file, Duration.ofMinutes(2));
+        try {
+            assertTrue(healthProbe.isHealthy());
+            final Path link = Files.createSymbolicLink(tempDir.resolve("status-link"), target);
+            Files.move(link, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> !healthProbe.isHealthy());
+        } finally {
+            healthProbe.shutdown();
+        }
+    }
+
+    @Test
+    void watch_failsStartupWhenDirectoryCannotBeWatched() {
+        enabled(tempDir.resolve("missing-dir/status"), Duration.ofMinutes(2));
+        when(electorProperties.getHealthProbeMode()).thenReturn(HealthProbeMode.WATCH);
+
+        assertThrows(IllegalStateException.class, () -> new HealthProbe(electorProperties, metrics).startWatching());
+    }
+
+    @Test
+    @Timeout(10)
+    void socket_followsPushedStatusesAndTellsListenerWhenTurningUnhealthy() throws IOException {
+        final HealthProbe healthProbe = listening(Duration.ofMinutes(2));
+        final AtomicInteger turnedUnhealthy = new AtomicInteger();
+        healthProbe.setUnhealthyListener(turnedUnhealthy::incrementAndGet);
+        try (final SocketChannel client = connect()) {
+            // Nothing pushed yet.
+            assertFalse(healthProbe.isHealthy());
+
+            push(client, "healthy\n");
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(healthProbe::isHealthy);
+
+            push(client, "unhealthy\n");
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> !healthProbe.isHealthy());
+            assertEquals(1, turnedUnhealthy.get());
+        } finally {
+            healthProbe.shutdown();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void socket_reportsTheScoreOfTheLastPushedStatus() throws IOException {
+        when(electorProperties.isHealthProbeScoreEnabled()).thenReturn(true);
+        final HealthProbe healthProbe = listening(Duration.ofMinutes(2));
+        try (final SocketChannel client = connect()) {
+            push(client, "healthy 0.4\n");
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> healthProbe.score() == 0.4);
+
+            push(client, "healthy 0.9\n");
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> healthProbe.score() == 0.9);
+            assertTrue(healthProbe.isHealthy());
+        } finally {
+            healthProbe.shutdown();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void socket_turnsUnhealthyWhenHeartbeatsStop() throws IOException {
+        final HealthProbe healthProbe = listening(Duration.ofMillis(300));
+        try (final SocketChannel client = connect()) {
+            push(client, "healthy\n");
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(healthProbe::isHealthy);
+
+            // No further heartbeat: the last one ages past healthProbeMaxAge.
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> !healthProbe.isHealthy());
+        } finally {
+            healthProbe.shutdown();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void socket_closesConnectionOnOverlongLine() throws IOException {
+        final HealthProbe healthProbe = listening(Duration.ofMinutes(2));
+        try (final SocketChannel client = connect()) {
+            push(client, "x".repeat(HealthSocketListener.MAX_LINE_BYTES + 1));
+
+            // Closed with our input still unread, which shows up as either EOF or a reset.
+            boolean closed;
+            try {
+                closed = client.read(ByteBuffer.allocate(1)) == -1;
+            } catch (final IOException e) {
+                closed = true;
+            }
+            assertTrue(closed);
+            assertFalse(healthProbe.isHealthy());
+        } finally {
+            healthProbe.shutdown();
+        }
+    }
+
+    @Test
+    void socket_refusesToReplaceARegularFileAtTheSocketPath() throws IOException {
+        // Only a leftover socket is cleared before binding; a regular file at the path is not deleted.
+        final Path file = Files.writeString(tempDir.resolve("health.sock"), "keep me");
+        when(electorProperties.isHealthProbeEnabled()).thenReturn(true);
+        when(electorProperties.getHealthProbeMode()).thenReturn(HealthProbeMode.SOCKET);
+        when(electorProperties.getHealthProbeSocketPath()).thenReturn(file.toString());
+        when(electorProperties.getHealthProbeMaxAge()).thenReturn(Duration.ofMinutes(2));
+
+        assertThrows(IllegalStateException.class, () -> new HealthProbe(electorProperties, metrics).start());
+        assertEquals("keep me", Files.readString(file));
+    }
+
+    @Test
+    @EnabledOnOs({OS.LINUX, OS.MAC})
+    void socket_refusesToReplaceAFifoAtTheSocketPath() throws Exception {
+        // A FIFO is neither a regular file nor a directory, but it is not a socket either.
+        final Path fifo = tempDir.resolve("health.sock");
+        assertEquals(0,
+                     new ProcessBuilder("mkfifo", fifo.toString())
+                             .start()
+                             .waitFor());
+        when(electorProperties.isHealthProbeEnabled()).thenReturn(true);
+        when(electorProperties.getHealthProbeMode()).thenReturn(HealthProbeMode.SOCKET);
+        when(electorProperties.getHealthProbeSocketPath()).thenReturn(fifo.toString());
+        when(electorProperties.getHealthProbeMaxAge()).thenReturn(Duration.ofMinutes(2));
+
+        assertThrows(IllegalStateException.class, () -> new HealthProbe(electorProperties, metrics).start());
+        assertTrue(Files.exists(fifo, LinkOption.NOFOLLOW_LINKS));
+    }
+
+    @Test
+    @Timeout(10)
+    void socket_replacesASocketFileLeftByAnEarlierRun() throws IOException {
+        // Closing a Unix domain server socket leaves its file behind, as a crashed run would.
+        try (final ServerSocketChannel earlier = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            earlier.bind(UnixDomainSocketAddress.of(tempDir.resolve("health.sock")));
+        }
+        final HealthProbe healthProbe = listening(Duration.ofMinutes(2));
+        try (final SocketChannel client = connect()) {
+            push(client, "healthy\n");
+            await()
+                    .atMost(Duration.ofSeconds(5))
+                    .until(healthProbe::isHealthy);
+        } finally {
+            healthProbe.shutdown();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void socket_closesConnectionsThatStaySilentSoTheyFreeTheirSlots() throws IOException {
+        final HealthProbe healthProbe = listening(Duration.ofMillis(300));
+        final List<SocketChannel> silent = new ArrayList<>();
+        try {
+            for (int i = 0; i < HealthSocketListener.MAX_CONNECTIONS; i++) {
+                silent.add(connect());
+            }
+            // Every slot is held by a client that never writes; each is closed once it has idled for
+            // healthProbeMaxAge.
+            for (final SocketChannel client : silent) {
+                boolean closed;
+                try {
+                    closed = client.read(ByteBuffer.allocate(1)) == -1;
+                } catch (final IOException e) {
+                    closed = true;
+                }
+                assertTrue(closed);
+            }
+
+            // So a real writer gets in afterwards.
+            try (final SocketChannel client = connect()) {
+                push(client, "healthy\n");
+                await()
+                        .atMost(Duration.ofSeconds(5))
+                        .until(healthProbe::isHealthy);
+            }
+        } finally {
+            for (final SocketChannel client : silent) {
+                client.close();
+            }
+            healthProbe.shutdown();
+        }
     }
 
     private Path writeStatus(final String content) throws IOException {
@@ -243,6 +560,56 @@ class HealthProbeTest {
         return file;
     }
 
+    /** Writes the status the way the writer contract asks: a temporary file renamed into place. */
+    private void replaceStatus(final String content) throws IOException {
+        final Path tmp = Files.writeString(tempDir.resolve("status.tmp"), content);
+        Files.move(tmp, tempDir.resolve("status"), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private HealthProbe listening(final Duration maxAge) {
+        when(electorProperties.isHealthProbeEnabled()).thenReturn(true);
+        when(electorProperties.getHealthProbeMode()).thenReturn(HealthProbeMode.SOCKET);
+        when(electorProperties.getHealthProbeSocketPath()).thenReturn(tempDir
+                                                                              .resolve("health.sock")
+                                                                              .toString());
+        lenient()
+                .when(electorProperties.getHealthProbeMaxAge())
+                .thenReturn(maxAge);
+        lenient()
+                .when(electorProperties.getHealthProbeHealthyContent())
+                .thenReturn("healthy");
+        final HealthProbe healthProbe = new HealthProbe(electorProperties, metrics);
+        healthProbe.start();
+        return healthProbe;
+    }
+
+    private SocketChannel connect() throws IOException {
+        return SocketChannel.open(UnixDomainSocketAddress.of(tempDir.resolve("health.sock")));
+    }
+
+    private static void push(final SocketChannel client, final String message) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            client.write(buffer);
+        }
+    }
+
+    private HealthProbe watching(final Path file, final Duration maxAge) {
+        enabled(file, maxAge);
+        when(electorProperties.getHealthProbeMode()).thenReturn(HealthProbeMode.WATCH);
+        final HealthProbe healthProbe = new HealthProbe(electorProperties, metrics);
+        healthProbe.startWatching();
+        return healthProbe;
+    }
+
+    private void scored(final Path file) {
+        enabled(file, Duration.ofMinutes(2));
+        when(electorProperties.isHealthProbeScoreEnabled()).thenReturn(true);
+        lenient()
+                .when(electorProperties.getHealthProbeMode())
+                .thenReturn(HealthProbeMode.POLL);
+    }
+
     private void enabled(final Path file, final Duration maxAge) {
         when(electorProperties.isHealthProbeEnabled()).thenReturn(true);
         when(electorProperties.getHealthProbeFilePath()).thenReturn(file.toString());
@@ -0,0 +1,88 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderRecordTest {
+
+    private static final String SELF_POD_NAME = "pod-1";
+    private static final String KEY = "test-lock-leader";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private LeaderRecord leaderRecord;
+
+    @BeforeEach
+    void setUp() {
+        final ElectorProperties electorProperties = new ElectorProperties();
+        electorProperties.setLockName("test-lock");
+        leaderRecord = new LeaderRecord(redisTemplate, electorProperties);
+        ReflectionTestUtils.setField(leaderRecord, "selfPodName", SELF_POD_NAME);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void claim_shouldRecordSelfAndReturnPreviousLeader() {
+        when(valueOperations.setGet(KEY, SELF_POD_NAME, Expiration.persistent())).thenReturn("pod-0");
+
+        assertEquals("pod-0", leaderRecord.claim());
+    }
+
+    @Test
+    void claim_shouldReturnNullWhenNoLeaderWasRecorded() {
+        when(valueOperations.setGet(KEY, SELF_POD_NAME, Expiration.persistent())).thenReturn(null);
+
+        assertNull(leaderRecord.claim());
+    }
+
+    @Test
+    void claim_shouldReturnNullWhenThisPodLedLast() {
+        // A pod re-acquiring its own lock has no other leader's label to clear.
+        when(valueOperations.setGet(KEY, SELF_POD_NAME, Expiration.persistent())).thenReturn(SELF_POD_NAME);
+
+        assertNull(leaderRecord.claim());
+    }
+
+    @Test
+    void claim_shouldReturnNullRatherThanThrowWhenRedisFails() {
+        when(valueOperations.setGet(any(), any(), any(Expiration.class))).thenThrow(new RedisConnectionFailureException(
+                "down"));
+        when(valueOperations.getAndSet(any(), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertNull(leaderRecord.claim());
+    }
+
+    @Test
+    void claim_shouldFallBackToGetSetWhenRedisPredatesSetGet() {
+        // Given: a Redis older than 6.2, which rejects SET's GET option.
+        when(valueOperations.setGet(KEY, SELF_POD_NAME, Expiration.persistent())).thenThrow(new RedisSystemException(
+                "ERR syntax error",
+                null));
+        when(valueOperations.getAndSet(KEY, SELF_POD_NAME)).thenReturn("pod-0", "pod-2");
+
+        // Then: the claim still returns the previous leader, and later claims skip SET ... GET.
+        assertEquals("pod-0", leaderRecord.claim());
+        assertEquals("pod-2", leaderRecord.claim());
+        verify(valueOperations, times(1)).setGet(any(), any(), any(Expiration.class));
+    }
+}
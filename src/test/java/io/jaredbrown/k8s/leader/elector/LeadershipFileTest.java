@@ -0,0 +1,146 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LeadershipFileTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant LEASE = NOW.plusSeconds(120);
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private ElectorProperties electorProperties;
+    private LeadershipStatus leadershipStatus;
+    private LeadershipFile leadershipFile;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("leadership");
+        electorProperties = new ElectorProperties();
+        electorProperties.setLeadershipFilePath(file.toString());
+        leadershipStatus = new LeadershipStatus();
+        leadershipFile = newLeadershipFile(leadershipStatus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        leadershipFile.close();
+    }
+
+    @Test
+    void open_shouldWriteTheHeaderAndCurrentState() throws IOException {
+        leadershipFile.open();
+
+        final ByteBuffer contents = contents();
+        assertEquals(LeadershipFile.SIZE, contents.capacity());
+        assertEquals("LEAD", new String(contents.array(), 0, 4, StandardCharsets.US_ASCII));
+        assertEquals(LeadershipFile.VERSION, contents.getInt(LeadershipFile.VERSION_OFFSET));
+        assertEquals(2, contents.getLong(LeadershipFile.SEQUENCE_OFFSET));
+        assertEquals(0, contents.getInt(LeadershipFile.STATE_OFFSET));
+        assertEquals(0, contents.getLong(LeadershipFile.EPOCH_OFFSET));
+        assertEquals(0, contents.getLong(LeadershipFile.LEASE_OFFSET));
+        assertEquals(NOW.toEpochMilli(), contents.getLong(LeadershipFile.UPDATED_OFFSET));
+    }
+
+    @Test
+    void updates_shouldBeMirroredWithAnEvenSequence() throws IOException {
+        leadershipFile.open();
+
+        leadershipStatus.leading(false, LEASE);
+
+        ByteBuffer contents = contents();
+        assertEquals(4, contents.getLong(LeadershipFile.SEQUENCE_OFFSET));
+        assertEquals(1, contents.getInt(LeadershipFile.STATE_OFFSET));
+        assertEquals(1, contents.getLong(LeadershipFile.EPOCH_OFFSET));
+        assertEquals(LEASE.toEpochMilli(), contents.getLong(LeadershipFile.LEASE_OFFSET));
+
+        leadershipStatus.releasing();
+        leadershipStatus.following();
+
+        contents = contents();
+        assertEquals(8, contents.getLong(LeadershipFile.SEQUENCE_OFFSET));
+        assertEquals(0, contents.getInt(LeadershipFile.STATE_OFFSET));
+        assertEquals(3, contents.getLong(LeadershipFile.EPOCH_OFFSET));
+        assertEquals(0, contents.getLong(LeadershipFile.LEASE_OFFSET));
+    }
+
+    @Test
+    void renewal_shouldMoveTheLeaseInPlace() throws IOException {
+        leadershipFile.open();
+        leadershipStatus.leading(false, LEASE);
+
+        leadershipStatus.leading(false, LEASE.plusSeconds(60));
+
+        final ByteBuffer contents = contents();
+        assertEquals(6, contents.getLong(LeadershipFile.SEQUENCE_OFFSET));
+        assertEquals(1, contents.getInt(LeadershipFile.STATE_OFFSET));
+        assertEquals(1, contents.getLong(LeadershipFile.EPOCH_OFFSET));
+        assertEquals(LEASE
+                             .plusSeconds(60)
+                             .toEpochMilli(), contents.getLong(LeadershipFile.LEASE_OFFSET));
+    }
+
+    @Test
+    void open_shouldCarryTheEpochAndSequenceOverFromAnEarlierRun() throws IOException {
+        leadershipFile.open();
+        leadershipStatus.leading(false, LEASE);
+        leadershipFile.close();
+
+        // A restarted sidecar: its status starts over at epoch 0.
+        final LeadershipStatus restarted = new LeadershipStatus();
+        leadershipFile = newLeadershipFile(restarted);
+        leadershipFile.open();
+
+        final ByteBuffer contents = contents();
+        assertEquals(6, contents.getLong(LeadershipFile.SEQUENCE_OFFSET));
+        assertEquals(0, contents.getInt(LeadershipFile.STATE_OFFSET));
+        assertEquals(2, contents.getLong(LeadershipFile.EPOCH_OFFSET));
+    }
+
+    @Test
+    void open_shouldRefuseASymlink() throws IOException {
+        final Path target = Files.writeString(tempDir.resolve("target"), "keep");
+        Files.createSymbolicLink(file, target);
+
+        assertThrows(IllegalStateException.class, leadershipFile::open);
+        assertEquals("keep", Files.readString(target));
+    }
+
+    @Test
+    void open_shouldWriteNothingWhenUnconfigured() {
+        electorProperties.setLeadershipFilePath(null);
+
+        leadershipFile.open();
+
+        assertFalse(Files.exists(file));
+    }
+
+    private LeadershipFile newLeadershipFile(final LeadershipStatus status) {
+        return new LeadershipFile(electorProperties, status, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private ByteBuffer contents() throws IOException {
+        return ByteBuffer
+                .wrap(Files.readAllBytes(file))
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,237 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.jaredbrown.k8s.leader.Application;
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.LockType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.integration.redis.util.RedisLockRegistry;
+import org.springframework.integration.support.locks.DistributedLock;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Compares {@link LockType#SPIN} and {@link LockType#PUB_SUB} followers against a real Redis
+ * (Testcontainers), each follower a full Spring context as in {@link LeaderElectionIT}, at the
+ * production {@code retryPeriod} of 5s. Reports two numbers per lock type:
+ *
+ * <ul>
+ *   <li>release-to-reacquire latency: from a holder's {@code unlock()} returning until the
+ *   follower's pod is labeled leader (so one label patch against the mock API server is included),
+ *   over several rounds released at a random point of the follower's retry cycle;</li>
+ *   <li>Redis commands per second a single waiting follower issues while the lock stays held,
+ *   from the server's {@code total_commands_processed}.</li>
+ * </ul>
+ *
+ * Opt-in, and needs Docker:
+ *
+ * <pre>{@code ./mvnw verify -Dbenchmark=true -Dit.test=LockAcquisitionBenchmarkIT}</pre>
+ */
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@EnableKubernetesMockClient(crud = true, https = false)
+class LockAcquisitionBenchmarkIT {
+
+    private static final String LABEL_KEY = "dns.jb.io/leader";
+    private static final String SELECTOR_KEY = "app";
+    private static final String SELECTOR_VALUE = "lock-acquisition-benchmark";
+    private static final String NAMESPACE = "test";
+    private static final String FOLLOWER = "pod-follower";
+    private static final Duration RETRY_PERIOD = Duration.ofSeconds(5);
+    private static final Duration OPS_WINDOW = Duration.ofSeconds(20);
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(30);
+    private static final int ROUNDS = 8;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    // Injected by the mock-client extension; fresh per test method.
+    private KubernetesMockServer mockServer;
+
+    private LettuceConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(),
+                                                                                          REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterEach
+    void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockType.class)
+    void releaseToReacquire(final LockType lockType) throws Exception {
+        seedPod();
+        final long[] latencies = new long[ROUNDS];
+        double commandsPerSecond = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            final String lockName = "benchmark-" + lockType + "-" + round;
+            final RedisLockRegistry holderRegistry = holderRegistry(lockName, lockType);
+            final DistributedLock held = holderRegistry.obtain(lockName);
+            held.lock();
+            setLabel("false");
+            try (final ConfigurableApplicationContext ignored = startFollower(lockName, lockType)) {
+                if (round == 0) {
+                    commandsPerSecond = commandsPerSecond();
+                }
+                // Release at a random point of the follower's wait/idle cycle.
+                Thread.sleep(ThreadLocalRandom
+                                     .current()
+                                     .nextLong(2 * RETRY_PERIOD.toMillis()));
+
+                final long start = System.nanoTime();
+                held.unlock();
+                await()
+                        .atMost(AWAIT_TIMEOUT)
+                        .pollInterval(Duration.ofMillis(5))
+                        .until(() -> "true".equals(currentLabel()));
+                latencies[round] = (System.nanoTime() - start) / 1_000_000;
+            } finally {
+                holderRegistry.destroy();
+            }
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("%n%-8s | reacquire ms: median %5d, max %5d | follower Redis commands/s %6.2f%n",
+                          lockType,
+                          latencies[ROUNDS / 2],
+                          latencies[ROUNDS - 1],
+                          commandsPerSecond);
+        assertThat(latencies[ROUNDS - 1]).isLessThan(AWAIT_TIMEOUT.toMillis());
+    }
+
+    /**
+     * Stands in for the current leader. Same registry key and lock type as the follower, so a
+     * {@code PUB_SUB} release publishes on the channel the follower listens to.
+     */
+    private RedisLockRegistry holderRegistry(final String lockName, final LockType lockType) {
+        final RedisLockRegistry registry = new RedisLockRegistry(connectionFactory,
+                                                                 lockName + "-lock-registry",
+                                                                 Duration.ofMinutes(2));
+        registry.setRedisLockType(lockType == LockType.PUB_SUB
+                                  ? RedisLockRegistry.RedisLockType.PUB_SUB_LOCK
+                                  : RedisLockRegistry.RedisLockType.SPIN_LOCK);
+        return registry;
+    }
+
+    /** @return commands per second Redis processed over {@link #OPS_WINDOW} with only the follower waiting */
+    private double commandsPerSecond() throws InterruptedException {
+        // Let the follower's context finish starting and settle into its retry cycle.
+        Thread.sleep(RETRY_PERIOD.toMillis());
+        final long before = totalCommandsProcessed();
+        Thread.sleep(OPS_WINDOW.toMillis());
+        // Less one for the INFO call that took the first sample.
+        return (totalCommandsProcessed() - before - 1) / (double) OPS_WINDOW.toSeconds();
+    }
+
+    private long totalCommandsProcessed() {
+        try (final RedisConnection connection = connectionFactory.getConnection()) {
+            return Long.parseLong(connection
+                                          .serverCommands()
+                                          .info("stats")
+                                          .getProperty("total_commands_processed"));
+        }
+    }
+
+    private ConfigurableApplicationContext startFollower(final String lockName, final LockType lockType) {
+        return new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .initializers((ApplicationContextInitializer<GenericApplicationContext>) applicationContext ->
+                        applicationContext.registerBean("mockKubernetesClient",
+                                                         KubernetesClient.class,
+                                                         (Supplier<KubernetesClient>) mockServer::createClient,
+                                                         bd -> {
+                                                             bd.setPrimary(true);
+                                                             bd.setDestroyMethodName("close");
+                                                         }))
+                .properties("POD_NAME=" + FOLLOWER,
+                            "spring.data.redis.host=" + REDIS.getHost(),
+                            "spring.data.redis.port=" + REDIS.getMappedPort(6379),
+                            "elector.label-key=" + LABEL_KEY,
+                            "elector.lock-name=" + lockName,
+                            "elector.selector-label-key=" + SELECTOR_KEY,
+                            "elector.selector-label-value=" + SELECTOR_VALUE,
+                            "elector.retry-period=" + RETRY_PERIOD,
+                            "elector.lock-type=" + lockType)
+                .run();
+    }
+
+    private void seedPod() {
+        try (KubernetesClient client = mockServer.createClient()) {
+            client
+                    .pods()
+                    .inNamespace(NAMESPACE)
+                    .resource(new PodBuilder()
+                                      .withNewMetadata()
+                                      .withName(FOLLOWER)
+                                      .withNamespace(NAMESPACE)
+                                      .addToLabels(SELECTOR_KEY, SELECTOR_VALUE)
+                                      .endMetadata()
+                                      .build())
+                    .create();
+        }
+    }
+
+    private void setLabel(final String value) {
+        try (KubernetesClient client = mockServer.createClient()) {
+            client
+                    .pods()
+                    .inNamespace(NAMESPACE)
+                    .withName(FOLLOWER)
+                    .edit(pod -> new PodBuilder(pod)
+                            .editMetadata()
+                            .addToLabels(LABEL_KEY, value)
+                            .endMetadata()
+                            .build());
+        }
+    }
+
+    private String currentLabel() {
+        try (KubernetesClient client = mockServer.createClient()) {
+            final Pod pod = client
+                    .pods()
+                    .inNamespace(NAMESPACE)
+                    .withName(FOLLOWER)
+                    .get();
+            return pod
+                    .getMetadata()
+                    .getLabels() == null
+                    ? null
+                    : pod
+                            .getMetadata()
+                            .getLabels()
+                            .get(LABEL_KEY);
+        }
+    }
+}
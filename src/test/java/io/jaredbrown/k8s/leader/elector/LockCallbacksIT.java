@@ -0,0 +1,254 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.LabelingMode;
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.ListConsistency;
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.ReconcileSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs {@link LockCallbacks} against a fabric8 mock Kubernetes API server (CRUD mode, so lists,
+ * label selectors, patches and watches behave like a real API server) to cover the wire-level
+ * behavior of each {@link ReconcileSource} that mocked {@code KubernetesClient} chains cannot.
+ * No Redis is involved: ownership is a plain {@code () -> true}.
+ */
+@EnableKubernetesMockClient(crud = true, https = false)
+class LockCallbacksIT {
+
+    private static final String LABEL_KEY = "dns.jb.io/leader";
+    private static final String SELECTOR_KEY = "app";
+    private static final String SELECTOR_VALUE = "lock-callbacks-it";
+    private static final String SELF_POD_NAME = "pod-a";
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(10);
+
+    // Injected by the mock-client extension; fresh per test method.
+    private KubernetesClient client;
+    private KubernetesMockServer server;
+
+    private ElectorProperties electorProperties;
+    private LockCallbacks lockCallbacks;
+
+    @BeforeEach
+    void setUp() {
+        electorProperties = new ElectorProperties();
+        electorProperties.setLabelKey(LABEL_KEY);
+        electorProperties.setLockName("lock-callbacks-it");
+        electorProperties.setSelectorLabelKey(SELECTOR_KEY);
+        electorProperties.setSelectorLabelValue(SELECTOR_VALUE);
+        lockCallbacks = new LockCallbacks(electorProperties,
+                                          client,
+                                          Clock.systemUTC(),
+                                          new ElectorMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(lockCallbacks, "selfPodName", SELF_POD_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockCallbacks.stopWatchingPods();
+    }
+
+    @Test
+    void listSource_labelsSelfTrueAndPeersFalse() {
+        seedPod("pod-a", null);
+        seedPod("pod-b", "true");
+        seedPod("pod-c", null);
+
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+
+        assertThat(currentLabel("pod-a")).isEqualTo("true");
+        assertThat(currentLabel("pod-b")).isEqualTo("false");
+        assertThat(currentLabel("pod-c")).isEqualTo("false");
+    }
+
+    @Test
+    void cachedConsistency_labelsSelfTrueAndPeersFalse() {
+        electorProperties.setReconcileListConsistency(ListConsistency.CACHED);
+        seedPod("pod-a", null);
+        seedPod("pod-b", "true");
+
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+
+        assertThat(currentLabel("pod-a")).isEqualTo("true");
+        assertThat(currentLabel("pod-b")).isEqualTo("false");
+    }
+
+    @Test
+    void selectorSource_labelsSelfTrueAndPeersFalse() {
+        electorProperties.setReconcileSource(ReconcileSource.SELECTOR);
+        seedPod("pod-a", "false");
+        seedPod("pod-b", "true");
+        seedPod("pod-c", null);
+        seedPod("pod-d", "false");
+
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+
+        assertThat(currentLabel("pod-a")).isEqualTo("true");
+        assertThat(currentLabel("pod-b")).isEqualTo("false");
+        assertThat(currentLabel("pod-c")).isEqualTo("false");
+        assertThat(currentLabel("pod-d")).isEqualTo("false");
+    }
+
+    @Test
+    void selectorSource_listsNothingOnceConverged() throws InterruptedException {
+        electorProperties.setReconcileSource(ReconcileSource.SELECTOR);
+        seedPod("pod-a", "true");
+        seedPod("pod-b", "false");
+        seedPod("pod-c", "false");
+        final AtomicInteger checks = new AtomicInteger();
+
+        lockCallbacks.reconcileLeaderLabels(() -> {
+            checks.incrementAndGet();
+            return true;
+        });
+
+        // Then: the server returned no candidates, so nothing needed an ownership check.
+        assertThat(checks.get()).isZero();
+        assertThat(server.getLastRequest()
+                         .getPath()).contains("fieldSelector=metadata.name%21%3Dpod-a");
+    }
+
+    @Test
+    void selfLabelingMode_eachPodLabelsOnlyItself() {
+        electorProperties.setLabelingMode(LabelingMode.SELF);
+        seedPod("pod-a", "false");
+        seedPod("pod-b", "true");
+        final LockCallbacks follower = new LockCallbacks(electorProperties,
+                                                         client,
+                                                         Clock.systemUTC(),
+                                                         new ElectorMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(follower, "selfPodName", "pod-b");
+
+        // When: the leader reconciles first - it must leave pod-b alone.
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+        assertThat(currentLabel("pod-a")).isEqualTo("true");
+        assertThat(currentLabel("pod-b")).isEqualTo("true");
+
+        // Then: pod-b's own follower check clears its label.
+        follower.reconcileFollowerLabel();
+        assertThat(currentLabel("pod-b")).isEqualTo("false");
+    }
+
+    @Test
+    void informerSource_correctsRelabeledPodFromWatchEvent() {
+        electorProperties.setReconcileSource(ReconcileSource.INFORMER);
+        seedPod("pod-a", "true");
+        seedPod("pod-b", "false");
+
+        // The drift trigger stands in for ElectorService#requestReconcile, minus the scheduler hop.
+        lockCallbacks.watchPods(() -> lockCallbacks.reconcileLeaderLabels(() -> true));
+
+        // When: someone else flips a follower to true after the informer has synced.
+        await()
+                .atMost(AWAIT_TIMEOUT)
+                .until(this::informerSynced);
+        setLabel("pod-b", "true");
+
+        // Then: the watch event alone - no renewal tick - puts it back.
+        await()
+                .atMost(AWAIT_TIMEOUT)
+                .untilAsserted(() -> assertThat(currentLabel("pod-b")).isEqualTo("false"));
+        assertThat(currentLabel("pod-a")).isEqualTo("true");
+    }
+
+    @Test
+    void driftWatch_listSourceCorrectsRelabeledPodFromWatchEvent() {
+        electorProperties.setDriftWatchEnabled(true);
+        seedPod("pod-a", "true");
+        seedPod("pod-b", "false");
+        lockCallbacks.watchPods(() -> lockCallbacks.reconcileLeaderLabels(() -> true));
+        await()
+                .atMost(AWAIT_TIMEOUT)
+                .until(this::informerSynced);
+
+        setLabel("pod-b", "true");
+
+        await()
+                .atMost(AWAIT_TIMEOUT)
+                .untilAsserted(() -> assertThat(currentLabel("pod-b")).isEqualTo("false"));
+    }
+
+    @Test
+    void informerSource_labelsPodCreatedAfterSync() {
+        electorProperties.setReconcileSource(ReconcileSource.INFORMER);
+        seedPod("pod-a", "true");
+        lockCallbacks.watchPods(() -> lockCallbacks.reconcileLeaderLabels(() -> true));
+        await()
+                .atMost(AWAIT_TIMEOUT)
+                .until(this::informerSynced);
+
+        seedPod("pod-new", null);
+
+        await()
+                .atMost(AWAIT_TIMEOUT)
+                .untilAsserted(() -> assertThat(currentLabel("pod-new")).isEqualTo("false"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean informerSynced() {
+        final SharedIndexInformer<Pod> informer =
+                ((AtomicReference<SharedIndexInformer<Pod>>) ReflectionTestUtils.getField(lockCallbacks,
+                                                                                          "podInformer")).get();
+        return informer != null && informer.hasSynced();
+    }
+
+    private void seedPod(final String name, final String leaderLabel) {
+        final PodBuilder pod = new PodBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .addToLabels(SELECTOR_KEY, SELECTOR_VALUE)
+                .endMetadata();
+        if (leaderLabel != null) {
+            pod
+                    .editMetadata()
+                    .addToLabels(LABEL_KEY, leaderLabel)
+                    .endMetadata();
+        }
+        client
+                .pods()
+                .resource(pod.build())
+                .create();
+    }
+
+    private void setLabel(final String name, final String value) {
+        client
+                .pods()
+                .withName(name)
+                .edit(pod -> new PodBuilder(pod)
+                        .editMetadata()
+                        .addToLabels(LABEL_KEY, value)
+                        .endMetadata()
+                        .build());
+    }
+
+    private String currentLabel(final String podName) {
+        final Pod pod = client
+                .pods()
+                .withName(podName)
+                .get();
+        return pod
+                       .getMetadata()
+                       .getLabels() == null
+               ? null
+               : pod
+                       .getMetadata()
+                       .getLabels()
+                       .get(LABEL_KEY);
+    }
+}
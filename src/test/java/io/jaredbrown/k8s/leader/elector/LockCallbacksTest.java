@@ -2,6 +2,8 @@ package io.jaredbrown.k8s.leader.elector;
 
 import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
@@ -12,6 +14,13 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.LabelingMode;
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.ListConsistency;
+import io.jaredbrown.k8s.leader.elector.ElectorProperties.ReconcileSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,15 +29,27 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -55,12 +76,18 @@ class LockCallbacksTest {
     @Mock
     private FilterWatchListDeletable<Pod, PodList, PodResource> labeledPods;
     @Mock
-    private PodList podList;
+    private PartialObjectMetadataList podList;
+    @Mock
+    private Clock clock;
+    private Instant now = Instant.parse("2026-01-01T00:00:00Z");
     private LockCallbacks lockCallbacks;
 
     @BeforeEach
     void setUp() {
-        lockCallbacks = new LockCallbacks(electorProperties, kubernetesClient);
+        lockCallbacks = new LockCallbacks(electorProperties,
+                                          kubernetesClient,
+                                          clock,
+                                          new ElectorMetrics(new SimpleMeterRegistry()));
         ReflectionTestUtils.setField(lockCallbacks, "selfPodName", SELF_POD_NAME);
 
         lenient()
@@ -75,6 +102,15 @@ class LockCallbacksTest {
         lenient()
                 .when(kubernetesClient.getNamespace())
                 .thenReturn(NAMESPACE);
+        lenient()
+                .when(clock.instant())
+                .thenAnswer(invocation -> now);
+        lenient()
+                .when(electorProperties.getDriftCooldown())
+                .thenReturn(Duration.ofSeconds(1));
+        lenient()
+                .when(electorProperties.getDriftMaxCooldown())
+                .thenReturn(Duration.ofSeconds(60));
         lenient()
                 .when(kubernetesClient.pods())
                 .thenReturn(podsOperation);
@@ -111,19 +147,14 @@ class LockCallbacksTest {
     void onLockAcquired_shouldPatchPodsWithJsonMergePatch() {
         final PodResource leaderPodResource = mock(PodResource.class);
         final PodResource followerPodResource = mock(PodResource.class);
-        final Pod leaderPod = pod(SELF_POD_NAME);
-        final Pod followerPod = pod("pod-2");
 
-        when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
-        when(labeledPods.list(any(ListOptions.class))).thenReturn(podList);
-        when(podList.getItems()).thenReturn(List.of(leaderPod, followerPod));
         when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(leaderPodResource);
         when(namespacedPods.withName("pod-2")).thenReturn(followerPodResource);
 
-        lockCallbacks.onLockAcquired(() -> true);
+        lockCallbacks.onLockAcquired(() -> true, "pod-2");
 
-        verify(namespacedPods).withLabel("app", APP_NAME);
-        verify(labeledPods).list(any(ListOptions.class));
+        // Then: exactly two patches and no list - the full sweep is ElectorService's to queue.
+        verify(namespacedPods, never()).withLabel(any(String.class), any(String.class));
 
         final ArgumentCaptor<PatchContext> patchContextCaptor = ArgumentCaptor.forClass(PatchContext.class);
         final ArgumentCaptor<Pod> leaderPatchCaptor = ArgumentCaptor.forClass(Pod.class);
@@ -147,6 +178,40 @@ class LockCallbacksTest {
                 .get(LABEL_KEY));
     }
 
+    @Test
+    void onLockAcquired_shouldPatchOnlySelfWhenPreviousLeaderUnknownOrSelf() {
+        final PodResource leaderPodResource = mock(PodResource.class);
+        when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(leaderPodResource);
+
+        lockCallbacks.onLockAcquired(() -> true, null);
+        lockCallbacks.onLockAcquired(() -> true, SELF_POD_NAME);
+
+        verify(leaderPodResource, times(2)).patch(any(PatchContext.class), any(Pod.class));
+        verify(namespacedPods, times(2)).withName(any(String.class));
+    }
+
+    @Test
+    void onLockAcquired_shouldNotPatchWhenOwnershipNotConfirmed() {
+        lockCallbacks.onLockAcquired(() -> false, "pod-2");
+
+        verify(namespacedPods, never()).withName(any(String.class));
+    }
+
+    @Test
+    void onLockAcquired_shouldTolerateDeletedPreviousLeader() {
+        final PodResource leaderPodResource = mock(PodResource.class);
+        final PodResource goneResource = mock(PodResource.class);
+        when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(leaderPodResource);
+        when(namespacedPods.withName("pod-gone")).thenReturn(goneResource);
+        when(goneResource.patch(any(PatchContext.class), any(Pod.class))).thenThrow(new KubernetesClientException("not found",
+                                                                                                                 404,
+                                                                                                                 null));
+
+        assertDoesNotThrow(() -> lockCallbacks.onLockAcquired(() -> true, "pod-gone"));
+
+        verify(leaderPodResource).patch(any(PatchContext.class), any(Pod.class));
+    }
+
     @Test
     void reconcileLeaderLabels_shouldSkipPodsWhoseLabelAlreadyMatches() {
         // Given: both pods already carry the label value the election result implies.
@@ -154,8 +219,8 @@ class LockCallbacksTest {
         final Pod followerPod = podWithLabel("pod-2", "false");
 
         when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
-        when(labeledPods.list(any(ListOptions.class))).thenReturn(podList);
-        when(podList.getItems()).thenReturn(List.of(leaderPod, followerPod));
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(leaderPod, followerPod));
 
         lockCallbacks.reconcileLeaderLabels(() -> true);
 
@@ -171,8 +236,8 @@ class LockCallbacksTest {
         final Pod stalePeerPod = podWithLabel("pod-2", "true");
 
         when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
-        when(labeledPods.list(any(ListOptions.class))).thenReturn(podList);
-        when(podList.getItems()).thenReturn(List.of(leaderPod, stalePeerPod));
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(leaderPod, stalePeerPod));
         when(namespacedPods.withName("pod-2")).thenReturn(peerPodResource);
 
         lockCallbacks.reconcileLeaderLabels(() -> true);
@@ -188,8 +253,8 @@ class LockCallbacksTest {
         final Pod peerPod = podWithLabel("pod-2", "true");          // drifted: should be false
 
         when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
-        when(labeledPods.list(any(ListOptions.class))).thenReturn(podList);
-        when(podList.getItems()).thenReturn(List.of(leaderPod, peerPod));
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(leaderPod, peerPod));
 
         // When: the ownership recheck fails before the first mutation.
         lockCallbacks.reconcileLeaderLabels(() -> false);
@@ -207,8 +272,8 @@ class LockCallbacksTest {
         final Pod peerPod = podWithLabel("pod-2", "true");
 
         when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
-        when(labeledPods.list(any(ListOptions.class))).thenReturn(podList);
-        when(podList.getItems()).thenReturn(List.of(leaderPod, peerPod));
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(leaderPod, peerPod));
         when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(leaderPodResource);
         when(namespacedPods.withName("pod-2")).thenReturn(peerPodResource);
 
@@ -233,8 +298,8 @@ class LockCallbacksTest {
         final Pod peerPod = podWithLabel("pod-2", "true");
 
         when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
-        when(labeledPods.list(any(ListOptions.class))).thenReturn(podList);
-        when(podList.getItems()).thenReturn(List.of(leaderPod, peerPod));
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(leaderPod, peerPod));
         when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(leaderPodResource);
 
         final Iterator<Boolean> ownership = List.of(true, false).iterator();
@@ -247,6 +312,170 @@ class LockCallbacksTest {
         verify(namespacedPods, never()).withName("pod-2");
     }
 
+    @Test
+    void reconcileLeaderLabels_shouldPatchBatchesOffCallerThreadAndCheckOwnershipPerBatch() {
+        // Given: three drifted pods and a concurrency of two - one full batch, one partial.
+        final Thread caller = Thread.currentThread();
+        final Map<String, Thread> patchThreads = new ConcurrentHashMap<>();
+        final List<Pod> pods = List.of(podWithLabel(SELF_POD_NAME, "false"),
+                                       podWithLabel("pod-2", "true"),
+                                       podWithLabel("pod-3", "true"));
+
+        when(electorProperties.getReconcilePatchConcurrency()).thenReturn(2);
+        when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(pods.toArray(Pod[]::new)));
+        for (final Pod pod : pods) {
+            final String name = pod
+                    .getMetadata()
+                    .getName();
+            final PodResource resource = mock(PodResource.class);
+            when(resource.patch(any(PatchContext.class), any(Pod.class))).thenAnswer(invocation -> {
+                patchThreads.put(name, Thread.currentThread());
+                return null;
+            });
+            when(namespacedPods.withName(name)).thenReturn(resource);
+        }
+
+        final List<Thread> ownershipThreads = new CopyOnWriteArrayList<>();
+
+        lockCallbacks.reconcileLeaderLabels(() -> {
+            ownershipThreads.add(Thread.currentThread());
+            return true;
+        });
+
+        // Then: every pod was patched - the full batch on virtual threads, the single leftover inline
+        // - while ownership was confirmed once per batch and only ever on the calling thread.
+        assertEquals(3, patchThreads.size());
+        assertTrue(patchThreads
+                           .get(SELF_POD_NAME)
+                           .isVirtual());
+        assertTrue(patchThreads
+                           .get("pod-2")
+                           .isVirtual());
+        assertEquals(caller, patchThreads.get("pod-3"));
+        assertEquals(List.of(caller, caller), ownershipThreads);
+    }
+
+    @Test
+    void reconcileLeaderLabels_shouldCancelAndDrainBatchWhenInterrupted() throws Exception {
+        // Given: a batch of two patches that hang until interrupted.
+        final CountDownLatch started = new CountDownLatch(2);
+        final Set<String> interrupted = ConcurrentHashMap.newKeySet();
+        final Set<String> finished = ConcurrentHashMap.newKeySet();
+        when(electorProperties.getReconcilePatchConcurrency()).thenReturn(2);
+        when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(podWithLabel(SELF_POD_NAME, "false"), podWithLabel("pod-2", "true")));
+        for (final String name : List.of(SELF_POD_NAME, "pod-2")) {
+            final PodResource resource = mock(PodResource.class);
+            when(resource.patch(any(PatchContext.class), any(Pod.class))).thenAnswer(invocation -> {
+                started.countDown();
+                try {
+                    Thread.sleep(Duration.ofMinutes(1));
+                } catch (final InterruptedException e) {
+                    interrupted.add(name);
+                    // A request that takes a moment to abort, so the pass has to wait for it.
+                    Thread.sleep(Duration.ofMillis(50));
+                }
+                finished.add(name);
+                throw new KubernetesClientException("interrupted");
+            });
+            when(namespacedPods.withName(name)).thenReturn(resource);
+        }
+
+        final Set<String> finishedWhenPassReturned = ConcurrentHashMap.newKeySet();
+        final Thread pass = Thread.ofPlatform().start(() -> {
+            lockCallbacks.reconcileLeaderLabels(() -> true);
+            finishedWhenPassReturned.addAll(finished);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When: lock loss or shutdown interrupts the reconcile thread mid-batch.
+        pass.interrupt();
+        pass.join(Duration.ofSeconds(5));
+
+        // Then: the outstanding patches were cancelled, and the pass waited for them to finish.
+        assertFalse(pass.isAlive());
+        assertEquals(Set.of(SELF_POD_NAME, "pod-2"), interrupted);
+        assertEquals(Set.of(SELF_POD_NAME, "pod-2"), finishedWhenPassReturned);
+    }
+
+    @Test
+    void reconcileLeaderLabels_shouldNotStartNextBatchOnceOwnershipLost() {
+        // Given: four drifted pods in batches of two; ownership is lost before the second batch.
+        final PodResource leaderPodResource = mock(PodResource.class);
+        final PodResource peerPodResource = mock(PodResource.class);
+
+        when(electorProperties.getReconcilePatchConcurrency()).thenReturn(2);
+        when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(podWithLabel(SELF_POD_NAME, "false"),
+                                                    podWithLabel("pod-2", "true"),
+                                                    podWithLabel("pod-3", "true"),
+                                                    podWithLabel("pod-4", "true")));
+        when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(leaderPodResource);
+        when(namespacedPods.withName("pod-2")).thenReturn(peerPodResource);
+
+        final Iterator<Boolean> ownership = List.of(true, false).iterator();
+
+        lockCallbacks.reconcileLeaderLabels(ownership::next);
+
+        // Then: the first batch went out, the second was never even resolved.
+        verify(leaderPodResource).patch(any(PatchContext.class), any(Pod.class));
+        verify(peerPodResource).patch(any(PatchContext.class), any(Pod.class));
+        verify(namespacedPods, never()).withName("pod-3");
+        verify(namespacedPods, never()).withName("pod-4");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcileLeaderLabels_selectorSourceShouldListOnlyDriftedCandidates() {
+        // Given: the server-side queries for a drifted self and drifted peers; only a peer is wrong.
+        final FilterWatchListDeletable<Pod, PodList, PodResource> selfQuery = mock(FilterWatchListDeletable.class);
+        final FilterWatchListDeletable<Pod, PodList, PodResource> peersQuery = mock(FilterWatchListDeletable.class);
+        final PartialObjectMetadataList emptyList = mock(PartialObjectMetadataList.class);
+        final PodResource peerPodResource = mock(PodResource.class);
+
+        when(electorProperties.getReconcileSource()).thenReturn(ReconcileSource.SELECTOR);
+        when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
+        when(labeledPods.withField("metadata.name", SELF_POD_NAME)).thenReturn(selfQuery);
+        when(selfQuery.withLabelNotIn(LABEL_KEY, "true")).thenReturn(selfQuery);
+        when(selfQuery.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(emptyList);
+        when(emptyList.getItems()).thenReturn(List.of());
+        when(emptyList.getMetadata()).thenReturn(new ListMeta());
+        when(labeledPods.withoutField("metadata.name", SELF_POD_NAME)).thenReturn(peersQuery);
+        when(peersQuery.withLabelNotIn(LABEL_KEY, "false")).thenReturn(peersQuery);
+        when(peersQuery.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(pod("pod-2")));
+        when(namespacedPods.withName("pod-2")).thenReturn(peerPodResource);
+
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+
+        // Then: the drifted peer was patched, and the unfiltered selector was never listed.
+        verify(peerPodResource).patch(any(PatchContext.class), any(Pod.class));
+        verify(labeledPods, never()).listAsPartialObjectMetadata(any(ListOptions.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcileLeaderLabels_selectorSourceShouldSkipPeersOnceOwnershipLostOnSelf() {
+        final FilterWatchListDeletable<Pod, PodList, PodResource> selfQuery = mock(FilterWatchListDeletable.class);
+
+        when(electorProperties.getReconcileSource()).thenReturn(ReconcileSource.SELECTOR);
+        when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
+        when(labeledPods.withField("metadata.name", SELF_POD_NAME)).thenReturn(selfQuery);
+        when(selfQuery.withLabelNotIn(LABEL_KEY, "true")).thenReturn(selfQuery);
+        when(selfQuery.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(podWithLabel(SELF_POD_NAME, "false")));
+
+        lockCallbacks.reconcileLeaderLabels(() -> false);
+
+        // Then: the peer query was never even built.
+        verify(labeledPods, never()).withoutField(any(String.class), any(String.class));
+        verify(namespacedPods, never()).withName(any(String.class));
+    }
+
     @Test
     void reconcileLeaderLabels_shouldTreatNullLabelsMapAsNeedingUpdate() {
         // Given: a pod whose metadata carries no labels map at all (not merely missing the leader
@@ -258,8 +487,8 @@ class LockCallbacksTest {
                 .setLabels(null);
 
         when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
-        when(labeledPods.list(any(ListOptions.class))).thenReturn(podList);
-        when(podList.getItems()).thenReturn(List.of(podWithNoLabels));
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(podWithNoLabels));
         when(namespacedPods.withName("pod-2")).thenReturn(podResource);
 
         lockCallbacks.reconcileLeaderLabels(() -> true);
@@ -271,30 +500,83 @@ class LockCallbacksTest {
     @Test
     void reconcileLeaderLabels_shouldNotThrowWhenPodListQueryFails() {
         when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
-        when(labeledPods.list(any(ListOptions.class))).thenThrow(new KubernetesClientException("Failed to list pods"));
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenThrow(new KubernetesClientException("Failed to list pods"));
 
         // When/Then: a transient API failure must not cost leadership; the next renewal-tick
         // reconcile (ElectorService#refreshLock) retries automatically.
         assertDoesNotThrow(() -> lockCallbacks.reconcileLeaderLabels(() -> true));
     }
 
+    @Test
+    void reconcileLeaderLabels_cachedConsistencyShouldPinOnlyTheFirstPage() {
+        // Given: two pages, listed with CACHED consistency.
+        final PartialObjectMetadataList page1 = mock(PartialObjectMetadataList.class);
+        final PartialObjectMetadataList page2 = mock(PartialObjectMetadataList.class);
+        final ListMeta page1Meta = new ListMeta();
+        page1Meta.setContinue("page-2-token");
+        when(page1.getItems()).thenReturn(items(podWithLabel(SELF_POD_NAME, "true")));
+        when(page1.getMetadata()).thenReturn(page1Meta);
+        when(page2.getItems()).thenReturn(items(podWithLabel("pod-2", "false")));
+        when(page2.getMetadata()).thenReturn(new ListMeta());
+        when(electorProperties.getReconcileListConsistency()).thenReturn(ListConsistency.CACHED);
+        when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(page1, page2);
+
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+
+        // Then: the first page may come from the watch cache; the second carries only the token,
+        // since the API server rejects a resourceVersion alongside continue.
+        final ArgumentCaptor<ListOptions> optionsCaptor = ArgumentCaptor.forClass(ListOptions.class);
+        verify(labeledPods, times(2)).listAsPartialObjectMetadata(optionsCaptor.capture());
+        final ListOptions first = optionsCaptor
+                .getAllValues()
+                .get(0);
+        final ListOptions second = optionsCaptor
+                .getAllValues()
+                .get(1);
+        assertEquals("0", first.getResourceVersion());
+        assertEquals("NotOlderThan", first.getResourceVersionMatch());
+        assertEquals(500L, first.getLimit());
+        assertNull(second.getResourceVersion());
+        assertNull(second.getResourceVersionMatch());
+        assertEquals("page-2-token", second.getContinue());
+    }
+
+    @Test
+    void reconcileLeaderLabels_consistentConsistencyShouldSendNoResourceVersion() {
+        when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(podWithLabel(SELF_POD_NAME, "true")));
+
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+
+        final ArgumentCaptor<ListOptions> optionsCaptor = ArgumentCaptor.forClass(ListOptions.class);
+        verify(labeledPods).listAsPartialObjectMetadata(optionsCaptor.capture());
+        assertNull(optionsCaptor
+                           .getValue()
+                           .getResourceVersion());
+        assertNull(optionsCaptor
+                           .getValue()
+                           .getResourceVersionMatch());
+    }
+
     @Test
     void reconcileLeaderLabels_shouldFollowContinuationTokenAcrossPages() {
         // Given: the selector matches more pods than fit in one page (e.g. an inflated matching-pod
         // count), so the API server splits the response across two pages via a continuation token.
-        final PodList page1 = mock(PodList.class);
-        final PodList page2 = mock(PodList.class);
+        final PartialObjectMetadataList page1 = mock(PartialObjectMetadataList.class);
+        final PartialObjectMetadataList page2 = mock(PartialObjectMetadataList.class);
         final ListMeta page1Meta = new ListMeta();
         page1Meta.setContinue("page-2-token");
-        when(page1.getItems()).thenReturn(List.of(podWithLabel(SELF_POD_NAME, "true"), podWithLabel("pod-2", "true")));
+        when(page1.getItems()).thenReturn(items(podWithLabel(SELF_POD_NAME, "true"), podWithLabel("pod-2", "true")));
         when(page1.getMetadata()).thenReturn(page1Meta);
-        when(page2.getItems()).thenReturn(List.of(podWithLabel("pod-3", "true")));
+        when(page2.getItems()).thenReturn(items(podWithLabel("pod-3", "true")));
         when(page2.getMetadata()).thenReturn(new ListMeta());
 
         final PodResource pod2Resource = mock(PodResource.class);
         final PodResource pod3Resource = mock(PodResource.class);
         when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
-        when(labeledPods.list(any(ListOptions.class))).thenReturn(page1, page2);
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(page1, page2);
         when(namespacedPods.withName("pod-2")).thenReturn(pod2Resource);
         when(namespacedPods.withName("pod-3")).thenReturn(pod3Resource);
 
@@ -303,7 +585,7 @@ class LockCallbacksTest {
         // Then: a second page was fetched using the first page's continuation token, and pods from
         // both pages were reconciled (self already correct, pod-2 and pod-3 both drifted).
         final ArgumentCaptor<ListOptions> optionsCaptor = ArgumentCaptor.forClass(ListOptions.class);
-        verify(labeledPods, times(2)).list(optionsCaptor.capture());
+        verify(labeledPods, times(2)).listAsPartialObjectMetadata(optionsCaptor.capture());
         assertNull(optionsCaptor
                            .getAllValues()
                            .get(0)
@@ -322,14 +604,14 @@ class LockCallbacksTest {
         // Given: page 1 has no drifted pods (so the per-pod stillLeader check inside the patch loop
         // never fires), but the selector matches enough pods to span a second page. Ownership is lost
         // before that second page is fetched.
-        final PodList page1 = mock(PodList.class);
+        final PartialObjectMetadataList page1 = mock(PartialObjectMetadataList.class);
         final ListMeta page1Meta = new ListMeta();
         page1Meta.setContinue("page-2-token");
-        when(page1.getItems()).thenReturn(List.of(podWithLabel("pod-2", "false")));
+        when(page1.getItems()).thenReturn(items(podWithLabel("pod-2", "false")));
         when(page1.getMetadata()).thenReturn(page1Meta);
 
         when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
-        when(labeledPods.list(any(ListOptions.class))).thenReturn(page1);
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(page1);
 
         // When: the ownership recheck before fetching page 2 fails.
         lockCallbacks.reconcileLeaderLabels(() -> false);
@@ -337,10 +619,328 @@ class LockCallbacksTest {
         // Then: only the first page was fetched - pagination halted before a second page was ever
         // requested. (Page 1 had nothing to patch, so this isolates the between-page check rather
         // than the patch loop's own per-pod check.)
-        verify(labeledPods).list(any(ListOptions.class));
+        verify(labeledPods).listAsPartialObjectMetadata(any(ListOptions.class));
         verify(namespacedPods, never()).withName(any(String.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcileLeaderLabels_informerSource_shouldDiffAgainstCacheWithoutListing() {
+        // Given: a synced informer whose cache shows self correct and one stale peer.
+        final SharedIndexInformer<Pod> informer = startInformer();
+        final Store<Pod> store = mock(Store.class);
+        when(informer.hasSynced()).thenReturn(true);
+        when(informer.getStore()).thenReturn(store);
+        when(store.list()).thenReturn(List.of(podWithLabel(SELF_POD_NAME, "true"), podWithLabel("pod-2", "true")));
+        final PodResource peerPodResource = mock(PodResource.class);
+        when(namespacedPods.withName("pod-2")).thenReturn(peerPodResource);
+
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+
+        // Then: the drifted peer was patched straight from the cache - no LIST was issued.
+        verify(labeledPods, never()).listAsPartialObjectMetadata(any(ListOptions.class));
+        verify(peerPodResource).patch(any(PatchContext.class), any(Pod.class));
+    }
+
+    @Test
+    void reconcileLeaderLabels_informerSource_shouldListUntilInformerHasSynced() {
+        // Given: the informer is started but its initial list has not completed yet.
+        final SharedIndexInformer<Pod> informer = startInformer();
+        when(informer.hasSynced()).thenReturn(false);
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(podWithLabel(SELF_POD_NAME, "true")));
+
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+
+        // Then: an empty cache must not be mistaken for "no pods", so the pass lists instead.
+        verify(labeledPods).listAsPartialObjectMetadata(any(ListOptions.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void watchPods_shouldRequestReconcileOnlyForDriftedPods() {
+        final AtomicInteger requests = new AtomicInteger();
+        final SharedIndexInformer<Pod> informer = informerFor(requests::incrementAndGet);
+        final ArgumentCaptor<ResourceEventHandler<Pod>> handlerCaptor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(informer).addEventHandler(handlerCaptor.capture());
+        final ResourceEventHandler<Pod> handler = handlerCaptor.getValue();
+
+        // Correctly labeled pods (including this pod's own leader label) are ignored ...
+        handler.onAdd(podWithLabel("pod-2", "false"));
+        handler.onUpdate(podWithLabel(SELF_POD_NAME, "false"), podWithLabel(SELF_POD_NAME, "true"));
+        handler.onDelete(podWithLabel("pod-3", "true"), false);
+        assertEquals(0, requests.get());
+
+        // ... while a pod someone relabeled, or a new unlabeled pod, requests a pass.
+        handler.onUpdate(podWithLabel("pod-2", "false"), podWithLabel("pod-2", "true"));
+        handler.onAdd(pod("pod-4"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void admitDriftCorrection_shouldBackOffExponentiallyWhilePodKeepsBeingOverwritten() {
+        // First drift: always corrected immediately, no cooldown.
+        assertTrue(lockCallbacks.admitDriftCorrection("pod-2"));
+        lockCallbacks.correctionObserved("pod-2");
+        assertTrue(lockCallbacks.admitDriftCorrection("pod-2"));
+
+        // That was fight #1, so a 1s quiet period follows ...
+        now = now.plusMillis(500);
+        lockCallbacks.correctionObserved("pod-2");
+        assertFalse(lockCallbacks.admitDriftCorrection("pod-2"));
+
+        // ... then fight #2 is admitted and doubles it to 2s.
+        now = now.plusMillis(600);
+        assertTrue(lockCallbacks.admitDriftCorrection("pod-2"));
+        now = now.plusMillis(1900);
+        lockCallbacks.correctionObserved("pod-2");
+        assertFalse(lockCallbacks.admitDriftCorrection("pod-2"));
+        now = now.plusMillis(200);
+        assertTrue(lockCallbacks.admitDriftCorrection("pod-2"));
+
+        // Other pods are damped independently.
+        assertTrue(lockCallbacks.admitDriftCorrection("pod-3"));
+    }
+
+    @Test
+    void admitDriftCorrection_shouldCapCooldownAndForgetQuietPods() {
+        // Given: a fight escalated to the 60s cap, each repeat landing just after the quiet period.
+        escalateDriftFight("pod-2");
+
+        // Then: once left alone for driftMaxCooldown past its quiet period, the pod starts over ...
+        now = now.plusSeconds(120);
+        assertTrue(lockCallbacks.admitDriftCorrection("pod-2"));
+        lockCallbacks.correctionObserved("pod-2");
+        assertTrue(lockCallbacks.admitDriftCorrection("pod-2"));
+        lockCallbacks.correctionObserved("pod-2");
+        assertFalse(lockCallbacks.admitDriftCorrection("pod-2"));
+
+        // ... and its history is dropped at that point rather than kept for the life of the process.
+        now = now.plusSeconds(61);
+        assertTrue(lockCallbacks.admitDriftCorrection("pod-3"));
+        final Map<?, ?> driftFights = (Map<?, ?>) ReflectionTestUtils.getField(lockCallbacks, "driftFights");
+        assertEquals(Set.of("pod-3"), driftFights.keySet());
+    }
+
+    @Test
+    void admitDriftCorrection_shouldStayEscalatedWhenOverwrittenRightAfterMaxCooldown() {
+        // Given: a writer that has pushed the cooldown to the 60s cap ...
+        escalateDriftFight("pod-2");
+
+        // ... and overwrites the label again right after each quiet period.
+        now = now.plusSeconds(60).plusMillis(1);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(lockCallbacks.admitDriftCorrection("pod-2"));
+            lockCallbacks.correctionObserved("pod-2");
+
+            // Then: each fight is damped for the full cap again, not reset to an immediate correction.
+            now = now.plusSeconds(59);
+            assertFalse(lockCallbacks.admitDriftCorrection("pod-2"));
+            now = now.plusSeconds(1).plusMillis(1);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void watchPods_shouldNotCountUnrelatedUpdatesToAStillDriftedPodAsFights() {
+        final AtomicInteger requests = new AtomicInteger();
+        final SharedIndexInformer<Pod> informer = informerFor(requests::incrementAndGet);
+        final ArgumentCaptor<ResourceEventHandler<Pod>> handlerCaptor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(informer).addEventHandler(handlerCaptor.capture());
+        final ResourceEventHandler<Pod> handler = handlerCaptor.getValue();
+
+        // When: pod-2 drifts once, then gets status updates before the queued correction lands.
+        handler.onUpdate(podWithLabel("pod-2", "false"), podWithLabel("pod-2", "true"));
+        for (int i = 0; i < 5; i++) {
+            now = now.plusMillis(10);
+            handler.onUpdate(podWithLabel("pod-2", "true"), podWithLabel("pod-2", "true"));
+        }
+
+        // Then: no cooldown opened - every event still asks for the (coalesced) pass.
+        assertEquals(6, requests.get());
+
+        // And: once the correction is seen, a real re-drift is the first fight, admitted with a 1s cooldown.
+        handler.onUpdate(podWithLabel("pod-2", "true"), podWithLabel("pod-2", "false"));
+        handler.onUpdate(podWithLabel("pod-2", "false"), podWithLabel("pod-2", "true"));
+        assertEquals(7, requests.get());
+        handler.onUpdate(podWithLabel("pod-2", "true"), podWithLabel("pod-2", "true"));
+        assertEquals(7, requests.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void watchPods_shouldDampRepeatedDriftOfSamePod() {
+        final AtomicInteger requests = new AtomicInteger();
+        final SharedIndexInformer<Pod> informer = informerFor(requests::incrementAndGet);
+        final ArgumentCaptor<ResourceEventHandler<Pod>> handlerCaptor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(informer).addEventHandler(handlerCaptor.capture());
+        final ResourceEventHandler<Pod> handler = handlerCaptor.getValue();
+
+        // When: another writer flips pod-2 back to true over and over within milliseconds, each
+        // time right after the correction lands.
+        for (int i = 0; i < 10; i++) {
+            handler.onUpdate(podWithLabel("pod-2", "true"), podWithLabel("pod-2", "false"));
+            handler.onUpdate(podWithLabel("pod-2", "false"), podWithLabel("pod-2", "true"));
+            now = now.plusMillis(10);
+        }
+
+        // Then: two immediate corrections, then the fight is left to the periodic pass.
+        assertEquals(2, requests.get());
+
+        // And: a deleted pod's history goes with it.
+        handler.onDelete(podWithLabel("pod-2", "true"), false);
+        handler.onAdd(podWithLabel("pod-2", "true"));
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void watchPods_shouldStartInformerForListSourceWhenDriftWatchEnabled() {
+        final SharedIndexInformer<Pod> informer = mock(SharedIndexInformer.class);
+        when(electorProperties.getReconcileSource()).thenReturn(ReconcileSource.LIST);
+        when(electorProperties.isDriftWatchEnabled()).thenReturn(true);
+        when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
+        when(labeledPods.runnableInformer(0)).thenReturn(informer);
+        when(informer.start()).thenReturn(CompletableFuture.completedFuture(null));
+        lenient()
+                .when(informer.hasSynced())
+                .thenReturn(true);
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(podWithLabel(SELF_POD_NAME, "true")));
+
+        lockCallbacks.watchPods(() -> {
+        });
+        lockCallbacks.reconcileLeaderLabels(() -> true);
+
+        // Then: the watch runs, but passes still list - the cache is only read with INFORMER.
+        verify(informer).start();
+        verify(labeledPods).listAsPartialObjectMetadata(any(ListOptions.class));
+        verify(informer, never()).getStore();
+    }
+
+    @Test
+    void watchPods_shouldNotStartInformerForListSource() {
+        when(electorProperties.getReconcileSource()).thenReturn(ReconcileSource.LIST);
+
+        lockCallbacks.watchPods(() -> {
+        });
+
+        verify(namespacedPods, never()).withLabel(any(String.class), any(String.class));
+    }
+
+    @Test
+    void watchPods_shouldNotStartSecondInformerWhileOneIsRunning() {
+        startInformer();
+
+        lockCallbacks.watchPods(() -> {
+        });
+
+        verify(labeledPods, times(1)).runnableInformer(0);
+    }
+
+    @Test
+    void watchPods_shouldNotStartInformerInSelfLabelingMode() {
+        lenient()
+                .when(electorProperties.getReconcileSource())
+                .thenReturn(ReconcileSource.INFORMER);
+        when(electorProperties.getLabelingMode()).thenReturn(LabelingMode.SELF);
+
+        lockCallbacks.watchPods(() -> {
+        });
+
+        verify(namespacedPods, never()).withLabel(any(String.class), any(String.class));
+    }
+
+    @Test
+    void reconcileLeaderLabels_selfLabelingMode_shouldPatchOnlySelfWithoutListing() {
+        final PodResource selfPodResource = mock(PodResource.class);
+        when(electorProperties.getLabelingMode()).thenReturn(LabelingMode.SELF);
+        when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(selfPodResource);
+        when(selfPodResource.get()).thenReturn(podWithLabel(SELF_POD_NAME, "false"));
+        final AtomicInteger ownershipChecks = new AtomicInteger();
+
+        lockCallbacks.reconcileLeaderLabels(() -> {
+            ownershipChecks.incrementAndGet();
+            return true;
+        });
+
+        // Then: one GET and one patch of this pod; peers are left to label themselves.
+        final ArgumentCaptor<Pod> patchCaptor = ArgumentCaptor.forClass(Pod.class);
+        verify(selfPodResource).patch(any(PatchContext.class), patchCaptor.capture());
+        assertEquals("true", patchCaptor
+                .getValue()
+                .getMetadata()
+                .getLabels()
+                .get(LABEL_KEY));
+        assertEquals(1, ownershipChecks.get());
+        verify(namespacedPods, never()).withLabel(any(String.class), any(String.class));
+    }
+
+    @Test
+    void reconcileLeaderLabels_selfLabelingMode_shouldSkipOwnershipCheckWhenConverged() {
+        final PodResource selfPodResource = mock(PodResource.class);
+        when(electorProperties.getLabelingMode()).thenReturn(LabelingMode.SELF);
+        when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(selfPodResource);
+        when(selfPodResource.get()).thenReturn(podWithLabel(SELF_POD_NAME, "true"));
+
+        lockCallbacks.reconcileLeaderLabels(() -> {
+            throw new AssertionError("no patch, so no ownership check");
+        });
+
+        verify(selfPodResource, never()).patch(any(PatchContext.class), any(Pod.class));
+    }
+
+    @Test
+    void reconcileLeaderLabels_selfLabelingMode_shouldNotPatchOnceLeadershipLost() {
+        final PodResource selfPodResource = mock(PodResource.class);
+        when(electorProperties.getLabelingMode()).thenReturn(LabelingMode.SELF);
+        when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(selfPodResource);
+        when(selfPodResource.get()).thenReturn(podWithLabel(SELF_POD_NAME, "false"));
+
+        lockCallbacks.reconcileLeaderLabels(() -> false);
+
+        verify(selfPodResource, never()).patch(any(PatchContext.class), any(Pod.class));
+    }
+
+    @Test
+    void reconcileFollowerLabel_shouldCorrectOwnLabelToFalse() {
+        final PodResource selfPodResource = mock(PodResource.class);
+        when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(selfPodResource);
+        when(selfPodResource.get()).thenReturn(podWithLabel(SELF_POD_NAME, "true"));
+
+        lockCallbacks.reconcileFollowerLabel();
+
+        final ArgumentCaptor<Pod> patchCaptor = ArgumentCaptor.forClass(Pod.class);
+        verify(selfPodResource).patch(any(PatchContext.class), patchCaptor.capture());
+        assertEquals("false", patchCaptor
+                .getValue()
+                .getMetadata()
+                .getLabels()
+                .get(LABEL_KEY));
+    }
+
+    @Test
+    void reconcileFollowerLabel_shouldNotThrowWhenReadFails() {
+        final PodResource selfPodResource = mock(PodResource.class);
+        when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(selfPodResource);
+        when(selfPodResource.get()).thenThrow(new KubernetesClientException("API server unavailable"));
+
+        assertDoesNotThrow(() -> lockCallbacks.reconcileFollowerLabel());
+        verify(selfPodResource, never()).patch(any(PatchContext.class), any(Pod.class));
+    }
+
+    @Test
+    void onLockLost_shouldStopInformer() {
+        final SharedIndexInformer<Pod> informer = startInformer();
+        when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(mock(PodResource.class));
+
+        lockCallbacks.onLockLost();
+
+        // Then: a follower keeps no watch open, and the next leadership starts a fresh one.
+        verify(informer).stop();
+        lockCallbacks.stopWatchingPods();
+        verify(informer, times(1)).stop();
+    }
+
     @Test
     void onLockLost_shouldInvokeKubernetesClient() {
         final PodResource podResource = mock(PodResource.class);
@@ -356,8 +956,8 @@ class LockCallbacksTest {
     void reconcileLeaderLabels_shouldNotThrowWhenLeaderPodLabelUpdateFails() {
         final PodResource leaderPodResource = mock(PodResource.class);
         when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
-        when(labeledPods.list(any(ListOptions.class))).thenReturn(podList);
-        when(podList.getItems()).thenReturn(List.of(pod(SELF_POD_NAME)));
+        when(labeledPods.listAsPartialObjectMetadata(any(ListOptions.class))).thenReturn(podList);
+        when(podList.getItems()).thenReturn(items(pod(SELF_POD_NAME)));
         when(namespacedPods.withName(SELF_POD_NAME)).thenReturn(leaderPodResource);
         when(leaderPodResource.patch(any(PatchContext.class), any(Pod.class)))
                 .thenThrow(new KubernetesClientException("immutable spec update"));
@@ -421,6 +1021,42 @@ class LockCallbacksTest {
         assertDoesNotThrow(() -> lockCallbacks.onShutdown());
     }
 
+    /**
+     * Drives {@code podName} through repeat fights, each drift landing just after the previous
+     * quiet period, until the last admitted one opened the 60s {@code driftMaxCooldown}.
+     */
+    private void escalateDriftFight(final String podName) {
+        final Duration maxCooldown = Duration.ofSeconds(60);
+        assertTrue(lockCallbacks.admitDriftCorrection(podName));
+        lockCallbacks.correctionObserved(podName);
+        Duration cooldown = Duration.ZERO;
+        while (cooldown.compareTo(maxCooldown) < 0) {
+            now = now.plus(cooldown).plusMillis(1);
+            assertTrue(lockCallbacks.admitDriftCorrection(podName));
+            lockCallbacks.correctionObserved(podName);
+            cooldown = cooldown.isZero() ? Duration.ofSeconds(1) : cooldown.multipliedBy(2);
+            cooldown = cooldown.compareTo(maxCooldown) < 0 ? cooldown : maxCooldown;
+        }
+    }
+
+    private SharedIndexInformer<Pod> startInformer() {
+        return informerFor(() -> {
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private SharedIndexInformer<Pod> informerFor(final Runnable onDrift) {
+        final SharedIndexInformer<Pod> informer = mock(SharedIndexInformer.class);
+        when(electorProperties.getReconcileSource()).thenReturn(ReconcileSource.INFORMER);
+        when(namespacedPods.withLabel("app", APP_NAME)).thenReturn(labeledPods);
+        when(labeledPods.runnableInformer(0)).thenReturn(informer);
+        lenient()
+                .when(informer.start())
+                .thenReturn(CompletableFuture.completedFuture(null));
+        lockCallbacks.watchPods(onDrift);
+        return informer;
+    }
+
     private static Pod pod(final String name) {
         return new PodBuilder()
                 .withNewMetadata()
@@ -429,6 +1065,18 @@ class LockCallbacksTest {
                 .build();
     }
 
+    /** @return {@code pods} as the metadata-only items a reconcile list returns */
+    private static List<PartialObjectMetadata> items(final Pod... pods) {
+        return Arrays
+                .stream(pods)
+                .map(pod -> {
+                    final PartialObjectMetadata item = new PartialObjectMetadata();
+                    item.setMetadata(pod.getMetadata());
+                    return item;
+                })
+                .toList();
+    }
+
     private static Pod podWithLabel(final String name, final String labelValue) {
         return new PodBuilder()
                 .withNewMetadata()
@@ -0,0 +1,323 @@
+package io.jaredbrown.k8s.leader.elector;
+
+import com.sun.management.ThreadMXBean;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.integration.redis.util.RedisLockRegistry;
+import org.springframework.integration.support.locks.DistributedLock;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * Times a full leader-label reconcile against a fabric8 mock API server at several pod counts,
+ * once per {@code reconcilePatchConcurrency} setting, and prints a table. Every pod starts out
+ * drifted (labeled {@code true}), so each pass patches all of them - the worst case after a
+ * failover. Opt-in, since the large cases take a while:
+ *
+ * <pre>{@code ./mvnw verify -Dbenchmark=true -Dit.test=ReconcileBenchmarkIT}</pre>
+ *
+ * <p>{@link #redisCallsPerReconcile} counts the Redis round trips ownership re-confirmation costs
+ * per pass, and {@link #listPagePayload} reports what one reconcile page costs to transfer and
+ * deserialize as full pods versus the metadata-only list reconcile actually requests.
+ *
+ * <p>The mock server answers in microseconds, so these numbers understate what batching buys
+ * against a real API server, where each patch costs a network round trip; they mainly show that
+ * batching adds no overhead and that ownership checks scale with batches rather than pods.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@EnableKubernetesMockClient(crud = true, https = false)
+class ReconcileBenchmarkIT {
+
+    private static final String LABEL_KEY = "dns.jb.io/leader";
+    private static final String SELECTOR_KEY = "app";
+    private static final String SELECTOR_VALUE = "reconcile-benchmark";
+    private static final List<Integer> CONCURRENCIES = List.of(1, 8, 32);
+    private static final int SEED_THREADS = 16;
+    // LockCallbacks.RECONCILE_LIST_PAGE_SIZE
+    private static final int PAGE_SIZE = 500;
+
+    // Injected by the mock-client extension; fresh per test method.
+    private KubernetesClient client;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 500, 5000})
+    void reconcileAllDrifted(final int podCount) throws Exception {
+        System.out.printf("%n%6s pods | %11s | %10s | %16s%n", podCount, "concurrency", "millis", "ownership checks");
+        for (final int concurrency : CONCURRENCIES) {
+            seedDriftedPods(podCount);
+
+            final ElectorProperties electorProperties = electorProperties(concurrency);
+            final LockCallbacks lockCallbacks = new LockCallbacks(electorProperties,
+                                                                  client,
+                                                                  Clock.systemUTC(),
+                                                                  new ElectorMetrics(new SimpleMeterRegistry()));
+            ReflectionTestUtils.setField(lockCallbacks, "selfPodName", podName(0));
+
+            final int[] ownershipChecks = {0};
+            final long start = System.nanoTime();
+            lockCallbacks.reconcileLeaderLabels(() -> {
+                ownershipChecks[0]++;
+                return true;
+            });
+            final long millis = (System.nanoTime() - start) / 1_000_000;
+            lockCallbacks.shutdown();
+
+            System.out.printf("%11s | %11d | %10d | %16d%n", "", concurrency, millis, ownershipChecks[0]);
+            assertThat(ownershipChecks[0]).isEqualTo(Math.ceilDiv(podCount, concurrency));
+            assertThat(client
+                               .pods()
+                               .withLabel(LABEL_KEY, "true")
+                               .list()
+                               .getItems()).hasSize(1);
+        }
+    }
+
+    /**
+     * Counts Redis round trips {@link ElectorService#stillOwnsLock} makes during one fully drifted
+     * reconcile, with the default {@code ownershipSafetyMargin} (ownership trusted locally within
+     * the lease) and with the margin set to the whole lease (every check renews, as before the
+     * cache existed). Redis is a mock registry; only the number of {@code renewLock} calls matters.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {10, 500, 5000})
+    @SuppressWarnings("unchecked")
+    void redisCallsPerReconcile(final int podCount) throws Exception {
+        System.out.printf("%n%6s pods | %18s | %10s%n", podCount, "ownership cache", "renewLock");
+        for (final boolean cached : List.of(false, true)) {
+            seedDriftedPods(podCount);
+
+            final ElectorProperties electorProperties = electorProperties(1);
+            if (!cached) {
+                electorProperties.setOwnershipSafetyMargin(electorProperties.getLeaseDuration());
+            }
+            final LockCallbacks lockCallbacks = new LockCallbacks(electorProperties,
+                                                                  client,
+                                                                  Clock.systemUTC(),
+                                                                  new ElectorMetrics(new SimpleMeterRegistry()));
+            ReflectionTestUtils.setField(lockCallbacks, "selfPodName", podName(0));
+            final RedisLockRegistry lockRegistry = mock(RedisLockRegistry.class);
+            final ElectorService electorService = new ElectorService(lockCallbacks,
+                                                                     electorProperties,
+                                                                     lockRegistry,
+                                                                     mock(ThreadPoolTaskScheduler.class),
+                                                                     mock(ThreadPoolTaskExecutor.class),
+                                                                     mock(HealthProbe.class),
+                                                                     Clock.systemUTC(),
+                                                                     mock(LeaderRecord.class),
+                                                                     mock(CandidateScores.class),
+                                                                     new ElectorMetrics(new SimpleMeterRegistry()),
+                                                                     new LeadershipStatus());
+            // Leading, as after becomeLeader.
+            ((AtomicBoolean) ReflectionTestUtils.getField(electorService, "running")).set(true);
+            ((AtomicReference<DistributedLock>) ReflectionTestUtils.getField(electorService, "lock")).set(mock(
+                    DistributedLock.class));
+
+            lockCallbacks.reconcileLeaderLabels(electorService::stillOwnsLock);
+            lockCallbacks.shutdown();
+
+            final long renewals = mockingDetails(lockRegistry)
+                    .getInvocations()
+                    .size();
+            System.out.printf("%11s | %18s | %10d%n", "", cached ? "on" : "off", renewals);
+            // Uncached: at least one per patch (plus one per further page, where the server pages).
+            if (cached) {
+                assertThat(renewals).isEqualTo(1);
+            } else {
+                assertThat(renewals).isGreaterThanOrEqualTo(podCount);
+            }
+        }
+    }
+
+    /**
+     * Compares one {@value #PAGE_SIZE}-pod reconcile page as the API server sends it for a plain
+     * list ({@code PodList}) and for a metadata-only list ({@code PartialObjectMetadataList}): bytes
+     * on the wire, and bytes allocated deserializing it. Measured on serialized payloads rather than
+     * through the mock server, which ignores the metadata-only {@code Accept} header and would
+     * return full pods either way. The pods are deliberately heavy - several containers with env
+     * vars, statuses and managedFields - since that is where the difference shows.
+     */
+    @Test
+    void listPagePayload() {
+        final KubernetesSerialization serialization = client.getKubernetesSerialization();
+        final List<Pod> pods = IntStream
+                .range(0, PAGE_SIZE)
+                .mapToObj(ReconcileBenchmarkIT::heavyPod)
+                .toList();
+        final String fullPage = serialization.asJson(new PodListBuilder()
+                                                             .withItems(pods)
+                                                             .build());
+        final PartialObjectMetadataList metadataList = new PartialObjectMetadataList();
+        metadataList.setItems(pods
+                                      .stream()
+                                      .map(pod -> {
+                                          final PartialObjectMetadata item = new PartialObjectMetadata();
+                                          item.setMetadata(pod.getMetadata());
+                                          return item;
+                                      })
+                                      .toList());
+        final String metadataPage = serialization.asJson(metadataList);
+
+        final long fullAllocated = allocatedDeserializing(serialization, fullPage, PodList.class);
+        final long metadataAllocated = allocatedDeserializing(serialization,
+                                                              metadataPage,
+                                                              PartialObjectMetadataList.class);
+
+        System.out.printf("%n%-26s | %12s | %15s%n", PAGE_SIZE + "-pod page", "wire bytes", "bytes allocated");
+        System.out.printf("%-26s | %12d | %15d%n", "PodList", fullPage.length(), fullAllocated);
+        System.out.printf("%-26s | %12d | %15d%n", "PartialObjectMetadataList", metadataPage.length(), metadataAllocated);
+        assertThat(metadataPage.length()).isLessThan(fullPage.length());
+        assertThat(metadataAllocated).isLessThan(fullAllocated);
+    }
+
+    private static ElectorProperties electorProperties(final int patchConcurrency) {
+        final ElectorProperties electorProperties = new ElectorProperties();
+        electorProperties.setLabelKey(LABEL_KEY);
+        electorProperties.setLockName("reconcile-benchmark");
+        electorProperties.setSelectorLabelKey(SELECTOR_KEY);
+        electorProperties.setSelectorLabelValue(SELECTOR_VALUE);
+        electorProperties.setReconcilePatchConcurrency(patchConcurrency);
+        return electorProperties;
+    }
+
+    /** @return bytes this thread allocated deserializing {@code json}, median of several runs after warm-up */
+    private static long allocatedDeserializing(final KubernetesSerialization serialization,
+                                               final String json,
+                                               final Class<?> type) {
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread
+                .currentThread()
+                .threadId();
+        for (int i = 0; i < 5; i++) {
+            serialization.unmarshal(json, type);
+        }
+        final long[] samples = new long[9];
+        for (int i = 0; i < samples.length; i++) {
+            final long before = threads.getThreadAllocatedBytes(threadId);
+            serialization.unmarshal(json, type);
+            samples[i] = threads.getThreadAllocatedBytes(threadId) - before;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private static Pod heavyPod(final int index) {
+        final PodBuilder pod = new PodBuilder()
+                .withNewMetadata()
+                .withName(podName(index))
+                .withNamespace("test")
+                .withUid(UUID
+                                 .nameUUIDFromBytes(podName(index).getBytes())
+                                 .toString())
+                .withResourceVersion(Integer.toString(1000 + index))
+                .addToLabels(SELECTOR_KEY, SELECTOR_VALUE)
+                .addToLabels(LABEL_KEY, "false")
+                .addToAnnotations("kubectl.kubernetes.io/restartedAt", "2026-01-01T00:00:00Z")
+                .addNewManagedField()
+                .withManager("kube-controller-manager")
+                .withOperation("Update")
+                .withApiVersion("v1")
+                .withTime("2026-01-01T00:00:00Z")
+                .endManagedField()
+                .endMetadata()
+                .withNewSpec()
+                .withServiceAccountName("app")
+                .endSpec()
+                .withNewStatus()
+                .withPhase("Running")
+                .withPodIP("10.0.0." + (index % 250))
+                .endStatus();
+        for (int c = 0; c < 6; c++) {
+            final String name = "container-" + c;
+            pod
+                    .editSpec()
+                    .addNewContainer()
+                    .withName(name)
+                    .withImage("registry.example.com/team/" + name + ":1.2.3")
+                    .withArgs("--config=/etc/app/config.yaml", "--log-level=info")
+                    .withEnv(IntStream
+                                     .range(0, 25)
+                                     .mapToObj(e -> new EnvVar("ENV_VARIABLE_" + e, "value-" + e + "-for-" + name, null))
+                                     .toList())
+                    .withNewResources()
+                    .addToRequests("cpu", new Quantity("100m"))
+                    .addToRequests("memory", new Quantity("128Mi"))
+                    .addToLimits("memory", new Quantity("256Mi"))
+                    .endResources()
+                    .endContainer()
+                    .endSpec()
+                    .editStatus()
+                    .addNewContainerStatus()
+                    .withName(name)
+                    .withReady(true)
+                    .withRestartCount(0)
+                    .withImage("registry.example.com/team/" + name + ":1.2.3")
+                    .withImageID("registry.example.com/team/" + name + "@sha256:" + "0".repeat(64))
+                    .withContainerID("containerd://" + "f".repeat(64))
+                    .endContainerStatus()
+                    .endStatus();
+        }
+        return pod.build();
+    }
+
+    /** Replaces every pod with a drifted copy, so the pass under measurement patches all of them. */
+    private void seedDriftedPods(final int podCount) throws Exception {
+        client
+                .pods()
+                .withLabel(SELECTOR_KEY, SELECTOR_VALUE)
+                .delete();
+        // Bounded: the mock server times out requests when thousands arrive at once.
+        try (final ExecutorService seeders = Executors.newFixedThreadPool(SEED_THREADS)) {
+            final List<Future<Pod>> created = IntStream
+                    .range(0, podCount)
+                    .mapToObj(i -> seeders.submit(() -> client
+                            .pods()
+                            .resource(new PodBuilder()
+                                              .withNewMetadata()
+                                              .withName(podName(i))
+                                              .addToLabels(SELECTOR_KEY, SELECTOR_VALUE)
+                                              .addToLabels(LABEL_KEY, i == 0 ? "false" : "true")
+                                              .endMetadata()
+                                              .build())
+                            .create()))
+                    .toList();
+            for (final Future<Pod> pod : created) {
+                pod.get();
+            }
+        }
+    }
+
+    private static String podName(final int index) {
+        return "pod-%05d".formatted(index);
+    }
+}
@@ -0,0 +1,121 @@
+package io.jaredbrown.k8s.leader.status;
+
+import io.jaredbrown.k8s.leader.elector.LeadershipStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class LeadershipStatusControllerTest {
+
+    private static final LeadershipStatus.Snapshot FOLLOWER =
+            new LeadershipStatus.Snapshot(LeadershipStatus.State.FOLLOWER, 0, null);
+    private static final LeadershipStatus.Snapshot LEADER =
+            new LeadershipStatus.Snapshot(LeadershipStatus.State.LEADER, 1, Instant.parse("2026-01-01T00:02:00Z"));
+
+    @Mock
+    private LeadershipStatus leadershipStatus;
+
+    private final Sinks.Many<LeadershipStatus.Snapshot> updates = Sinks
+            .many()
+            .replay()
+            .latest();
+
+    private LeadershipStatusController controller;
+
+    @BeforeEach
+    void setUp() {
+        updates.tryEmitNext(FOLLOWER);
+        lenient()
+                .when(leadershipStatus.updates())
+                .thenReturn(updates.asFlux());
+        // Only ever asked for while the state is still the initial one.
+        lenient()
+                .when(leadershipStatus.current())
+                .thenReturn(FOLLOWER);
+        controller = new LeadershipStatusController(leadershipStatus);
+    }
+
+    @Test
+    void leadership_shouldAnswerAtOnceWithoutAnEpoch() {
+        WebTestClient
+                .bindToController(controller)
+                .build()
+                .get()
+                .uri("/leadership")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.state")
+                .isEqualTo("FOLLOWER")
+                .jsonPath("$.epoch")
+                .isEqualTo(0)
+                .jsonPath("$.leaseExpiresAt")
+                .isEmpty();
+    }
+
+    @Test
+    void leadership_shouldHoldALongPollUntilTheEpochMoves() throws Exception {
+        final CompletableFuture<LeadershipStatus.Snapshot> answer = controller
+                .leadership(0L, 30)
+                .toFuture();
+        Thread.sleep(100);
+        assertFalse(answer.isDone());
+
+        updates.tryEmitNext(LEADER);
+
+        assertEquals(LEADER, answer.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void leadership_shouldAnswerAStaleEpochAtOnce() {
+        assertEquals(FOLLOWER, controller
+                .leadership(7L, 30)
+                .block(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void leadership_shouldAnswerWithTheUnchangedStateWhenTheWaitRunsOut() {
+        assertEquals(FOLLOWER, controller
+                .leadership(0L, 1)
+                .block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void stream_shouldSendTheCurrentStateThenEveryChange() throws Exception {
+        final CompletableFuture<List<ServerSentEvent<LeadershipStatus.Snapshot>>> events = controller
+                .stream()
+                .take(2)
+                .collectList()
+                .toFuture();
+
+        updates.tryEmitNext(LEADER);
+
+        final List<ServerSentEvent<LeadershipStatus.Snapshot>> received = events.get(1, TimeUnit.SECONDS);
+        assertEquals("FOLLOWER", received
+                .getFirst()
+                .event());
+        assertEquals("0", received
+                .getFirst()
+                .id());
+        assertEquals(LEADER, received
+                .get(1)
+                .data());
+    }
+}